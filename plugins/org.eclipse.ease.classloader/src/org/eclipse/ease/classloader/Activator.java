@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.classloader;
+
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+
+/**
+ * Clears missing classes of all {@link EaseClassLoader} instances when the set of available bundles changes.
+ */
+public class Activator implements BundleActivator, BundleListener {
+
+	@Override
+	public void start(BundleContext context) throws Exception {
+		context.addBundleListener(this);
+	}
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		context.removeBundleListener(this);
+	}
+
+	@Override
+	public void bundleChanged(BundleEvent event) {
+		switch (event.getType()) {
+		case BundleEvent.INSTALLED:
+		case BundleEvent.RESOLVED:
+		case BundleEvent.UNINSTALLED:
+			EaseClassLoader.clearAllMissingClasses();
+			break;
+
+		default:
+			// nothing to do
+		}
+	}
+}
@@ -18,30 +18,109 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.jobs.Job;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.wiring.BundleWiring;
 
 /**
- * A classloader using 'Eclipse-BuddyPolicy: global' as class loading strategy. It further allows to register additional jar files to be looked up.
+ * A classloader using 'Eclipse-BuddyPolicy: global' as class loading strategy. It further allows to register additional jar files to be looked up. Jar files
+ * are registered per script engine, lookups use the jars of the engine running in the current thread.
+ * <p>
+ * The classloader is parallel capable and may be shared by multiple engines. Classes that could not be found are remembered to speed up repeated lookups of
+ * non-existing classes, as triggered eg by package resolution of script languages. These caches get cleared when bundles are installed, resolved or
+ * uninstalled and when jars get registered.
+ * </p>
  */
 public class EaseClassLoader extends ClassLoader {
 
-	private final Map<Job, URLClassLoader> fRegisteredJars = new HashMap<>();
+	static {
+		registerAsParallelCapable();
+	}
+
+	/** Maximum amount of class names remembered as missing, per lookup scope. */
+	private static final int MISSING_CLASSES_CACHE_SIZE = 4096;
 
-	/** Marker that we are currently looking within a specific URLClassLoader. */
-	private final Collection<URLClassLoader> fTraversingURLClassLoader = new HashSet<>();
+	/** All live class loader instances, needed to clear missing classes on bundle changes. */
+	private static final Set<EaseClassLoader> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
+
+	/**
+	 * Forget about missing classes in all class loader instances.
+	 */
+	static void clearAllMissingClasses() {
+		final Collection<EaseClassLoader> classLoaders;
+		synchronized (INSTANCES) {
+			classLoaders = new ArrayList<>(INSTANCES);
+		}
+
+		for (final EaseClassLoader classLoader : classLoaders)
+			classLoader.clearMissingClasses();
+	}
+
+	private static void register(EaseClassLoader classLoader) {
+		synchronized (INSTANCES) {
+			INSTANCES.add(classLoader);
+		}
+	}
+
+	/**
+	 * Class loader for jars registered by a dedicated engine. Jars are added incrementally.
+	 */
+	private static class EngineClassLoader extends URLClassLoader {
+
+		static {
+			registerAsParallelCapable();
+		}
+
+		/** Classes not found for this engine. Needs to be cleared when jars get added. */
+		private final Set<String> fMissingClasses = ConcurrentHashMap.newKeySet();
+
+		public EngineClassLoader(URL url, ClassLoader parent) {
+			super(new URL[] { url }, parent);
+		}
+
+		@Override
+		protected synchronized void addURL(URL url) {
+			if (!Arrays.asList(getURLs()).contains(url)) {
+				super.addURL(url);
+				fMissingClasses.clear();
+			}
+		}
+
+		/**
+		 * Look up a class in the registered jars only, without parent delegation.
+		 *
+		 * @param name
+		 *            class name
+		 * @return loaded class
+		 * @throws ClassNotFoundException
+		 *             when the class is not contained in registered jars
+		 */
+		private Class<?> findJarClass(String name) throws ClassNotFoundException {
+			synchronized (getClassLoadingLock(name)) {
+				final Class<?> clazz = findLoadedClass(name);
+				return (clazz != null) ? clazz : findClass(name);
+			}
+		}
+	}
+
+	private final Map<Job, EngineClassLoader> fRegisteredJars = new ConcurrentHashMap<>();
+
+	/** Classes not found for threads without registered jars. */
+	private final Set<String> fMissingClasses = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Constructor for the class loader.
 	 */
 	public EaseClassLoader() {
 		super(FrameworkUtil.getBundle(EaseClassLoader.class).adapt(BundleWiring.class).getClassLoader());
+
+		register(this);
 	}
 
 	/**
@@ -52,28 +131,41 @@ public class EaseClassLoader extends ClassLoader {
 	 */
 	public EaseClassLoader(ClassLoader parent) {
 		super(parent);
+
+		register(this);
+	}
+
+	@Override
+	protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+		final EngineClassLoader engineClassLoader = getEngineClassLoader();
+		final Set<String> missingClasses = (engineClassLoader != null) ? engineClassLoader.fMissingClasses : fMissingClasses;
+
+		if (missingClasses.contains(name))
+			throw new ClassNotFoundException(name);
+
+		try {
+			return super.loadClass(name, resolve);
+
+		} catch (final ClassNotFoundException e) {
+			if (missingClasses.size() >= MISSING_CLASSES_CACHE_SIZE)
+				missingClasses.clear();
+
+			missingClasses.add(name);
+			throw e;
+		}
 	}
 
 	@Override
 	public Class<?> findClass(final String name) throws ClassNotFoundException {
 		// try to load from jars
-		final Job currentJob = Job.getJobManager().currentJob();
-		final URLClassLoader classLoader = fRegisteredJars.get(currentJob);
+		final EngineClassLoader classLoader = getEngineClassLoader();
 		if (classLoader != null) {
-			// the EaseClassLoader will query its parent (this) if it cannot find the requested class, keep a marker to break the cycle
-			if (!fTraversingURLClassLoader.contains(classLoader)) {
-				fTraversingURLClassLoader.add(classLoader);
-				try {
-					final Class<?> clazz = classLoader.loadClass(name);
-					if (clazz != null)
-						return clazz;
-
-				} catch (final ClassNotFoundException e) {
-					// ignore, class not found in registered JARs
-				} finally {
-					// clear marker
-					fTraversingURLClassLoader.remove(classLoader);
-				}
+			try {
+				// parent classes were already queried, so look into the jars only
+				return classLoader.findJarClass(name);
+
+			} catch (final ClassNotFoundException e) {
+				// ignore, class not found in registered JARs
 			}
 		}
 
@@ -91,16 +183,8 @@ public class EaseClassLoader extends ClassLoader {
 	 */
 	public void registerURL(final Job engine, final URL url) {
 		// engine needs to be registered as we use a single classloader for multiple script engines.
-		if (!fRegisteredJars.containsKey(engine))
-			fRegisteredJars.put(engine, URLClassLoader.newInstance(new URL[] { url }, this));
-
-		else {
-			final List<URL> urlList = new ArrayList<>(Arrays.asList(fRegisteredJars.get(engine).getURLs()));
-			if (!urlList.contains(url)) {
-				urlList.add(url);
-				fRegisteredJars.put(engine, URLClassLoader.newInstance(urlList.toArray(new URL[0]), this));
-			}
-		}
+		final EngineClassLoader classLoader = fRegisteredJars.computeIfAbsent(engine, e -> new EngineClassLoader(url, getParent()));
+		classLoader.addURL(url);
 	}
 
 	public void unregisterEngine(final Job engine) {
@@ -113,4 +197,19 @@ public class EaseClassLoader extends ClassLoader {
 			}
 		}
 	}
+
+	/**
+	 * Forget about classes that could not be found so far. Needed when new bundles get installed at runtime.
+	 */
+	public void clearMissingClasses() {
+		fMissingClasses.clear();
+
+		for (final EngineClassLoader classLoader : fRegisteredJars.values())
+			classLoader.fMissingClasses.clear();
+	}
+
+	private EngineClassLoader getEngineClassLoader() {
+		final Job currentJob = Job.getJobManager().currentJob();
+		return (currentJob != null) ? fRegisteredJars.get(currentJob) : null;
+	}
 }
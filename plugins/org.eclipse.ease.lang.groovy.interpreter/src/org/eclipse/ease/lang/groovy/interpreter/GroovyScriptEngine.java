@@ -5,25 +5,137 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.eclipse.ease.AbstractReplScriptEngine;
 import org.eclipse.ease.Script;
 import org.eclipse.ease.classloader.EaseClassLoader;
+import org.eclipse.ease.tools.LRUCache;
+import org.eclipse.ease.tools.ScriptCacheKey;
 
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
 import groovy.lang.GroovyShell;
+import groovy.lang.GroovySystem;
 
 public class GroovyScriptEngine extends AbstractReplScriptEngine {
 
-	/** Classloader used by the groovy shell. */
-	private EaseClassLoader fClassloader;
+	/** Maximum amount of compiled script classes kept per engine. */
+	private static final int SCRIPT_CLASS_CACHE_SIZE = 128;
+
+	/**
+	 * Compiled script class. Each class is defined by a dedicated class loader, so evicted classes can be unloaded along with their loader.
+	 */
+	private static class CompiledScriptClass {
+
+		private final GroovyClassLoader fClassLoader;
+
+		private final Class<?> fScriptClass;
+
+		public CompiledScriptClass(GroovyClassLoader classLoader, Class<?> scriptClass) {
+			fClassLoader = classLoader;
+			fScriptClass = scriptClass;
+		}
+	}
+
+	/**
+	 * Class loader of an engine instance. Parent of all script class loaders of that engine. Classes of compiled scripts get published here, so subsequent
+	 * scripts can use classes defined by earlier evaluations and by included libraries.
+	 */
+	private static class EngineClassLoader extends GroovyClassLoader {
+
+		public EngineClassLoader(ClassLoader parent) {
+			super(parent, CompilerConfiguration.DEFAULT);
+		}
+
+		private void addScriptClasses(CompiledScriptClass compiledScript) {
+			for (final Class<?> clazz : compiledScript.fClassLoader.getLoadedClasses())
+				setClassCacheEntry(clazz);
+		}
+
+		/**
+		 * Remove classes of a script and release references held by the groovy runtime.
+		 *
+		 * @param compiledScript
+		 *            script to remove
+		 */
+		private void removeScriptClasses(CompiledScriptClass compiledScript) {
+			for (final Class<?> clazz : compiledScript.fClassLoader.getLoadedClasses()) {
+				removeClassCacheEntry(clazz.getName());
+				GroovySystem.getMetaClassRegistry().removeMetaClass(clazz);
+			}
+		}
+	}
+
+	/** Classloader shared by all groovy engines, registered jars are kept per engine. */
+	private static final EaseClassLoader CLASSLOADER = new EaseClassLoader();
+
+	/** We need both classloaders: the one from the current plugin and the global EASE loader. */
+	private static final ClassLoader PARENT_CLASSLOADER = new MultiClassLoader(CLASSLOADER, GroovyScriptEngine.class.getClassLoader());
+
+	private static final AtomicInteger SCRIPT_COUNTER = new AtomicInteger();
+
+	private static final AtomicLong COMPILATIONS = new AtomicLong();
+
+	private static final AtomicLong COMPILATION_TIME = new AtomicLong();
+
+	/**
+	 * Get the amount of scripts compiled by all Groovy engines.
+	 *
+	 * @return amount of compilations
+	 */
+	public static long getCompilations() {
+		return COMPILATIONS.get();
+	}
+
+	/**
+	 * Get the time spent in the Groovy compiler by all Groovy engines.
+	 *
+	 * @param unit
+	 *            time unit to be used
+	 * @return accumulated compilation time
+	 */
+	public static long getCompilationTime(TimeUnit unit) {
+		return unit.convert(COMPILATION_TIME.get(), TimeUnit.NANOSECONDS);
+	}
+
+	private static void compilationDone(long startTime) {
+		COMPILATIONS.incrementAndGet();
+		COMPILATION_TIME.addAndGet(System.nanoTime() - startTime);
+	}
 
 	/** Groovy shell instance. */
 	private GroovyShell fEngine;
 
+	/** Parent loader of all scripts compiled by this engine. */
+	private EngineClassLoader fClassLoader;
+
+	/** Compiled script classes of this engine. Classes hold static script state, so they cannot be shared with other engines. */
+	private final LRUCache<ScriptCacheKey, CompiledScriptClass> fScriptClasses = new LRUCache<>(SCRIPT_CLASS_CACHE_SIZE, this::disposeScriptClass);
+
+	/**
+	 * Set when jars were registered. Cached classes stay bound to the classes visible when they were compiled, so scripts get compiled through the shell
+	 * instead.
+	 */
+	private boolean fRegisteredJars = false;
+
 	public GroovyScriptEngine() {
 		super("Groovy");
 	}
 
+	/**
+	 * Get the cache of compiled script classes of this engine. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return script class cache
+	 */
+	public LRUCache<ScriptCacheKey, ?> getScriptClassCache() {
+		return fScriptClasses;
+	}
+
 	@Override
 	public void terminateCurrent() {
 		// TODO Auto-generated method stub
@@ -31,9 +143,8 @@ public class GroovyScriptEngine extends AbstractReplScriptEngine {
 
 	@Override
 	protected void setupEngine() {
-		fClassloader = new EaseClassLoader();
-		// we need both classloaders: the one from the current plugin and the global EASE loader
-		fEngine = new GroovyShell(new MultiClassLoader(fClassloader, GroovyScriptEngine.class.getClassLoader()));
+		fClassLoader = new EngineClassLoader(PARENT_CLASSLOADER);
+		fEngine = new GroovyShell(fClassLoader);
 
 		setOutputStream(getOutputStream());
 		setErrorStream(getErrorStream());
@@ -57,17 +168,76 @@ public class GroovyScriptEngine extends AbstractReplScriptEngine {
 
 	@Override
 	protected void teardownEngine() {
+		fScriptClasses.clear();
+		fClassLoader.clearCache();
+
+		CLASSLOADER.unregisterEngine(this);
 	}
 
 	@Override
 	protected Object execute(final Script script, final String fileName, final boolean uiThread) throws Exception {
-		try (InputStreamReader reader = new InputStreamReader(script.getCodeStream(), StandardCharsets.UTF_8)) {
-			if ((fileName == null) || (fileName.isEmpty()))
-				return fEngine.evaluate(reader);
+		if (fRegisteredJars) {
+			try (InputStreamReader reader = new InputStreamReader(script.getCodeStream(), StandardCharsets.UTF_8)) {
+				final long startTime = System.nanoTime();
+				final groovy.lang.Script groovyScript = ((fileName == null) || (fileName.isEmpty())) ? fEngine.parse(reader)
+						: fEngine.parse(reader, getScriptClassName(fileName));
+				compilationDone(startTime);
 
-			else
-				return fEngine.evaluate(reader, fileName);
+				return groovyScript.run();
+			}
 		}
+
+		final Class<?> scriptClass = getScriptClass(script, fileName);
+		return InvokerHelper.createScript(scriptClass, fEngine.getContext()).run();
+	}
+
+	/**
+	 * Get the compiled class of a script. Unchanged scripts are taken from the cache, skipping the compiler.
+	 *
+	 * @param script
+	 *            script to compile
+	 * @param fileName
+	 *            name of file executed
+	 * @return compiled script class
+	 * @throws Exception
+	 *             when script code cannot be read or compiled
+	 */
+	private Class<?> getScriptClass(final Script script, final String fileName) throws Exception {
+		final String code = script.getCode();
+		final ScriptCacheKey key = ScriptCacheKey.of(code, fileName, ScriptCacheKey.getModificationStamp(script.getFile()));
+
+		CompiledScriptClass compiledScript = fScriptClasses.get(key);
+		if (compiledScript == null) {
+			final String name = ((fileName == null) || (fileName.isEmpty())) ? "Script" + SCRIPT_COUNTER.incrementAndGet() + ".groovy"
+					: getScriptClassName(fileName);
+
+			final long startTime = System.nanoTime();
+			final GroovyClassLoader classLoader = new GroovyClassLoader(fClassLoader, CompilerConfiguration.DEFAULT);
+			final Class<?> scriptClass = classLoader.parseClass(new GroovyCodeSource(code, name, GroovyShell.DEFAULT_CODE_BASE), false);
+			compilationDone(startTime);
+
+			compiledScript = new CompiledScriptClass(classLoader, scriptClass);
+			fClassLoader.addScriptClasses(compiledScript);
+			fScriptClasses.put(key, compiledScript);
+		}
+
+		return compiledScript.fScriptClass;
+	}
+
+	/**
+	 * Get the source name for a script file. Groovy derives the script class name from the last path segment only, so files with the same name in different
+	 * folders would define the same class within the engine class loader. Therefore the name is built from a hash of the full location.
+	 *
+	 * @param fileName
+	 *            absolute location of the executed file
+	 * @return source name to be passed to the compiler
+	 */
+	private static String getScriptClassName(final String fileName) {
+		return "Script_" + ScriptCacheKey.getContentHash(fileName) + ".groovy";
+	}
+
+	private void disposeScriptClass(CompiledScriptClass compiledScript) {
+		fClassLoader.removeScriptClasses(compiledScript);
 	}
 
 	@Override
@@ -92,6 +262,7 @@ public class GroovyScriptEngine extends AbstractReplScriptEngine {
 
 	@Override
 	public void registerJar(final URL url) {
-		fClassloader.registerURL(this, url);
+		fRegisteredJars = true;
+		CLASSLOADER.registerURL(this, url);
 	}
 }
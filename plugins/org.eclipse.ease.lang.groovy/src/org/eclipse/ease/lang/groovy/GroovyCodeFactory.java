@@ -186,7 +186,8 @@ public class GroovyCodeFactory extends org.eclipse.ease.AbstractCodeFactory {
 		body.append(verifyParameters(parameters));
 
 		// insert hooked pre execution code
-		body.append("\t").append(EnvironmentModule.getWrappedVariableName(environment)).append(".preMethodCallback('").append(methodId).append("'")
+		body.append("\tif (").append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(") ")
+				.append(EnvironmentModule.getWrappedVariableName(environment)).append(".preMethodCallback('").append(methodId).append("'")
 				.append(parameters.isEmpty() ? "" : ", ").append(parameterList).append(");").append(StringTools.LINE_DELIMITER);
 
 		// insert method call
@@ -195,12 +196,16 @@ public class GroovyCodeFactory extends org.eclipse.ease.AbstractCodeFactory {
 		body.append(");").append(StringTools.LINE_DELIMITER);
 
 		// insert hooked post execution code
-		body.append("\t").append(EnvironmentModule.getWrappedVariableName(environment)).append(".postMethodCallback('").append(methodId).append("', ")
+		body.append("\tif (").append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(") ")
+				.append(EnvironmentModule.getWrappedVariableName(environment)).append(".postMethodCallback('").append(methodId).append("', ")
 				.append(RESULT_NAME).append(");").append(StringTools.LINE_DELIMITER);
 
 		// insert return statement
 		body.append("\treturn ").append(RESULT_NAME).append(";").append(StringTools.LINE_DELIMITER);
 
+		// callbacks get enabled by the environment when needed
+		groovyCode.append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(" = false;").append(StringTools.LINE_DELIMITER);
+
 		// build function declarations
 		for (final String name : getMethodNames(method)) {
 			if (!isValidMethodName(name)) {
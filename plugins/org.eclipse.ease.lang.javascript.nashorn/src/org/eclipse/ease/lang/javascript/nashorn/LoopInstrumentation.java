@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.javascript.nashorn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Parser;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.ast.AstNode;
+import org.mozilla.javascript.ast.AstRoot;
+import org.mozilla.javascript.ast.Loop;
+
+/**
+ * Adds a statement to the start of each loop body of a script. Nashorn offers no hook to interrupt running code, so this is the only way to terminate scripts
+ * looping without calling into java. Code is inserted without line breaks, so line numbers stay valid.
+ */
+final class LoopInstrumentation {
+
+	/** Text insertion into the script source. */
+	private static class Insertion {
+
+		private final int fPosition;
+
+		private final String fText;
+
+		public Insertion(int position, String text) {
+			fPosition = position;
+			fText = text;
+		}
+	}
+
+	private LoopInstrumentation() {
+		// utility class
+	}
+
+	/**
+	 * Insert a statement at the start of each loop body. Loop bodies that are not blocks get wrapped into a block.
+	 *
+	 * @param code
+	 *            script source code
+	 * @param fileName
+	 *            name of file executed, used for parser messages only
+	 * @param statement
+	 *            statement to insert, needs to be terminated by a semicolon
+	 * @return instrumented code, or <i>code</i> when it cannot be parsed
+	 */
+	static String instrument(String code, String fileName, String statement) {
+		final AstRoot root;
+		try {
+			final CompilerEnvirons environment = new CompilerEnvirons();
+			environment.setLanguageVersion(Context.VERSION_1_8);
+			environment.setRecordingComments(false);
+			environment.setReservedKeywordAsIdentifier(true);
+			root = new Parser(environment).parse(code, fileName, 1);
+
+		} catch (final RhinoException e) {
+			// let the Nashorn compiler report syntax errors
+			return code;
+		}
+
+		final List<Insertion> insertions = new ArrayList<>();
+		root.visit(node -> {
+			if (node instanceof Loop) {
+				final AstNode body = ((Loop) node).getBody();
+				if (body != null) {
+					final int start = body.getAbsolutePosition();
+					if ((start < code.length()) && (code.charAt(start) == '{'))
+						insertions.add(new Insertion(start + 1, statement));
+
+					else {
+						insertions.add(new Insertion(start, "{" + statement));
+						insertions.add(new Insertion(start + body.getLength(), "}"));
+					}
+				}
+			}
+
+			return true;
+		});
+
+		if (insertions.isEmpty())
+			return code;
+
+		// apply from the end, so positions of pending insertions stay valid
+		insertions.sort((o1, o2) -> Integer.compare(o2.fPosition, o1.fPosition));
+
+		final StringBuilder result = new StringBuilder(code);
+		for (final Insertion insertion : insertions)
+			result.insert(insertion.fPosition, insertion.fText);
+
+		return result.toString();
+	}
+}
@@ -13,52 +13,120 @@ import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
 import javax.script.ScriptEngineManager;
+import javax.script.SimpleScriptContext;
 
 import org.eclipse.ease.AbstractReplScriptEngine;
 import org.eclipse.ease.IExecutionListener;
 import org.eclipse.ease.Script;
+import org.eclipse.ease.ScriptEngineCancellationException;
 import org.eclipse.ease.ScriptEngineException;
 import org.eclipse.ease.ScriptObjectType;
 import org.eclipse.ease.debugging.model.EaseDebugVariable;
 import org.eclipse.ease.debugging.model.EaseDebugVariable.Type;
 import org.eclipse.ease.lang.javascript.JavaScriptCodeFactory;
+import org.eclipse.ease.tools.LRUCache;
+import org.eclipse.ease.tools.ScriptCacheKey;
 
 public class NashornScriptEngine extends AbstractReplScriptEngine {
 
 	public static final String ENGINE_ID = "org.eclipse.ease.javascript.nashorn";
 
+	/** Maximum amount of compiled scripts kept per engine. */
+	private static final int COMPILED_SCRIPT_CACHE_SIZE = 256;
+
+	/** Variable holding the termination check called by instrumented loops. */
+	private static final String TERMINATION_CHECK = "__EASE_terminationCheck";
+
+	/** Nashorn engine factory, looked up once. Nashorn engines are not thread safe, so each engine instance creates its own Nashorn engine. */
+	private static ScriptEngineFactory NASHORN_FACTORY = null;
+
+	private static synchronized ScriptEngine createNashornEngine() {
+		if (NASHORN_FACTORY == null) {
+			final ScriptEngine engine = new ScriptEngineManager().getEngineByName("nashorn");
+			if (engine == null)
+				return null;
+
+			NASHORN_FACTORY = engine.getFactory();
+			return engine;
+		}
+
+		return NASHORN_FACTORY.getScriptEngine();
+	}
+
 	private ScriptEngine fEngine;
 
+	/** Compiled scripts. These can only be evaluated by the Nashorn engine that compiled them. */
+	private final LRUCache<ScriptCacheKey, CompiledScript> fCompiledScripts = new LRUCache<>(COMPILED_SCRIPT_CACHE_SIZE);
+
+	private ScriptContext fContext;
+
+	/** Guards execution state shared with threads requesting termination. */
+	private final Object fExecutionLock = new Object();
+
+	/** Thread evaluating script code, <code>null</code> when idle. */
+	private Thread fExecutionThread = null;
+
+	/** Written while holding fExecutionLock, read without lock by the termination check of instrumented loops. */
+	private volatile boolean fTerminateRequested = false;
+
 	public NashornScriptEngine() {
 		super("Nashorn");
 	}
 
+	/**
+	 * Get the cache of compiled scripts of this engine. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return compiled script cache
+	 */
+	public LRUCache<ScriptCacheKey, CompiledScript> getCompiledScriptCache() {
+		return fCompiledScripts;
+	}
+
+	/**
+	 * Terminate the running script. Nashorn provides no hook to cancel running code. Therefore loop bodies get instrumented with a termination check at
+	 * compile time. Additionally the engine thread gets interrupted, which terminates scripts blocking in java calls.
+	 */
 	@Override
 	public void terminateCurrent() {
-		// TODO Auto-generated method stub
+		if (Thread.currentThread().equals(getThread()))
+			throw new ScriptEngineCancellationException();
+
+		synchronized (fExecutionLock) {
+			if (fExecutionThread == null)
+				return;
+
+			// interrupt while locked, so the interrupt cannot hit a subsequent execution
+			fTerminateRequested = true;
+			fExecutionThread.interrupt();
+		}
 	}
 
 	@Override
 	protected Object internalGetVariable(final String name) {
-		return fEngine.get(name);
+		return fContext.getBindings(ScriptContext.ENGINE_SCOPE).get(name);
 	}
 
 	@Override
 	protected Map<String, Object> internalGetVariables() {
 		final Map<String, Object> variables = new HashMap<>();
-		final Bindings bindings = fEngine.getBindings(ScriptContext.ENGINE_SCOPE);
+		final Bindings bindings = fContext.getBindings(ScriptContext.ENGINE_SCOPE);
 		for (final Entry<String, Object> entry : bindings.entrySet())
 			variables.put(entry.getKey(), entry.getValue());
 
+		variables.remove(TERMINATION_CHECK);
+
 		return variables;
 	}
 
 	@Override
 	protected boolean internalHasVariable(final String name) {
-		return fEngine.getBindings(ScriptContext.ENGINE_SCOPE).containsKey(name);
+		return fContext.getBindings(ScriptContext.ENGINE_SCOPE).containsKey(name);
 	}
 
 	@Override
@@ -66,7 +134,7 @@ public class NashornScriptEngine extends AbstractReplScriptEngine {
 		if (!JavaScriptCodeFactory.isSaveName(name))
 			throw new RuntimeException("\"" + name + "\" is not a valid JavaScript variable name");
 
-		fEngine.put(name, content);
+		fContext.getBindings(ScriptContext.ENGINE_SCOPE).put(name, content);
 	}
 
 	@Override
@@ -76,22 +144,98 @@ public class NashornScriptEngine extends AbstractReplScriptEngine {
 
 	@Override
 	protected void setupEngine() throws ScriptEngineException {
-		final ScriptEngineManager engineManager = new ScriptEngineManager();
-		fEngine = engineManager.getEngineByName("nashorn");
+		fEngine = createNashornEngine();
 
 		if (fEngine == null) {
 			throw new ScriptEngineException("Unable to load Nashorn Script Engine");
 		}
+
+		fContext = new SimpleScriptContext();
+		fContext.setBindings(fEngine.createBindings(), ScriptContext.ENGINE_SCOPE);
+
+		final Runnable terminationCheck = () -> {
+			if (fTerminateRequested)
+				throw new ScriptEngineCancellationException();
+		};
+		fContext.getBindings(ScriptContext.ENGINE_SCOPE).put(TERMINATION_CHECK, terminationCheck);
 	}
 
 	@Override
 	protected void teardownEngine() {
+		fCompiledScripts.clear();
+		fContext = null;
 		fEngine = null;
 	}
 
 	@Override
 	protected Object execute(final Script script, final String fileName, final boolean uiThread) throws Exception {
-		return fEngine.eval(script.getCode());
+		boolean topLevel = false;
+		synchronized (fExecutionLock) {
+			if (fExecutionThread == null) {
+				// nested executions (eg include()) are tracked by the top level execution
+				topLevel = true;
+				fExecutionThread = Thread.currentThread();
+				fTerminateRequested = false;
+			}
+		}
+
+		try {
+			final Object result = getCompiledScript(script, fileName).eval(fContext);
+
+			// script reacted on the interrupt and returned
+			if (topLevel && isTerminateRequested())
+				throw new ScriptEngineCancellationException();
+
+			return result;
+
+		} catch (final Exception e) {
+			if (isTerminateRequested())
+				throw new ScriptEngineCancellationException();
+
+			throw e;
+
+		} finally {
+			if (topLevel) {
+				synchronized (fExecutionLock) {
+					fExecutionThread = null;
+
+					// clear a pending interrupt from a termination request
+					if (fTerminateRequested)
+						Thread.interrupted();
+				}
+			}
+		}
+	}
+
+	private boolean isTerminateRequested() {
+		synchronized (fExecutionLock) {
+			return fTerminateRequested;
+		}
+	}
+
+	/**
+	 * Get the compiled version of a script. Loop bodies get instrumented with a termination check. Unchanged scripts are taken from the cache, skipping the
+	 * compiler.
+	 *
+	 * @param script
+	 *            script to compile
+	 * @param fileName
+	 *            name of file executed
+	 * @return compiled script
+	 * @throws Exception
+	 *             when script code cannot be read or compiled
+	 */
+	private CompiledScript getCompiledScript(final Script script, final String fileName) throws Exception {
+		final ScriptCacheKey key = ScriptCacheKey.of(script, fileName);
+
+		CompiledScript compiledScript = fCompiledScripts.get(key);
+		if (compiledScript == null) {
+			final String code = LoopInstrumentation.instrument(script.getCode(), fileName, TERMINATION_CHECK + ".run();");
+			compiledScript = ((Compilable) fEngine).compile(code);
+			fCompiledScripts.put(key, compiledScript);
+		}
+
+		return compiledScript;
 	}
 
 	@Override
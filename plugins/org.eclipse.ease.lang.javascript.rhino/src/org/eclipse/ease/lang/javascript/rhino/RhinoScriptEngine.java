@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.ease.lang.javascript.rhino;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -44,7 +45,9 @@ import org.eclipse.ease.debugging.ScriptStackTrace;
 import org.eclipse.ease.debugging.model.EaseDebugVariable;
 import org.eclipse.ease.debugging.model.EaseDebugVariable.Type;
 import org.eclipse.ease.lang.javascript.JavaScriptCodeFactory;
+import org.eclipse.ease.tools.LRUCache;
 import org.eclipse.ease.tools.RunnableWithResult;
+import org.eclipse.ease.tools.ScriptCacheKey;
 import org.eclipse.swt.widgets.Display;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
@@ -86,6 +89,21 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 
 	public static final String ENGINE_ID = "org.eclipse.ease.javascript.rhino";
 
+	/** Maximum amount of compiled scripts kept in the shared cache. */
+	private static final int COMPILED_SCRIPT_CACHE_SIZE = 256;
+
+	/** Compiled scripts shared across all engine instances. */
+	private static final LRUCache<ScriptCacheKey, org.mozilla.javascript.Script> COMPILED_SCRIPTS = new LRUCache<>(COMPILED_SCRIPT_CACHE_SIZE);
+
+	/**
+	 * Get the cache of compiled scripts shared by all Rhino engines. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return compiled script cache
+	 */
+	public static LRUCache<ScriptCacheKey, org.mozilla.javascript.Script> getCompiledScriptCache() {
+		return COMPILED_SCRIPTS;
+	}
+
 	public static Context getContext() {
 		Context context = Context.getCurrentContext();
 		if (context == null) {
@@ -113,6 +131,9 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 
 	private ScriptStackTrace fExceptionStackTrace = null;
 
+	/** Top level scope content remembered by {@link #markScope()}, stores value and attributes for each property. */
+	private Map<Object, Object[]> fScopeSnapshot = null;
+
 	/**
 	 * Creates a new Rhino interpreter.
 	 */
@@ -171,6 +192,7 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 		Context.exit();
 		fContext = null;
 		fScope = null;
+		fScopeSnapshot = null;
 
 		// unregister from classloader
 		CLASSLOADER.unregisterEngine(this);
@@ -219,6 +241,9 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 				// execute anonymous functions
 				result = ((org.mozilla.javascript.Script) script.getCommand()).exec(getContext(), fScope);
 
+			else if (isCachingCompiledScripts())
+				result = getCompiledScript(script, fileName).exec(getContext(), fScope);
+
 			else {
 				try (InputStreamReader codeReader = new InputStreamReader(script.getCodeStream(), StandardCharsets.UTF_8)) {
 					result = getContext().evaluateReader(fScope, codeReader, fileName, 1, null);
@@ -300,6 +325,40 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 		}
 	}
 
+	/**
+	 * Compiled scripts may only be shared when no debug information needs to be generated. A debugger needs to be notified on compilation of each script.
+	 *
+	 * @return <code>true</code> when compiled scripts may be taken from the cache
+	 */
+	private boolean isCachingCompiledScripts() {
+		final Context context = getContext();
+		return (context.getDebugger() == null) && (!context.isGeneratingDebug());
+	}
+
+	/**
+	 * Get the compiled version of a script. Unchanged scripts are taken from the shared cache, skipping the compiler.
+	 *
+	 * @param script
+	 *            script to compile
+	 * @param fileName
+	 *            name of file executed
+	 * @return compiled script
+	 * @throws IOException
+	 *             when script code cannot be read
+	 */
+	private org.mozilla.javascript.Script getCompiledScript(final Script script, final String fileName) throws IOException {
+		final Context context = getContext();
+		final ScriptCacheKey key = ScriptCacheKey.of(script, fileName, context.getOptimizationLevel(), context.getLanguageVersion());
+
+		org.mozilla.javascript.Script compiledScript = COMPILED_SCRIPTS.get(key);
+		if (compiledScript == null) {
+			compiledScript = context.compileString(script.getCode(), fileName, 1, null);
+			COMPILED_SCRIPTS.put(key, compiledScript);
+		}
+
+		return compiledScript;
+	}
+
 	public ScriptStackTrace getExceptionStackTrace() {
 		return fExceptionStackTrace;
 	}
@@ -410,6 +469,82 @@ public class RhinoScriptEngine extends AbstractReplScriptEngine {
 		});
 	}
 
+	@Override
+	public boolean markScope() {
+		return runInJobContext(new RunnableWithResult<Boolean>() {
+			@Override
+			public Boolean runWithTry() throws Throwable {
+				final Map<Object, Object[]> snapshot = new HashMap<>();
+				for (final Object id : fScope.getAllIds())
+					snapshot.put(id, new Object[] { getProperty(id), getAttributes(id) });
+
+				fScopeSnapshot = snapshot;
+				return true;
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Properties of the top level scope are compared by identity. Changes within referenced objects, eg. properties added to a global object or to the
+	 * prototype of a builtin type like <code>Array.prototype</code>, are not reverted.
+	 * </p>
+	 */
+	@Override
+	public boolean resetScope() {
+		if (fScopeSnapshot == null)
+			return false;
+
+		return runInJobContext(new RunnableWithResult<Boolean>() {
+			@Override
+			public Boolean runWithTry() throws Throwable {
+				for (final Object id : fScope.getAllIds()) {
+					if (!fScopeSnapshot.containsKey(id)) {
+						// top level 'var' declarations are permanent and cannot be deleted otherwise
+						setAttributes(id, ScriptableObject.EMPTY);
+						if (id instanceof String)
+							fScope.delete((String) id);
+						else
+							fScope.delete(((Number) id).intValue());
+					}
+				}
+
+				for (final Entry<Object, Object[]> entry : fScopeSnapshot.entrySet()) {
+					final Object id = entry.getKey();
+					final Object value = entry.getValue()[0];
+
+					if (getProperty(id) != value) {
+						setAttributes(id, ScriptableObject.EMPTY);
+						if (id instanceof String)
+							fScope.put((String) id, fScope, value);
+						else
+							fScope.put(((Number) id).intValue(), fScope, value);
+
+						setAttributes(id, (Integer) entry.getValue()[1]);
+					}
+				}
+
+				return true;
+			}
+		});
+	}
+
+	private Object getProperty(Object id) {
+		return (id instanceof String) ? ScriptableObject.getProperty(fScope, (String) id) : ScriptableObject.getProperty(fScope, ((Number) id).intValue());
+	}
+
+	private int getAttributes(Object id) {
+		return (id instanceof String) ? fScope.getAttributes((String) id) : fScope.getAttributes(((Number) id).intValue());
+	}
+
+	private void setAttributes(Object id, int attributes) {
+		if (id instanceof String)
+			fScope.setAttributes((String) id, attributes);
+		else
+			fScope.setAttributes(((Number) id).intValue(), attributes);
+	}
+
 	protected Object internaljavaToJS(final Object value, final Scriptable scope) {
 		if (isPrimitiveType(value) || (value instanceof Scriptable))
 			return value;
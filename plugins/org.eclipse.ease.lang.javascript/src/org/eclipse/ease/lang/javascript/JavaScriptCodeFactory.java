@@ -136,6 +136,7 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 	}
 
 	private String createObjectWrapper(IEnvironment environment, Object instance, String identifier) {
+		final StringBuilder callbackFlags = new StringBuilder();
 		final StringBuilder scriptCode = new StringBuilder();
 
 		scriptCode.append(String.format("%stemporary_wrapper_object = {%n", IEnvironment.EASE_CODE_PREFIX));
@@ -154,7 +155,9 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 				// parse parameters
 				final List<Parameter> parameters = ModuleHelper.getParameters(method);
 
-				final String body = "\t\t" + buildMethodBody(environment, parameters, method, identifier).replaceAll("\n", "\n\t\t");
+				final String methodId = environment.registerMethod(method);
+				final String body = "\t\t" + buildMethodBody(environment, methodId, parameters, method, identifier).replaceAll("\n", "\n\t\t");
+				callbackFlags.append(buildCallbackFlagInitialization(environment, methodId));
 
 				// method header
 				scriptCode.append('\t').append(method.getName()).append(": function(");
@@ -185,7 +188,8 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 
 		scriptCode.append("};").append(StringTools.LINE_DELIMITER);
 
-		return scriptCode.toString();
+		// the object literal needs to be the last statement as it is the result of the injected code
+		return callbackFlags.append(scriptCode).toString();
 	}
 
 	@Override
@@ -199,7 +203,10 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 		// build parameter string
 		final String parameterList = buildParameterList(parameters);
 
-		final String body = "\t" + buildMethodBody(environment, parameters, method, moduleVariable).replaceAll("\n", "\n\t");
+		final String methodId = environment.registerMethod(method);
+		final String body = "\t" + buildMethodBody(environment, methodId, parameters, method, moduleVariable).replaceAll("\n", "\n\t");
+
+		javaScriptCode.append(buildCallbackFlagInitialization(environment, methodId));
 
 		// build function declarations
 		for (final String name : getMethodNames(method)) {
@@ -227,7 +234,20 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 		return javaScriptCode.toString();
 	}
 
-	private String buildMethodBody(IEnvironment environment, List<Parameter> parameters, Method method, String classIdentifier) {
+	/**
+	 * Initialize the callback flag of a method. Callbacks get enabled by the environment when needed.
+	 *
+	 * @param environment
+	 *            environment the method is registered in
+	 * @param methodId
+	 *            token returned by {@link IEnvironment#registerMethod(Method)}
+	 * @return flag initialization code
+	 */
+	private static String buildCallbackFlagInitialization(IEnvironment environment, String methodId) {
+		return "var " + EnvironmentModule.getCallbackFlagVariableName(environment, methodId) + " = false;" + StringTools.LINE_DELIMITER;
+	}
+
+	private String buildMethodBody(IEnvironment environment, String methodId, List<Parameter> parameters, Method method, String classIdentifier) {
 		final StringBuilder body = new StringBuilder();
 		// insert parameter checks
 		body.append("// verify mandatory and optional parameters").append(StringTools.LINE_DELIMITER);
@@ -237,11 +257,12 @@ public class JavaScriptCodeFactory extends AbstractCodeFactory {
 		if (ModuleHelper.isDeprecated(method))
 			body.append("printError('" + method.getName() + "() is deprecated. Consider updating your code.', true);").append(StringTools.LINE_DELIMITER);
 
-		final String methodId = environment.registerMethod(method);
-
-		// body.append("var hasCallback = false;").append(StringTools.LINE_DELIMITER);
-		body.append("if (!").append(EnvironmentModule.getWrappedVariableName(environment)).append(".hasMethodCallback(\"").append(methodId).append("\")) {")
-				.append(StringTools.LINE_DELIMITER);
+		// check for callbacks, the script flag avoids a call to the java layer when no callbacks are registered for this method. The java layer is still
+		// queried periodically as it checks for script cancellation
+		body.append("if ((!").append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(" && ((++")
+				.append(EnvironmentModule.getCallCounterVariableName(environment)).append(" % ").append(EnvironmentModule.CANCELLATION_CHECK_INTERVAL)
+				.append(") != 0)) || !").append(EnvironmentModule.getWrappedVariableName(environment)).append(".hasMethodCallback(\"").append(methodId)
+				.append("\")) {").append(StringTools.LINE_DELIMITER);
 
 		// plain method call
 		body.append("\t// delegate call to java layer").append(StringTools.LINE_DELIMITER);
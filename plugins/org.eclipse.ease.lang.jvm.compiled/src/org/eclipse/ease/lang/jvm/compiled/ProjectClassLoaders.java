@@ -0,0 +1,412 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.lang.jvm.compiled;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.IExecutionListener;
+import org.eclipse.ease.IScriptEngine;
+import org.eclipse.ease.Script;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * Class loaders for compiled classes of workspace projects. Resolving the classpath of a project is expensive, so it is kept until a file defining the
+ * classpath changes. Class loaders are reused until class files or jars of the project or its dependencies change. Then the loader gets dropped and the next
+ * lookup creates a fresh loader picking up the new class files. Dropped loaders are closed once all script engines that loaded classes from them have
+ * terminated.
+ */
+final class ProjectClassLoaders implements IResourceChangeListener, IExecutionListener {
+
+	/** Project relative files defining the classpath of a project. */
+	private static final Collection<String> CLASSPATH_FILES = Arrays.asList(".classpath", ".project", "META-INF/MANIFEST.MF");
+
+	private static ProjectClassLoaders fInstance = null;
+
+	static synchronized ProjectClassLoaders getInstance() {
+		if (fInstance == null) {
+			fInstance = new ProjectClassLoaders();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fInstance, IResourceChangeEvent.POST_CHANGE);
+		}
+
+		return fInstance;
+	}
+
+	/**
+	 * Resolved classpath of a project.
+	 */
+	private static class ProjectClassPath {
+
+		private final URL[] fURLs;
+
+		/** Projects contributing to the classpath, including the project itself. */
+		private final Set<IProject> fDependencies;
+
+		/** Qualified class names by source file location. */
+		private final Map<IPath, String> fClassNames = new HashMap<>();
+
+		/** Class loader, created lazily. */
+		private URLClassLoader fClassLoader = null;
+
+		public ProjectClassPath(URL[] urls, Set<IProject> dependencies) {
+			fURLs = urls;
+			fDependencies = dependencies;
+		}
+
+		private URLClassLoader getClassLoader() {
+			if (fClassLoader == null)
+				fClassLoader = new URLClassLoader(fURLs, JVMCompiledScriptEngine.class.getClassLoader());
+
+			return fClassLoader;
+		}
+
+		/**
+		 * Detach the class loader. The next lookup creates a fresh loader.
+		 *
+		 * @return detached class loader or <code>null</code>
+		 */
+		private URLClassLoader detachClassLoader() {
+			final URLClassLoader classLoader = fClassLoader;
+			fClassLoader = null;
+
+			return classLoader;
+		}
+	}
+
+	private final Map<IProject, ProjectClassPath> fClassPaths = new HashMap<>();
+
+	/** Script engines using a class loader. */
+	private final Map<URLClassLoader, Set<IScriptEngine>> fUsers = new HashMap<>();
+
+	/** Detached class loaders still in use by script engines. */
+	private final Set<URLClassLoader> fDetachedClassLoaders = new HashSet<>();
+
+	private ProjectClassLoaders() {
+		// singleton
+	}
+
+	/**
+	 * Load the class compiled from a given source file.
+	 *
+	 * @param sourceFile
+	 *            source file within a bundle project
+	 * @param engine
+	 *            script engine using the class, keeps the class loader open until the engine terminates. May be <code>null</code>
+	 * @return class definition or <code>null</code> when the file is not located in a bundle project or is not a compilation unit
+	 * @throws JavaModelException
+	 *             when the workspace project model is invalid
+	 * @throws MalformedURLException
+	 *             when references in the project are invalid
+	 * @throws ClassNotFoundException
+	 *             if the class was not found
+	 */
+	Class<?> loadClass(IFile sourceFile, IScriptEngine engine) throws JavaModelException, MalformedURLException, ClassNotFoundException {
+		final URLClassLoader classLoader;
+		final String className;
+
+		synchronized (this) {
+			final IProject project = sourceFile.getProject();
+
+			ProjectClassPath classPath = fClassPaths.get(project);
+			if (classPath == null) {
+				final IBundleProjectDescription projectDescription = getBundleProjectDescription(project);
+				if (projectDescription == null)
+					return null;
+
+				classPath = resolveClassPath(projectDescription);
+				fClassPaths.put(project, classPath);
+			}
+
+			String name = classPath.fClassNames.get(sourceFile.getFullPath());
+			if (name == null) {
+				name = getClassName(JavaCore.create(project), sourceFile);
+				if (name == null)
+					return null;
+
+				classPath.fClassNames.put(sourceFile.getFullPath(), name);
+			}
+
+			className = name;
+			classLoader = classPath.getClassLoader();
+
+			if (engine != null) {
+				fUsers.computeIfAbsent(classLoader, k -> new HashSet<>()).add(engine);
+				engine.addExecutionListener(this);
+			}
+		}
+
+		return classLoader.loadClass(className);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null)
+			return;
+
+		final Set<IProject> changedClassPaths = new HashSet<>();
+		final Set<IProject> changedClasses = new HashSet<>();
+
+		for (final IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			final IProject project = (IProject) projectDelta.getResource();
+
+			if ((projectDelta.getKind() != IResourceDelta.CHANGED) || ((projectDelta.getFlags() & IResourceDelta.OPEN) != 0)) {
+				changedClassPaths.add(project);
+				continue;
+			}
+
+			try {
+				projectDelta.accept(child -> {
+					final IResource resource = child.getResource();
+					if (resource.getType() == IResource.FILE) {
+						if (CLASSPATH_FILES.contains(resource.getProjectRelativePath().toString()))
+							changedClassPaths.add(project);
+
+						else if (("class".equals(resource.getFileExtension())) || ("jar".equals(resource.getFileExtension())))
+							changedClasses.add(project);
+					}
+
+					return !changedClassPaths.contains(project);
+				});
+
+			} catch (final CoreException e) {
+				// cannot evaluate changes, be conservative
+				changedClassPaths.add(project);
+			}
+		}
+
+		if ((!changedClassPaths.isEmpty()) || (!changedClasses.isEmpty()))
+			invalidate(changedClassPaths, changedClasses);
+	}
+
+	private synchronized void invalidate(Set<IProject> changedClassPaths, Set<IProject> changedClasses) {
+		final Iterator<ProjectClassPath> iterator = fClassPaths.values().iterator();
+		while (iterator.hasNext()) {
+			final ProjectClassPath classPath = iterator.next();
+
+			if (!Collections.disjoint(classPath.fDependencies, changedClassPaths)) {
+				detach(classPath.detachClassLoader());
+				iterator.remove();
+
+			} else if (!Collections.disjoint(classPath.fDependencies, changedClasses)) {
+				detach(classPath.detachClassLoader());
+
+				// recompiled sources may declare a different type or package
+				classPath.fClassNames.clear();
+			}
+		}
+	}
+
+	/**
+	 * Close a class loader that is no longer cached. When script engines still use its classes, closing is delayed until they terminate.
+	 *
+	 * @param classLoader
+	 *            class loader to close, may be <code>null</code>
+	 */
+	private void detach(URLClassLoader classLoader) {
+		if (classLoader != null) {
+			if (fUsers.containsKey(classLoader))
+				fDetachedClassLoaders.add(classLoader);
+			else
+				close(classLoader);
+		}
+	}
+
+	@Override
+	public void notify(IScriptEngine engine, Script script, int status) {
+		if (IExecutionListener.ENGINE_END == status) {
+			engine.removeExecutionListener(this);
+			release(engine);
+		}
+	}
+
+	private synchronized void release(IScriptEngine engine) {
+		final Iterator<Map.Entry<URLClassLoader, Set<IScriptEngine>>> iterator = fUsers.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<URLClassLoader, Set<IScriptEngine>> entry = iterator.next();
+
+			if ((entry.getValue().remove(engine)) && (entry.getValue().isEmpty())) {
+				iterator.remove();
+
+				if (fDetachedClassLoaders.remove(entry.getKey()))
+					close(entry.getKey());
+			}
+		}
+	}
+
+	private static void close(URLClassLoader classLoader) {
+		try {
+			classLoader.close();
+		} catch (final IOException e) {
+			// gracefully ignore
+		}
+	}
+
+	private static ProjectClassPath resolveClassPath(IBundleProjectDescription scriptBundleProject) throws JavaModelException, MalformedURLException {
+		final List<URL> urls = new ArrayList<>();
+		final Set<IProject> dependencies = new HashSet<>();
+
+		final IProject project = scriptBundleProject.getProject();
+		final IJavaProject javaProject = JavaCore.create(project);
+		dependencies.add(project);
+
+		final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+
+		final IClasspathEntry[] cpEntries = javaProject.getRawClasspath();
+		if (cpEntries != null) {
+			for (final IClasspathEntry cpEntry : cpEntries) {
+				// The script bundle project may have a ".classpath"
+				// dependency on another
+				// Eclipse "source" project (could be Java or Scala or
+				// anything else based on the Eclipse Java nature)
+				if ((cpEntry.getEntryKind() == IClasspathEntry.CPE_PROJECT) && (cpEntry.getContentKind() == IPackageFragmentRoot.K_SOURCE)) {
+					final IPath cpPath = cpEntry.getPath();
+					final IProject cpProject = root.getProject(cpPath.toString());
+					if (cpProject != null) {
+						final IJavaProject jcpProject = JavaCore.create(cpProject);
+						final IPath output = jcpProject.getOutputLocation();
+						final IResource bin = root.findMember(output);
+						final IPath binPath = bin.getRawLocation();
+						final URL url = binPath.toFile().toURI().toURL();
+						urls.add(url);
+						dependencies.add(cpProject);
+					}
+				} else if ((cpEntry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) && (cpEntry.getContentKind() == IPackageFragmentRoot.K_BINARY)) {
+					final IPath path = cpEntry.getPath();
+					urls.add(path.toFile().toURL());
+				}
+			}
+		}
+
+		final IPath output = javaProject.getOutputLocation();
+		final IResource bin = root.findMember(output);
+		final IPath binPath = bin.getRawLocation();
+		final URL url = binPath.toFile().toURI().toURL();
+		urls.add(url);
+
+		final IRequiredBundleDescription[] requiredBundles = scriptBundleProject.getRequiredBundles();
+		if (requiredBundles != null) {
+			for (final IRequiredBundleDescription requiredBundle : requiredBundles) {
+				final String id = requiredBundle.getName();
+				final Bundle b = Platform.getBundle(id);
+				if (b == null) {
+					// The script bundle project (in the Eclipse workspace)
+					// has a MANIFEST dependency
+					// on an Eclipse plugin that is not in the Eclipse
+					// installation -- so it must be in the Eclipse
+					// workspace...
+					final IProject bProject = root.getProject("/" + id);
+					if (bProject != null) {
+						final IJavaProject bjProject = JavaCore.create(bProject);
+						final IPath bOutput = bjProject.getOutputLocation();
+						final IResource bBin = root.findMember(bOutput);
+						final IPath bBinPath = bBin.getRawLocation();
+						final URL bUrl = bBinPath.toFile().toURI().toURL();
+						urls.add(bUrl);
+						dependencies.add(bProject);
+					}
+				}
+			}
+		}
+
+		return new ProjectClassPath(urls.toArray(new URL[urls.size()]), dependencies);
+	}
+
+	private static String getClassName(IJavaProject javaProject, IFile sourceFile) throws JavaModelException {
+		final IPath wsPath = sourceFile.getProjectRelativePath();
+		IPath wsSource = wsPath.removeFirstSegments(1);
+
+		if (wsSource.getFileExtension().equals("xtend")) {
+			wsSource = wsSource.removeFileExtension();
+			wsSource = wsSource.addFileExtension("java");
+		}
+
+		final IJavaElement wsElement = javaProject.findElement(wsSource);
+		if (wsElement instanceof ICompilationUnit) {
+			final ICompilationUnit u = (ICompilationUnit) wsElement;
+			final String uName = u.getElementName();
+			final int dot = uName.indexOf('.');
+
+			String qName = uName.substring(0, dot);
+
+			IJavaElement uParent = u.getParent();
+			while (uParent instanceof IPackageFragment) {
+				final IPackageFragment uPkg = (IPackageFragment) uParent;
+				final String pkgName = uPkg.getElementName();
+				if ((pkgName != null) && (!pkgName.isEmpty()))
+					qName = pkgName + "." + qName;
+
+				uParent = uParent.getParent();
+			}
+
+			return qName;
+		}
+
+		return null;
+	}
+
+	private static IBundleProjectDescription getBundleProjectDescription(IProject project) {
+		final Bundle bundle = FrameworkUtil.getBundle(IBundleProjectService.class);
+		final BundleContext context = bundle.getBundleContext();
+		final ServiceReference<IBundleProjectService> ref = context.getServiceReference(IBundleProjectService.class);
+		final IBundleProjectService service = context.getService(ref);
+
+		try {
+			return service.getDescription(project);
+
+		} catch (final IllegalArgumentException ex) {
+			// ignore
+		} catch (final CoreException e) {
+			// ignore
+		}
+
+		return null;
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.ease.lang.python.jython;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
@@ -33,7 +34,9 @@ import org.eclipse.ease.ScriptEngineException;
 import org.eclipse.ease.ScriptResult;
 import org.eclipse.ease.lang.python.PythonHelper;
 import org.eclipse.ease.lang.python.preferences.IPreferenceConstants;
+import org.eclipse.ease.tools.LRUCache;
 import org.eclipse.ease.tools.RunnableWithResult;
+import org.eclipse.ease.tools.ScriptCacheKey;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.swt.widgets.Display;
 import org.python.core.CompileMode;
@@ -59,6 +62,21 @@ public class JythonScriptEngine extends AbstractReplScriptEngine {
 
 	public static final String ENGINE_ID = "org.eclipse.ease.python.jython";
 
+	/** Maximum amount of compiled code objects kept in the shared cache. */
+	private static final int COMPILED_CODE_CACHE_SIZE = 256;
+
+	/** Compiled code objects shared across all engine instances. */
+	private static final LRUCache<ScriptCacheKey, PyObject> COMPILED_CODE = new LRUCache<>(COMPILED_CODE_CACHE_SIZE);
+
+	/**
+	 * Get the cache of compiled code objects shared by all Jython engines. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return compiled code cache
+	 */
+	public static LRUCache<ScriptCacheKey, PyObject> getCompiledCodeCache() {
+		return COMPILED_CODE;
+	}
+
 	protected InteractiveInterpreter fEngine;
 
 	private PyObject fResult;
@@ -164,9 +182,7 @@ public class JythonScriptEngine extends AbstractReplScriptEngine {
 	protected Object internalExecute(final Script script, final String fileName) throws Exception {
 		fResult = Py.None;
 
-		final PyObject code = Py.compile_command_flags(script.getCode(), "(none)", CompileMode.exec, new CompilerFlags(), true);
-		if (code == Py.None)
-			throw new IllegalArgumentException("Could not compile code");
+		final PyObject code = getCompiledCode(script, fileName);
 
 		final Object file = script.getFile();
 		File f = null;
@@ -184,13 +200,43 @@ public class JythonScriptEngine extends AbstractReplScriptEngine {
 			newString = Py.newString(containerPart);
 			Py.getSystemState().path.insert(0, newString);
 		}
-		Py.exec(code, getEngine().getLocals(), null);
-		if (newString != null) {
-			Py.getSystemState().path.remove(newString);
+
+		try {
+			Py.exec(code, getEngine().getLocals(), null);
+		} finally {
+			if (newString != null)
+				Py.getSystemState().path.remove(newString);
 		}
+
 		return toJava(fResult);
 	}
 
+	/**
+	 * Get the compiled code object of a script. Unchanged scripts are taken from the shared cache, skipping the compiler.
+	 *
+	 * @param script
+	 *            script to compile
+	 * @param fileName
+	 *            name of file executed
+	 * @return compiled code object
+	 * @throws IOException
+	 *             when script code cannot be read
+	 */
+	private static PyObject getCompiledCode(final Script script, final String fileName) throws IOException {
+		final ScriptCacheKey key = ScriptCacheKey.of(script, fileName);
+
+		PyObject code = COMPILED_CODE.get(key);
+		if (code == null) {
+			code = Py.compile_command_flags(script.getCode(), "(none)", CompileMode.exec, new CompilerFlags(), true);
+			if (code == Py.None)
+				throw new IllegalArgumentException("Could not compile code");
+
+			COMPILED_CODE.put(key, code);
+		}
+
+		return code;
+	}
+
 	private static Object toJava(final PyObject result) {
 		if (result instanceof PyNone)
 			return null;
@@ -17,6 +17,7 @@ if __name__ == '__main__':
     # sys.argv[2:] - optional - paths to prepend on sys.path
     _pyease_sys.path[0:0] = _pyease_sys.argv[2:]
 
+import array as _pyease_array
 import code as _pyease_code
 import os as _pyease_os
 import py4j
@@ -29,7 +30,15 @@ from py4j.java_collections import SetConverter as _pyease_SetConverter
 from py4j.java_gateway import JavaObject as _pyease_JavaObject
 from py4j.java_gateway import JavaClass as _pyease_JavaClass
 from py4j.protocol import Py4JJavaError as _pyease_Py4JJavaError
+from py4j.protocol import get_command_part as _pyease_get_command_part
+from py4j.protocol import get_return_value as _pyease_get_return_value
 import threading as _pyease_threading
+import gc as _pyease_gc
+try:
+    from importlib.machinery import EXTENSION_SUFFIXES as _pyease_EXTENSION_SUFFIXES
+except ImportError:
+    import imp as _pyease_imp
+    _pyease_EXTENSION_SUFFIXES = [suffix[0] for suffix in _pyease_imp.get_suffixes() if suffix[2] == _pyease_imp.C_EXTENSION]
 import __main__
 import ast as _pyease_ast
 try:
@@ -43,6 +52,28 @@ except ImportError:
         _pyease_integer_types = (int,)
         _pyease_string_types = (str,)
 
+if _pyease_sys.version_info.major == 2:
+    _pyease_bytes_types = (bytearray,)
+else:
+    _pyease_bytes_types = (bytes, bytearray)
+
+# array typecode for 64 bit integers, 'q' is not available on Python 2
+try:
+    _pyease_LONG_TYPECODE = 'q' if _pyease_array.array('q').itemsize == 8 else None
+except ValueError:
+    _pyease_LONG_TYPECODE = 'l' if _pyease_array.array('l').itemsize == 8 else None
+
+# array typecodes matching java primitive component types, None when not available
+_pyease_ARRAY_TYPECODES = {
+    'double': 'd',
+    'float': 'f',
+    'long': _pyease_LONG_TYPECODE,
+    'int': 'i' if _pyease_array.array('i').itemsize == 4 else ('l' if _pyease_array.array('l').itemsize == 4 else None),
+    'short': 'h'}
+
+# Java side of bulk array transfers, see Py4jArrayTransfer
+_pyease_array_transfer = None
+
 # builtins used to set global variables
 try:
     # Python 3.*
@@ -65,6 +96,196 @@ def _pyease_patch_builtins(name, value):
     _pyease_builtins.__dict__.update({name: value})
 
 
+def _pyease_is_native_module(module):
+    '''
+    Checks whether a module is a native extension loaded from a shared
+    library.
+
+    :param module:  Module to check, may be None
+    :type module:   module
+    '''
+    location = getattr(module, '__file__', None)
+    return isinstance(location, _pyease_string_types) and location.endswith(tuple(_pyease_EXTENSION_SUFFIXES))
+
+
+def _pyease_is_numpy_array(value):
+    # do not use hasattr() on arbitrary objects, Java proxies provide any attribute
+    return type(value).__module__ == 'numpy' and hasattr(value, 'dtype') and hasattr(value, 'tobytes')
+
+
+def _pyease_to_payload(value, encoding):
+    '''
+    Packs a numeric sequence into a little endian payload for
+    Py4jArrayTransfer.
+
+    :param value:       list, tuple, array.array or numpy array
+    :param encoding:    'd' for 64 bit floats, 'q' for 64 bit integers
+    :returns:           payload or None when value cannot be packed
+    '''
+    if isinstance(value, _pyease_JavaObject):
+        return None
+
+    if _pyease_is_numpy_array(value):
+        if value.dtype.kind not in ('iuf' if encoding == 'd' else 'iu'):
+            return None
+        return bytearray(value.astype('<f8' if encoding == 'd' else '<i8').tobytes())
+
+    if not isinstance(value, (list, tuple, _pyease_array.array)):
+        return None
+
+    typecode = 'd' if encoding == 'd' else _pyease_LONG_TYPECODE
+    if typecode is None:
+        return None
+
+    try:
+        data = _pyease_array.array(typecode, value)
+    except (TypeError, ValueError, OverflowError):
+        return None
+
+    if _pyease_sys.byteorder == 'big':
+        data.byteswap()
+
+    return bytearray(data.tobytes() if hasattr(data, 'tobytes') else data.tostring())
+
+
+def _pyease_from_payload(data, encoding):
+    '''
+    Unpacks a little endian payload created by Py4jArrayTransfer.
+
+    :param data:        payload
+    :param encoding:    'd' for 64 bit floats, 'q' for 64 bit integers
+    :returns:           array.array
+    '''
+    result = _pyease_array.array('d' if encoding == 'd' else _pyease_LONG_TYPECODE)
+    if hasattr(result, 'frombytes'):
+        result.frombytes(bytes(data))
+    else:
+        result.fromstring(str(data))
+
+    if _pyease_sys.byteorder == 'big':
+        result.byteswap()
+
+    return result
+
+
+def _pyease_component_type(value, encoding):
+    '''
+    Detects the java component type for a sequence, keeping the element
+    size of array.array and numpy arrays.
+
+    :param value:       Sequence to be transferred.
+    :param encoding:    'd' for 64 bit floats, 'q' for 64 bit integers
+    :returns:           Java component type name, e.g. 'double'
+    '''
+    if isinstance(value, _pyease_array.array):
+        for component_type, typecode in _pyease_ARRAY_TYPECODES.items():
+            if typecode == value.typecode:
+                return component_type
+
+    elif _pyease_is_numpy_array(value):
+        if (value.dtype.kind == 'f') and (value.dtype.itemsize == 4):
+            return 'float'
+        if (value.dtype.kind == 'i') and (value.dtype.itemsize == 4):
+            return 'int'
+        if (value.dtype.kind == 'i') and (value.dtype.itemsize == 2):
+            return 'short'
+
+    return 'double' if encoding == 'd' else 'long'
+
+
+def _pyease_numeric_encoding(value):
+    '''
+    Detects the payload encoding for sequences that can be transferred in
+    bulk.
+
+    :param value:    Value to be transferred.
+    :returns:        'd', 'q' or None when value is not a homogeneous
+                     numeric sequence
+    '''
+    if isinstance(value, _pyease_array.array):
+        if value.typecode in 'fd':
+            return 'd'
+        if value.typecode in 'bBhHiIlLqQ':
+            return 'q'
+        return None
+
+    if _pyease_is_numpy_array(value):
+        if value.dtype.kind == 'f':
+            return 'd'
+        if value.dtype.kind in 'iu':
+            return 'q'
+        return None
+
+    if isinstance(value, list) and value:
+        if all(type(v) is float for v in value):
+            return 'd'
+        if all((type(v) in _pyease_integer_types) for v in value):
+            return 'q'
+
+    return None
+
+
+def _pyease_to_java_array(value, component_type):
+    '''
+    Converts a python sequence to a java array with a single call to Java.
+    Used by module wrappers for array parameters.
+
+    :param value:             Sequence to be converted.
+    :param component_type:    Java component type name, e.g. 'double'
+    :returns:                 Java array or None when no bulk conversion is
+                              available for value
+    '''
+    if component_type == 'byte':
+        if isinstance(value, _pyease_bytes_types):
+            return value
+        if isinstance(value, (list, tuple)):
+            try:
+                return bytearray(v & 0xff for v in value)
+            except TypeError:
+                pass
+        return None
+
+    if component_type in ('double', 'float'):
+        encoding = 'd'
+    elif component_type in ('long', 'int', 'short'):
+        encoding = 'q'
+    else:
+        return None
+
+    payload = _pyease_to_payload(value, encoding)
+    if payload is None:
+        return None
+
+    return _pyease_array_transfer.toArray(payload, encoding, component_type)
+
+
+def _pyease_from_java_array(value, component_type):
+    '''
+    Converts a primitive java array to a python array.array with a single
+    call to Java. Used by module wrappers for array results. The typecode of
+    the returned array matches the java component type, so the array
+    converts back to the same java type.
+
+    :param value:             Java array.
+    :param component_type:    Java component type name, e.g. 'double'
+    :returns:                 array.array or value if it cannot be converted
+    '''
+    typecode = _pyease_ARRAY_TYPECODES.get(component_type)
+    if (value is None) or (typecode is None):
+        return value
+
+    encoding = 'd' if component_type in ('double', 'float') else 'q'
+    if (encoding == 'q') and (_pyease_LONG_TYPECODE is None):
+        return value
+
+    data = _pyease_array_transfer.toBytes(value)
+    if data is None:
+        return value
+
+    result = _pyease_from_payload(data, encoding)
+    return result if result.typecode == typecode else _pyease_array.array(typecode, result)
+
+
 # To ease some debugging of the py4j engine itself it is useful to turn logging on,
 # uncomment the following lines for one way to do that
 # import logging
@@ -110,6 +331,17 @@ def convert_value(
     if isinstance(value, string_types):
         return value
 
+    # Homogeneous numeric sequences are transferred in a single call
+    if _pyease_array_transfer is not None:
+        encoding = _pyease_numeric_encoding(value)
+        if encoding:
+            payload = _pyease_to_payload(value, encoding)
+            if payload is not None:
+                if isinstance(value, list_types):
+                    return _pyease_array_transfer.toList(payload, encoding)
+
+                return _pyease_array_transfer.toArray(payload, encoding, _pyease_component_type(value, encoding))
+
     # Recursively check collections
     if isinstance(value, dict_types):
         return _pyease_MapConverter().convert({
@@ -271,6 +503,9 @@ class _pyease_ScriptEngineExecute(object):
         self.shutdown_event = _pyease_threading.Event()
 
     def set_gateway(self, gateway):
+        global _pyease_array_transfer
+        _pyease_array_transfer = gateway.entry_point.getArrayTransfer()
+
         self.gateway = gateway
         self.locals = __main__.__dict__
         self.interp = _pyease_EaseInteractiveConsole(self, self.locals)
@@ -301,10 +536,24 @@ class _pyease_ScriptEngineExecute(object):
         self.locals['py4j'] = py4j
         _pyease_patch_builtins('py4j', py4j)
 
+        # bulk array conversions used by module wrappers
+        _pyease_patch_builtins('_pyease_to_java_array', _pyease_to_java_array)
+        _pyease_patch_builtins('_pyease_from_java_array', _pyease_from_java_array)
+
         _pyease_sys.displayhook = self.displayhook
         self.display_data = None
         self.except_data = None
 
+        # remember clean state for engine resets
+        self.snapshot = {
+            'locals': dict(self.locals),
+            'builtins': dict(_pyease_builtins.__dict__),
+            'path': list(_pyease_sys.path),
+            'meta_path': list(_pyease_sys.meta_path),
+            'modules': dict(_pyease_sys.modules),
+            'argv': list(_pyease_sys.argv)
+        }
+
     def displayhook(self, data):
         self.display_data = data
         if data is not None:
@@ -340,6 +589,16 @@ class _pyease_ScriptEngineExecute(object):
     def executeInteractive(self, code_text):
         return self.executeCommon(code_text, self.interp.push)
 
+    def execute(self, code_text, filename=None, interactive=False):
+        # apply script arguments within the same request
+        if 'argv' in self.locals:
+            _pyease_sys.argv = self.locals['argv']
+
+        if interactive:
+            return self.executeInteractive(code_text)
+
+        return self.executeScript(code_text, filename)
+
     def internalGetVariable(self, name):
         return convert_value(self.locals.get(name), self.gateway._gateway_client)
 
@@ -360,6 +619,70 @@ class _pyease_ScriptEngineExecute(object):
         self.locals[name] = content
         _pyease_builtins.__dict__.update({name: content}) 
 
+    def internalSetVariables(self, payload):
+        '''
+        Sets multiple variables within a single call. The payload contains
+        Py4J command parts of alternating names and contents, see
+        Py4jVariableTransfer.
+        '''
+        client = self.gateway._gateway_client
+        values = [_pyease_get_return_value('y' + part, client) for part in payload.split('\n') if part]
+        variables = dict(zip(values[0::2], values[1::2]))
+
+        self.locals.update(variables)
+        _pyease_builtins.__dict__.update(variables)
+
+    def internalGetNamedVariables(self, names):
+        '''
+        Gets multiple variables within a single call. Returns the contents as
+        Py4J command parts in the order of the line feed separated names.
+        '''
+        client = self.gateway._gateway_client
+        pool = self.gateway.gateway_property.pool
+        return ''.join(
+            _pyease_get_command_part(convert_value(self.locals.get(name), client), pool).rstrip('\n') + '\n'
+            for name in names.split('\n'))
+
+    def resetEngine(self):
+        '''
+        Restore the namespace and interpreter state right after startup so
+        that this process can be reused by another engine.
+        '''
+        snapshot = self.snapshot
+
+        _pyease_sys.settrace(None)
+        _pyease_threading.settrace(None)
+
+        for name in [k for k in self.locals if k not in snapshot['locals']]:
+            del self.locals[name]
+        self.locals.update(snapshot['locals'])
+
+        for name in [k for k in _pyease_builtins.__dict__ if k not in snapshot['builtins']]:
+            del _pyease_builtins.__dict__[name]
+        _pyease_builtins.__dict__.update(snapshot['builtins'])
+
+        # native extensions cannot be initialized twice in a process, keep
+        # packages containing them loaded
+        added = [k for k in _pyease_sys.modules if k not in snapshot['modules']]
+        native = set(name.split('.')[0] for name in added if _pyease_is_native_module(_pyease_sys.modules[name]))
+        for name in added:
+            if name.split('.')[0] not in native:
+                del _pyease_sys.modules[name]
+        _pyease_sys.modules.update(snapshot['modules'])
+
+        _pyease_sys.path[:] = snapshot['path']
+        _pyease_sys.meta_path[:] = snapshot['meta_path']
+        _pyease_sys.argv = list(snapshot['argv'])
+        _pyease_sys.displayhook = self.displayhook
+
+        self.interp = _pyease_EaseInteractiveConsole(self, self.locals)
+        self.display_data = None
+        self.except_data = None
+
+        # release references to java objects of the previous engine
+        _pyease_gc.collect()
+        return True
+
     def teardownEngine(self):
         self.shutdown_event.set()
 
@@ -12,14 +12,19 @@ Contributors:
 # Python std library imports
 import ast as _pyease_ast
 import bdb as _pyease_bdb
+import dis as _pyease_dis
 import functools as _pyease_functools
 import re as _pyease_re
 import sys as _pyease_sys
 import threading as _pyease_threading
+import weakref as _pyease_weakref
 
 # : Regular expression if we are dealing with internal module.
 _pyease_INTERNAL_CHECKER = _pyease_re.compile(r'^<.+>$')
 
+# : Python 3.7+ allows to disable line events per frame while still tracing calls, returns and exceptions.
+_pyease_LINE_EVENT_CONTROL = hasattr(_pyease_sys._getframe(), 'f_trace_lines')
+
 
 class _pyease_PyFrame:
     '''
@@ -198,7 +203,6 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         # Caches for currently executed code parts
         self._current_frame = None
         self._last_exception_frame = None
-        self._current_file = None
 
         # Async continuation handling
         self._continue_event = _pyease_threading.Event()
@@ -207,6 +211,16 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         # TODO: Think about a better way to handle step return
         self._return_hack = False
 
+        # Files we already fetched breakpoints for from Java
+        self._synchronized_files = set()
+
+        # Cache of line numbers per code object, weak so code of finished
+        # scripts does not stay alive as long as the debugger
+        self._code_lines = _pyease_weakref.WeakKeyDictionary()
+
+        # Thread executing the traced script
+        self._thread_id = None
+
     def getCurrentFrame(self):
         if self._current_frame is not None:
         	  return _pyease_PyFrame(self._current_frame)
@@ -238,13 +252,98 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         :param frame:    Current stack frame.
         :param event:    Type of dispatch event that occurred.
         :param arg:      Optional argument for dispatching.
+        :returns:        Local trace function for new frames or ``None``
+                         if the frame does not need to be traced.
         '''
-        # Pre-filter to avoid issues with library internals
-        if not _pyease_ignore_frame(frame):
-            self._current_frame = frame
-            _pyease_bdb.Bdb.trace_dispatch(self, frame, event, arg)
-        
-        return self.trace_dispatch
+        if event == 'call':
+            # Decide once per frame instead of checking every line
+            if _pyease_ignore_frame(frame):
+                return None
+
+            self._synchronize_breakpoints(frame.f_code.co_filename)
+
+            if self.botframe is not None and not self._needs_line_events(frame):
+                # Keep tracing calls, returns and exceptions locally,
+                # line events get enabled when a breakpoint gets set
+                frame.f_trace_lines = False
+                return self.trace_dispatch
+
+        return _pyease_bdb.Bdb.trace_dispatch(self, frame, event, arg)
+
+    def _needs_line_events(self, frame):
+        '''
+        Checks if line events are needed for a newly called frame.
+
+        Line events are needed when stepping into code or when the code
+        object of the frame contains a breakpoint.
+
+        :param frame:    Frame to be checked.
+        :returns:        ``True`` if the frame needs line events.
+        '''
+        if not _pyease_LINE_EVENT_CONTROL:
+            return True
+
+        # Step into
+        if self.stopframe is None:
+            return True
+
+        linenos = self.breaks.get(self.canonic(frame.f_code.co_filename))
+        if not linenos:
+            return False
+
+        code_lines = self._get_code_lines(frame.f_code)
+        for lineno in linenos:
+            if lineno in code_lines:
+                return True
+
+        return False
+
+    def _get_code_lines(self, code):
+        '''
+        Get all line numbers of a code object.
+
+        :param code:    Code object to get line numbers for.
+        :returns:       Set of line numbers.
+        '''
+        code_lines = self._code_lines.get(code)
+        if code_lines is None:
+            code_lines = frozenset(lineno for _, lineno in _pyease_dis.findlinestarts(code) if lineno is not None)
+            self._code_lines[code] = code_lines
+
+        return code_lines
+
+    def _enable_line_events(self, frame, filename=None):
+        '''
+        Enables line events for already running frames.
+
+        :param frame:       Top frame of the stack to enable line events for.
+        :param filename:    Only enable frames of this canonical filename,
+                            ``None`` to enable all frames.
+        '''
+        if not _pyease_LINE_EVENT_CONTROL:
+            return
+
+        while frame is not None:
+            if frame.f_trace is not None:
+                if filename is None or self.canonic(frame.f_code.co_filename) == filename:
+                    frame.f_trace_lines = True
+
+            frame = frame.f_back
+
+    def _synchronize_breakpoints(self, filename):
+        '''
+        Fetches breakpoints of a file from Java.
+
+        Only done once per file, later changes are pushed by Java via
+        setBreakpoint() and removeBreakpoint().
+
+        :param filename:    Filename of the code to be executed.
+        '''
+        if self._debugger and filename not in self._synchronized_files:
+            self._synchronized_files.add(filename)
+
+            for breakpoint in self._debugger.getBreakpoints(filename):
+                self.setBreakpoint(breakpoint)
 
     def user_line(self, frame):
         '''
@@ -262,7 +361,9 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         :param frame:    Current stack frame with call information.
         :param argument_list:    ignored
         '''
-        self.dispatch(frame, 'call')
+        # bdb reports every call into files containing breakpoints
+        if self.stop_here(frame):
+            self.dispatch(frame, 'call')
 
     def user_return(self, frame, return_value):
         '''
@@ -317,6 +418,10 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         self._continue_event.wait()
         self._continue_func()
 
+        # Stepping may stop in any frame of the current stack
+        if self._continue_func != self.set_continue:
+            self._enable_line_events(self._current_frame)
+
     def suspend(self):
         '''
         Suspend the execution to wait for asynchronous callbacks
@@ -376,8 +481,13 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
             self.breaks[filename] = []
         linenos = self.breaks[filename]
         if lineno not in linenos:
-            linenos .append(lineno)
-        _pyease_bdb.Breakpoint(filename, lineno, 0, None, None)
+            linenos.append(lineno)
+            _pyease_bdb.Breakpoint(filename, lineno, 0, None, None)
+
+        # Code of the file might already be running without line events
+        if self._thread_id is not None:
+            frame = _pyease_sys._current_frames().get(self._thread_id)
+            self._enable_line_events(frame, filename)
 
     def removeBreakpoint(self, breakpoint):
         '''
@@ -390,30 +500,6 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
         lineno = breakpoint.getLineno()
         self.clear_break(filename, lineno)
 
-    def stop_here(self, frame):
-        '''
-        Hijacks frame check to see if currently executed file has changed.
-
-        If file changed new breakpoints will be loaded.
-
-        :param frame:    Current stack frame to check for file change.
-        '''
-        if self._debugger:
-            file = frame.f_code.co_filename
-            if file != self._current_file:
-                self._current_file = file
-                self.clear_all_file_breaks(file)
-
-                breakpoints = self._debugger.getBreakpoints(file)
-                for breakpoint in breakpoints:
-                    self.setBreakpoint(breakpoint)
-
-                # If we have breakpoints we want to let the debugger know
-                if breakpoints:
-                    return True
-
-        return _pyease_bdb.Bdb.stop_here(self, frame)
-
     def run(self, script, filename):
         '''
         Executes the script given using the bdb.Bdb.run method.
@@ -436,6 +522,9 @@ class _pyease_CodeTracer(_pyease_bdb.Bdb):
                     popped = field_[1].pop(-1)
                     final_expr.body = popped.value
 
+        self._thread_id = _pyease_threading.get_ident()
+        self._synchronize_breakpoints(filename)
+
         # Run code up to last expression
         return_value = None
         compiled = compile(ast_, filename, 'exec')
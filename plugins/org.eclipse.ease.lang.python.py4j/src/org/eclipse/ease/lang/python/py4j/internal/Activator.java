@@ -30,6 +30,8 @@ public class Activator extends AbstractUIPlugin {
 
 	@Override
 	public void stop(final BundleContext context) throws Exception {
+		Py4jProcessPool.shutdown();
+
 		fPlugin = null;
 		super.stop(context);
 	}
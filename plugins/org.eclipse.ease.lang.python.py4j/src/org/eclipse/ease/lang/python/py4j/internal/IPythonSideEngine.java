@@ -30,6 +30,19 @@ public interface IPythonSideEngine {
 	 */
 	IInteractiveReturn executeInteractive(String codeText) throws Throwable;
 
+	/**
+	 * Execute a block of code on the target. Before execution <code>sys.argv</code> is updated from the <i>argv</i> variable when available, so a script
+	 * execution needs a single request only.
+	 *
+	 * @param codeText
+	 *            code to execute
+	 * @param filename
+	 *            file name to be used for the code, not used in interactive mode
+	 * @param interactive
+	 *            <code>true</code> to execute as interactive line, <code>false</code> to execute as script
+	 */
+	IInteractiveReturn execute(String codeText, String filename, boolean interactive) throws Throwable;
+
 	/**
 	 * @see AbstractScriptEngine#internalGetVariable(String)
 	 */
@@ -50,6 +63,32 @@ public interface IPythonSideEngine {
 	 */
 	void internalSetVariable(String name, Object content);
 
+	/**
+	 * Set multiple variables within a single request.
+	 *
+	 * @param payload
+	 *            variable names and contents encoded by {@link Py4jVariableTransfer#encode(py4j.Gateway, Map)}
+	 * @see AbstractScriptEngine#setVariables(Map)
+	 */
+	void internalSetVariables(String payload);
+
+	/**
+	 * Get multiple variables within a single request.
+	 *
+	 * @param names
+	 *            variable names separated by line feeds
+	 * @return variable contents to be decoded by {@link Py4jVariableTransfer#decode(py4j.Gateway, java.util.List, String)}
+	 * @see AbstractScriptEngine#getVariables(java.util.Collection)
+	 */
+	String internalGetNamedVariables(String names);
+
+	/**
+	 * Restore the namespace of the Python side to its state right after startup. Used before a process gets reused by another engine.
+	 *
+	 * @return <code>true</code> when the reset succeeded
+	 */
+	boolean resetEngine();
+
 	/**
 	 * Tear down the Python side of the engine
 	 */
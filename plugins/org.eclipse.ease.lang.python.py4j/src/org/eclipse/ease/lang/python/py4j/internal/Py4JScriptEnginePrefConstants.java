@@ -21,4 +21,12 @@ public interface Py4JScriptEnginePrefConstants {
 
 	String IGNORE_PYTHON_ENV_VARIABLES = PREFIX + "IGNORE_PYTHON_ENV_VARIABLES";
 	boolean DEFAULT_IGNORE_PYTHON_ENV_VARIABLES = false;
+
+	/** Amount of Python processes to keep started for new engines. 0 disables the process pool. */
+	String POOL_SIZE = PREFIX + "POOL_SIZE";
+	int DEFAULT_POOL_SIZE = 0;
+
+	/** Time in seconds after which unused pooled processes get shut down. */
+	String POOL_IDLE_TIMEOUT = PREFIX + "POOL_IDLE_TIMEOUT";
+	int DEFAULT_POOL_IDLE_TIMEOUT = 300;
 }
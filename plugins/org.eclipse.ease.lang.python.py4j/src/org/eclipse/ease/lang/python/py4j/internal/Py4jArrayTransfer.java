@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk transfer of numeric sequences between python and java. Instead of transferring each element in a dedicated Py4J call, sequences are packed into a
+ * single byte payload. Py4J transfers byte arrays natively.
+ * <p>
+ * Payloads use little endian byte order and one of the following encodings, matching the type codes of the python <i>array</i> module:
+ * <ul>
+ * <li>{@value #ENCODING_DOUBLE}: 64 bit floating point numbers</li>
+ * <li>{@value #ENCODING_LONG}: 64 bit signed integers</li>
+ * </ul>
+ * Methods are called from the python side, do not change their synopsis.
+ */
+public class Py4jArrayTransfer {
+
+	public static final String ENCODING_DOUBLE = "d";
+
+	public static final String ENCODING_LONG = "q";
+
+	/**
+	 * Get the payload encoding for a java array.
+	 *
+	 * @param array
+	 *            java array
+	 * @return encoding or <code>null</code> when the array cannot be transferred as payload
+	 */
+	public static String getEncoding(Object array) {
+		if ((array instanceof double[]) || (array instanceof float[]))
+			return ENCODING_DOUBLE;
+
+		if ((array instanceof long[]) || (array instanceof int[]) || (array instanceof short[]))
+			return ENCODING_LONG;
+
+		return null;
+	}
+
+	/**
+	 * Pack a java array into a payload.
+	 *
+	 * @param array
+	 *            java array of type double[], float[], long[], int[] or short[]
+	 * @return payload or <code>null</code> when the array cannot be transferred as payload
+	 */
+	public static byte[] encode(Object array) {
+		if (array instanceof double[]) {
+			final double[] values = (double[]) array;
+			final ByteBuffer buffer = allocate(values.length);
+			buffer.asDoubleBuffer().put(values);
+			return buffer.array();
+
+		} else if (array instanceof float[]) {
+			final float[] values = (float[]) array;
+			final ByteBuffer buffer = allocate(values.length);
+			for (final float value : values)
+				buffer.putDouble(value);
+			return buffer.array();
+
+		} else if (array instanceof long[]) {
+			final long[] values = (long[]) array;
+			final ByteBuffer buffer = allocate(values.length);
+			buffer.asLongBuffer().put(values);
+			return buffer.array();
+
+		} else if (array instanceof int[]) {
+			final int[] values = (int[]) array;
+			final ByteBuffer buffer = allocate(values.length);
+			for (final int value : values)
+				buffer.putLong(value);
+			return buffer.array();
+
+		} else if (array instanceof short[]) {
+			final short[] values = (short[]) array;
+			final ByteBuffer buffer = allocate(values.length);
+			for (final short value : values)
+				buffer.putLong(value);
+			return buffer.array();
+		}
+
+		return null;
+	}
+
+	private static ByteBuffer allocate(int elements) {
+		return ByteBuffer.allocate(elements * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Unpack a payload to a primitive java array.
+	 *
+	 * @param data
+	 *            payload
+	 * @param encoding
+	 *            payload encoding
+	 * @param componentType
+	 *            name of the array component type, eg. 'double'
+	 * @return primitive java array
+	 * @throws IllegalArgumentException
+	 *             when the payload cannot be converted to the requested type
+	 */
+	public Object toArray(byte[] data, String encoding, String componentType) {
+		final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+		if (ENCODING_DOUBLE.equals(encoding)) {
+			final DoubleBuffer values = buffer.asDoubleBuffer();
+
+			if ("double".equals(componentType)) {
+				final double[] result = new double[values.remaining()];
+				values.get(result);
+				return result;
+
+			} else if ("float".equals(componentType)) {
+				final float[] result = new float[values.remaining()];
+				for (int index = 0; index < result.length; index++)
+					result[index] = (float) values.get(index);
+				return result;
+			}
+
+		} else if (ENCODING_LONG.equals(encoding)) {
+			final LongBuffer values = buffer.asLongBuffer();
+
+			if ("long".equals(componentType)) {
+				final long[] result = new long[values.remaining()];
+				values.get(result);
+				return result;
+
+			} else if ("int".equals(componentType)) {
+				final int[] result = new int[values.remaining()];
+				for (int index = 0; index < result.length; index++)
+					result[index] = (int) checkRange(values.get(index), Integer.MIN_VALUE, Integer.MAX_VALUE);
+				return result;
+
+			} else if ("short".equals(componentType)) {
+				final short[] result = new short[values.remaining()];
+				for (int index = 0; index < result.length; index++)
+					result[index] = (short) checkRange(values.get(index), Short.MIN_VALUE, Short.MAX_VALUE);
+				return result;
+			}
+		}
+
+		throw new IllegalArgumentException("Cannot convert " + encoding + " payload to " + componentType + "[]");
+	}
+
+	private static long checkRange(long value, long minimum, long maximum) {
+		if ((value < minimum) || (value > maximum))
+			throw new IllegalArgumentException("Value " + value + " out of range [" + minimum + ", " + maximum + "]");
+
+		return value;
+	}
+
+	/**
+	 * Unpack a payload to a java list. Integers are stored as {@link Integer} when they fit, as {@link Long} otherwise. This matches the conversion Py4J
+	 * applies to single numbers.
+	 *
+	 * @param data
+	 *            payload
+	 * @param encoding
+	 *            payload encoding
+	 * @return list of numbers
+	 */
+	public List<Object> toList(byte[] data, String encoding) {
+		final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+		if (ENCODING_DOUBLE.equals(encoding)) {
+			final DoubleBuffer values = buffer.asDoubleBuffer();
+			final List<Object> result = new ArrayList<>(values.remaining());
+			while (values.hasRemaining())
+				result.add(values.get());
+
+			return result;
+
+		} else if (ENCODING_LONG.equals(encoding)) {
+			final LongBuffer values = buffer.asLongBuffer();
+			final List<Object> result = new ArrayList<>(values.remaining());
+			while (values.hasRemaining()) {
+				final long value = values.get();
+				if ((value >= Integer.MIN_VALUE) && (value <= Integer.MAX_VALUE))
+					result.add((int) value);
+				else
+					result.add(value);
+			}
+
+			return result;
+		}
+
+		throw new IllegalArgumentException("Unknown payload encoding " + encoding);
+	}
+
+	/**
+	 * Pack a java array into a payload. Callers need to know the encoding, see {@link #getEncoding(Object)}.
+	 *
+	 * @param array
+	 *            java array of type double[], float[], long[], int[] or short[]
+	 * @return payload or <code>null</code> when the array cannot be transferred as payload
+	 */
+	public byte[] toBytes(Object array) {
+		return encode(array);
+	}
+}
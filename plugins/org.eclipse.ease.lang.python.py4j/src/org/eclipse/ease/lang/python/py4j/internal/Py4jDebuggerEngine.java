@@ -79,6 +79,12 @@ public class Py4jDebuggerEngine extends Py4jScriptEngine implements IPythonDebug
 		}
 	}
 
+	@Override
+	protected boolean isProcessReusable() {
+		// the python debugger hooks into the interpreter, do not hand this process to other engines
+		return false;
+	}
+
 	@Override
 	protected void teardownEngine() {
 		super.teardownEngine();
@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Kichwa Coders and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Jonah Graham (Kichwa Coders) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.ScriptEngineException;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.osgi.framework.Bundle;
+
+import py4j.ClientServer;
+import py4j.ClientServer.ClientServerBuilder;
+import py4j.Gateway;
+import py4j.JavaServer;
+
+/**
+ * A Python interpreter connected to its own Py4J gateway. A process is used by a single engine at a time but may be reused by several engines in sequence,
+ * see {@link Py4jProcessPool}.
+ */
+public class Py4jProcess {
+
+	private static final int PYTHON_STARTUP_TIMEOUT_SECONDS = 10;
+
+	private static final int PYTHON_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	/**
+	 * Path within this plug-in to the main python file.
+	 */
+	private static final String PYSRC_EASE_PY4J_MAIN_PY = "/pysrc/ease_py4j_main.py";
+
+	/**
+	 * The ID of the py4j sources plug-in, needs to match the name of the dependent plug-in.
+	 */
+	private static final String PY4J_PYTHON_BUNDLE_ID = "py4j-python";
+
+	/**
+	 * Output target discarding all data. Used while a process is not attached to an engine.
+	 */
+	private static final OutputStream DISCARD_STREAM = new OutputStream() {
+		@Override
+		public void write(int b) {
+			// discard
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// discard
+		}
+	};
+
+	/**
+	 * StreamGobbler forwarding to the output stream of the currently attached engine.
+	 */
+	private final class StreamGobbler implements Runnable {
+		private final InputStream fReader;
+		private final boolean fErrorStream;
+		private final String fStreamName;
+
+		private StreamGobbler(final InputStream stream, final boolean errorStream, final String streamName) {
+			fReader = stream;
+			fErrorStream = errorStream;
+			fStreamName = streamName;
+		}
+
+		@Override
+		public void run() {
+			try {
+				final byte[] bytes = new byte[512];
+				int readCount;
+				while ((readCount = fReader.read(bytes)) >= 0) {
+					try {
+						(fErrorStream ? fErrorOutput : fOutput).write(bytes, 0, readCount);
+					} catch (final IOException e) {
+						Logger.error(Activator.PLUGIN_ID, "Failed to write data read from Python's " + fStreamName + " stream.", e);
+					}
+				}
+			} catch (final IOException e) {
+				Logger.error(Activator.PLUGIN_ID, "Failed to read data from Python's " + fStreamName + " stream.", e);
+			}
+		}
+	}
+
+	/**
+	 * Get the command line to launch a python process for the current preference settings. The java port is not part of the command.
+	 *
+	 * @return launch command
+	 * @throws IOException
+	 *             when required python sources cannot be located
+	 * @throws URISyntaxException
+	 *             when required python sources cannot be located
+	 * @throws CoreException
+	 *             when the interpreter location cannot be resolved
+	 */
+	public static List<String> createLaunchCommand() throws IOException, URISyntaxException, CoreException {
+		final List<String> command = new ArrayList<>();
+
+		final IPreferenceStore preferenceStore = Activator.getDefault().getPreferenceStore();
+		String interpreter = preferenceStore.getString(Py4JScriptEnginePrefConstants.INTERPRETER);
+		final boolean ignorePythonEnvVariables = preferenceStore.getBoolean(Py4JScriptEnginePrefConstants.IGNORE_PYTHON_ENV_VARIABLES);
+		final IStringVariableManager variableManager = VariablesPlugin.getDefault().getStringVariableManager();
+		interpreter = variableManager.performStringSubstitution(interpreter);
+
+		command.add(interpreter);
+		command.add("-u");
+		if (ignorePythonEnvVariables) {
+			command.add("-E");
+		}
+		command.add(getPy4jEaseMainPy().toString());
+
+		return command;
+	}
+
+	private static List<String> getPythonPathAdditions() throws IOException {
+		final List<String> pathAdditions = new ArrayList<>();
+
+		pathAdditions.add(getPy4jPythonSrc().toString());
+
+		// Add EASE Python directory to python path
+		final Bundle bundle = Platform.getBundle("org.eclipse.ease.lang.python");
+		try {
+			URL url = bundle.getEntry("pysrc");
+			url = FileLocator.toFileURL(url);
+			final URI uri = new URI(url.getProtocol(), url.getPath(), null);
+			pathAdditions.add(new File(uri).getAbsolutePath());
+
+		} catch (final IllegalStateException e) {
+			Logger.error(Activator.PLUGIN_ID, "Cannot get entry pysrc because the plugin has not been initialized properly.", e);
+
+		} catch (final IOException | URISyntaxException e) {
+			Logger.error(Activator.PLUGIN_ID, "Cannot append additional Python modules to search path.", e);
+		}
+		return pathAdditions;
+	}
+
+	private static File getPy4jPythonSrc() throws IOException {
+		final File py4jPythonBundleFile = FileLocator.getBundleFile(Platform.getBundle(PY4J_PYTHON_BUNDLE_ID));
+		final File py4jPythonSrc = new File(py4jPythonBundleFile, "/src");
+		final File py4j = new File(py4jPythonSrc, "py4j");
+		if (!py4j.exists() || !py4j.isDirectory()) {
+			throw new IOException("Failed to find py4j python directory, expected it here: " + py4j);
+		}
+		return py4jPythonSrc;
+	}
+
+	private static File getPy4jEaseMainPy() throws MalformedURLException, IOException, URISyntaxException {
+		final URL url = new URL("platform:/plugin/" + Activator.PLUGIN_ID + PYSRC_EASE_PY4J_MAIN_PY);
+		final URL fileURL = FileLocator.toFileURL(url);
+		final File py4jEaseMain = new File(URIUtil.toURI(fileURL));
+		if (!py4jEaseMain.exists()) {
+			throw new IOException("Failed to find " + PYSRC_EASE_PY4J_MAIN_PY + ", expected it here: " + py4jEaseMain);
+		}
+		return py4jEaseMain;
+	}
+
+	private final List<String> fLaunchCommand;
+
+	private ClientServer fGatewayServer;
+	private IPythonSideEngine fPythonSideEngine;
+	private Process fPythonProcess;
+	private Thread fInputGobbler;
+	private Thread fErrorGobbler;
+
+	private final CountDownLatch fPythonStartupComplete = new CountDownLatch(1);
+
+	private final Py4jArrayTransfer fArrayTransfer = new Py4jArrayTransfer();
+
+	private volatile OutputStream fOutput = DISCARD_STREAM;
+	private volatile OutputStream fErrorOutput = DISCARD_STREAM;
+
+	/** Time this process got returned to the pool, 0 while in use. */
+	private volatile long fIdleSince = 0;
+
+	/**
+	 * Constructor. Does not start the process, see {@link #start()}.
+	 *
+	 * @param launchCommand
+	 *            command as provided by {@link #createLaunchCommand()}
+	 */
+	public Py4jProcess(List<String> launchCommand) {
+		fLaunchCommand = launchCommand;
+	}
+
+	/**
+	 * Start the gateway and the python interpreter. Blocks until the python side is connected.
+	 *
+	 * @throws ScriptEngineException
+	 *             when python does not connect in time
+	 * @throws IOException
+	 *             when the process cannot be started
+	 * @throws InterruptedException
+	 *             when interrupted while waiting for python
+	 */
+	public void start() throws ScriptEngineException, IOException, InterruptedException {
+		try {
+			fGatewayServer = new ClientServerBuilder(this).javaPort(0).pythonPort(0).build();
+			fGatewayServer.startServer(true);
+			final int javaListeningPort = ((JavaServer) fGatewayServer.getJavaServer()).getListeningPort();
+
+			final ProcessBuilder pb = new ProcessBuilder();
+			pb.command().addAll(fLaunchCommand);
+			pb.command().add(Integer.toString(javaListeningPort));
+			pb.command().addAll(getPythonPathAdditions());
+			fPythonProcess = pb.start();
+
+			fInputGobbler = new Thread(new StreamGobbler(fPythonProcess.getInputStream(), false, "stdout"), "EASE py4j engine output stream gobbler");
+			fInputGobbler.start();
+			fErrorGobbler = new Thread(new StreamGobbler(fPythonProcess.getErrorStream(), true, "stderr"), "EASE py4j engine error stream gobbler");
+			fErrorGobbler.start();
+
+			// TODO Handle python's stdin (fPythonProcess.getOutputStream())
+
+			if (!fPythonStartupComplete.await(PYTHON_STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				throw new ScriptEngineException("Python process did not start within " + PYTHON_STARTUP_TIMEOUT_SECONDS + " seconds");
+			}
+
+		} catch (ScriptEngineException | IOException | InterruptedException | RuntimeException e) {
+			destroy();
+			throw e;
+		}
+	}
+
+	// called by python, do not change synopsis
+	public Py4jArrayTransfer getArrayTransfer() {
+		return fArrayTransfer;
+	}
+
+	// called by python, do not change synopsis
+	public void pythonStartupComplete(final int pythonPort, final IPythonSideEngine pythonSideEngine) {
+		final JavaServer javaServer = (JavaServer) fGatewayServer.getJavaServer();
+		javaServer.resetCallbackClient(javaServer.getCallbackClient().getAddress(), pythonPort);
+		fPythonSideEngine = pythonSideEngine;
+		fPythonStartupComplete.countDown();
+	}
+
+	/**
+	 * Redirect python output to the streams of an engine.
+	 *
+	 * @param output
+	 *            target for python stdout
+	 * @param errorOutput
+	 *            target for python stderr
+	 */
+	public void attach(OutputStream output, OutputStream errorOutput) {
+		fOutput = (output != null) ? output : DISCARD_STREAM;
+		fErrorOutput = (errorOutput != null) ? errorOutput : DISCARD_STREAM;
+		fIdleSince = 0;
+	}
+
+	/**
+	 * Stop forwarding python output to the previously attached engine.
+	 */
+	public void detach() {
+		fOutput = DISCARD_STREAM;
+		fErrorOutput = DISCARD_STREAM;
+		fIdleSince = System.currentTimeMillis();
+	}
+
+	/**
+	 * Reset the python namespace so the process can be used by another engine. Also serves as health check.
+	 *
+	 * @return <code>true</code> when the process is alive and was reset successfully
+	 */
+	public boolean reset() {
+		if (!isAlive())
+			return false;
+
+		try {
+			return fPythonSideEngine.resetEngine();
+		} catch (final RuntimeException e) {
+			Logger.warning(Activator.PLUGIN_ID, "Failed to reset Python process, process will not be reused", e);
+			return false;
+		}
+	}
+
+	/**
+	 * Check that the python side still responds to requests.
+	 *
+	 * @return <code>true</code> when the process is usable
+	 */
+	public boolean isHealthy() {
+		if (!isAlive())
+			return false;
+
+		try {
+			return fPythonSideEngine.internalHasVariable("gateway");
+		} catch (final RuntimeException e) {
+			return false;
+		}
+	}
+
+	public boolean isAlive() {
+		return (fPythonProcess != null) && (fPythonProcess.isAlive()) && (fPythonSideEngine != null);
+	}
+
+	public List<String> getLaunchCommand() {
+		return fLaunchCommand;
+	}
+
+	public IPythonSideEngine getPythonSideEngine() {
+		return fPythonSideEngine;
+	}
+
+	/**
+	 * Get the gateway managing java objects referenced by python.
+	 *
+	 * @return gateway or <code>null</code> when the process is not started
+	 */
+	public Gateway getGateway() {
+		return (fGatewayServer != null) ? fGatewayServer.getJavaServer().getGateway() : null;
+	}
+
+	public Process getProcess() {
+		return fPythonProcess;
+	}
+
+	/**
+	 * Get the time this process was returned to the pool.
+	 *
+	 * @return system time in milliseconds, 0 when in use
+	 */
+	public long getIdleSince() {
+		return fIdleSince;
+	}
+
+	/**
+	 * Forcibly kill the python interpreter, eg to terminate a running script.
+	 */
+	public void kill() {
+		if (fPythonProcess != null)
+			fPythonProcess.destroyForcibly();
+	}
+
+	/**
+	 * Shut down the python interpreter and the gateway.
+	 */
+	public void destroy() {
+		// TODO: this clean shutdown isn't working as intended.
+		// Sometimes (on Linux) the Python process seems to shutdown
+		// before fully acknowledging the call to teardownEngine, leaving
+		// us in a worst state than if we shutdown not-cleanly.
+		// When/if this is resurrected, the fPythonProcess.destroy();
+		// below should be removed.
+		// if (fPythonSideEngine != null) {
+		// // try a clean shutdown
+		// fPythonSideEngine.teardownEngine();
+		// }
+
+		if (fPythonProcess != null) {
+			fPythonProcess.destroy();
+
+			try {
+				fPythonProcess.waitFor(PYTHON_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				// finish the teardown, but don't wait around
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (fGatewayServer != null)
+			fGatewayServer.shutdown();
+
+		if (fPythonProcess != null) {
+			// The clean shutdown had a chance, now time for a force shutdown
+			fPythonProcess.destroyForcibly();
+		}
+
+		try {
+			// Wait until the gobblers have shovelled all their
+			// inputs before allowing the engine to considered terminated
+			if (fInputGobbler != null)
+				fInputGobbler.join();
+
+			if (fErrorGobbler != null)
+				fErrorGobbler.join();
+
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// allow for garbage collection
+		fGatewayServer = null;
+		fPythonSideEngine = null;
+		fPythonProcess = null;
+		fInputGobbler = null;
+		fErrorGobbler = null;
+
+		detach();
+	}
+}
@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.ScriptEngineException;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+/**
+ * Pool of started Python processes. Engines lease a process on startup and return it on teardown. Returned processes get reset to a clean namespace and are
+ * kept for the next engine. The pool keeps up to {@link Py4JScriptEnginePrefConstants#POOL_SIZE} processes started in advance, so engines do not need to wait
+ * for interpreter startup. Processes idle for longer than {@link Py4JScriptEnginePrefConstants#POOL_IDLE_TIMEOUT} seconds get shut down. The pool gets
+ * refilled on the next lease only, so an unused pool does not keep python processes alive. A pool size of 0 disables pooling.
+ */
+public class Py4jProcessPool {
+
+	/** Interval to check for idle processes in milliseconds. */
+	private static final long EVICTION_INTERVAL = 10 * 1000;
+
+	private static Py4jProcessPool fInstance = null;
+
+	public static synchronized Py4jProcessPool getInstance() {
+		if (fInstance == null)
+			fInstance = new Py4jProcessPool();
+
+		return fInstance;
+	}
+
+	/**
+	 * Shut down all idle processes of the pool. Processes in use are not affected.
+	 */
+	public static synchronized void shutdown() {
+		if (fInstance != null) {
+			fInstance.dispose();
+			fInstance = null;
+		}
+	}
+
+	/** Processes ready to be leased, most recently returned last. */
+	private final Deque<Py4jProcess> fIdleProcesses = new ArrayDeque<>();
+
+	/** Amount of processes currently started in advance or reset to join the pool. */
+	private int fPendingProcesses = 0;
+
+	private boolean fDisposed = false;
+
+	private final Job fRefillJob = new Job("Start Python processes") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			while ((!monitor.isCanceled()) && (reservePoolSlot())) {
+				Py4jProcess process = null;
+				try {
+					process = new Py4jProcess(Py4jProcess.createLaunchCommand());
+					process.start();
+
+				} catch (final Exception e) {
+					Logger.warning(Activator.PLUGIN_ID, "Could not start Python process for process pool", e);
+					process = null;
+
+				} finally {
+					if ((!releasePoolSlot(process, false)) && (process != null))
+						process.destroy();
+				}
+
+				if (process == null)
+					break;
+			}
+
+			return Status.OK_STATUS;
+		}
+	};
+
+	private final Job fEvictionJob = new Job("Shut down idle Python processes") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			evictIdleProcesses();
+
+			if (getIdleProcessCount() > 0)
+				schedule(EVICTION_INTERVAL);
+
+			return Status.OK_STATUS;
+		}
+	};
+
+	private Py4jProcessPool() {
+		fRefillJob.setSystem(true);
+		fEvictionJob.setSystem(true);
+	}
+
+	/**
+	 * Lease a python process. Reuses an idle process when available, otherwise a new process gets started. Leased processes need to be returned via
+	 * {@link #release(Py4jProcess, boolean)}.
+	 *
+	 * @return connected python process
+	 * @throws ScriptEngineException
+	 *             when python does not connect in time
+	 * @throws IOException
+	 *             when the process cannot be started
+	 * @throws URISyntaxException
+	 *             when required python sources cannot be located
+	 * @throws CoreException
+	 *             when the interpreter location cannot be resolved
+	 * @throws InterruptedException
+	 *             when interrupted while waiting for python
+	 */
+	public Py4jProcess lease() throws ScriptEngineException, IOException, URISyntaxException, CoreException, InterruptedException {
+		final List<String> launchCommand = Py4jProcess.createLaunchCommand();
+
+		Py4jProcess process;
+		while ((process = pollIdleProcess()) != null) {
+			if ((launchCommand.equals(process.getLaunchCommand())) && (process.isHealthy())) {
+				refill();
+				return process;
+			}
+
+			// outdated settings or broken connection
+			process.destroy();
+		}
+
+		process = new Py4jProcess(launchCommand);
+		process.start();
+
+		refill();
+		return process;
+	}
+
+	/**
+	 * Return a process to the pool. The process gets reset and kept for reuse when the pool is enabled and not full, otherwise it is shut down without a
+	 * reset.
+	 *
+	 * @param process
+	 *            process to return
+	 * @param reusable
+	 *            <code>false</code> when the process state was altered in a way that cannot be reset
+	 */
+	public void release(Py4jProcess process, boolean reusable) {
+		process.detach();
+
+		if ((reusable) && (reservePoolSlot())) {
+			if (releasePoolSlot(process.reset() ? process : null, true))
+				return;
+		}
+
+		process.destroy();
+	}
+
+	public synchronized int getIdleProcessCount() {
+		return fIdleProcesses.size();
+	}
+
+	private synchronized Py4jProcess pollIdleProcess() {
+		// prefer most recently used processes, older ones will get evicted
+		return fIdleProcesses.pollLast();
+	}
+
+	private void refill() {
+		if (getPoolSize() > 0)
+			fRefillJob.schedule();
+	}
+
+	/**
+	 * Reserve room in the pool for a process that is about to be started or reset.
+	 *
+	 * @return <code>true</code> when the pool may take another process
+	 */
+	private synchronized boolean reservePoolSlot() {
+		if ((!fDisposed) && ((fIdleProcesses.size() + fPendingProcesses) < getPoolSize())) {
+			fPendingProcesses++;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Release a slot reserved by {@link #reservePoolSlot()} and add the process to the idle processes. The caller needs to destroy the process when it was
+	 * not added.
+	 *
+	 * @param process
+	 *            process to add or <code>null</code> when the process could not be prepared
+	 * @param mostRecent
+	 *            <code>true</code> to prefer this process on the next lease
+	 * @return <code>true</code> when the process was added to the pool
+	 */
+	private boolean releasePoolSlot(Py4jProcess process, boolean mostRecent) {
+		synchronized (this) {
+			fPendingProcesses--;
+
+			if ((process == null) || (fDisposed) || (fIdleProcesses.size() >= getPoolSize()))
+				return false;
+
+			process.detach();
+			if (mostRecent)
+				fIdleProcesses.addLast(process);
+			else
+				fIdleProcesses.addFirst(process);
+		}
+
+		scheduleEviction();
+		return true;
+	}
+
+	private void scheduleEviction() {
+		if (fEvictionJob.getState() == Job.NONE)
+			fEvictionJob.schedule(EVICTION_INTERVAL);
+	}
+
+	private void evictIdleProcesses() {
+		final long evictionTime = System.currentTimeMillis() - (getIdleTimeout() * 1000L);
+
+		final Collection<Py4jProcess> evictedProcesses = new ArrayList<>();
+		synchronized (this) {
+			final Iterator<Py4jProcess> iterator = fIdleProcesses.iterator();
+			while (iterator.hasNext()) {
+				final Py4jProcess process = iterator.next();
+				if ((process.getIdleSince() < evictionTime) || (!process.isAlive())) {
+					evictedProcesses.add(process);
+					iterator.remove();
+				}
+			}
+		}
+
+		for (final Py4jProcess process : evictedProcesses)
+			process.destroy();
+	}
+
+	private void dispose() {
+		fRefillJob.cancel();
+		fEvictionJob.cancel();
+
+		final Collection<Py4jProcess> processes;
+		synchronized (this) {
+			fDisposed = true;
+			processes = new ArrayList<>(fIdleProcesses);
+			fIdleProcesses.clear();
+		}
+
+		for (final Py4jProcess process : processes)
+			process.destroy();
+	}
+
+	private static int getPoolSize() {
+		final IPreferenceStore preferenceStore = getPreferenceStore();
+		return (preferenceStore != null) ? Math.max(0, preferenceStore.getInt(Py4JScriptEnginePrefConstants.POOL_SIZE)) : 0;
+	}
+
+	private static int getIdleTimeout() {
+		final IPreferenceStore preferenceStore = getPreferenceStore();
+		return (preferenceStore != null) ? preferenceStore.getInt(Py4JScriptEnginePrefConstants.POOL_IDLE_TIMEOUT) : 0;
+	}
+
+	private static IPreferenceStore getPreferenceStore() {
+		final Activator activator = Activator.getDefault();
+		return (activator != null) ? activator.getPreferenceStore() : null;
+	}
+}
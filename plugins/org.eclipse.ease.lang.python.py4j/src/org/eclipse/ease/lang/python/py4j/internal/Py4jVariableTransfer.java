@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import py4j.Gateway;
+import py4j.Protocol;
+
+/**
+ * Bulk transfer of script variables between python and java. Instead of setting or getting each variable in a dedicated Py4J call, variables are packed
+ * into a single string payload.
+ * <p>
+ * The payload consists of Py4J command parts, each terminated by a line feed. This is the encoding Py4J uses for call parameters: primitives and strings
+ * are transferred by value, other objects by reference. Line feeds within strings are escaped by Py4J.
+ * </p>
+ */
+public final class Py4jVariableTransfer {
+
+	private static final char SEPARATOR = '\n';
+
+	private Py4jVariableTransfer() {
+		// utility class
+	}
+
+	/**
+	 * Pack variables into a payload. Variable names and contents alternate within the payload.
+	 *
+	 * @param gateway
+	 *            gateway used to register transferred java objects
+	 * @param variables
+	 *            variables to pack: name -> content
+	 * @return payload
+	 */
+	public static String encode(Gateway gateway, Map<String, Object> variables) {
+		final StringBuilder payload = new StringBuilder();
+		for (final Entry<String, Object> entry : variables.entrySet()) {
+			payload.append(gateway.getReturnObject(entry.getKey()).getCommandPart()).append(SEPARATOR);
+			payload.append(gateway.getReturnObject(entry.getValue()).getCommandPart()).append(SEPARATOR);
+		}
+
+		return payload.toString();
+	}
+
+	/**
+	 * Unpack variable contents from a payload.
+	 *
+	 * @param gateway
+	 *            gateway used to resolve transferred java objects
+	 * @param names
+	 *            variable names in the order of the payload contents
+	 * @param payload
+	 *            payload containing one command part per variable name
+	 * @return variables: name -> content
+	 * @throws IllegalArgumentException
+	 *             when the payload does not match the variable names
+	 */
+	public static Map<String, Object> decode(Gateway gateway, List<String> names, String payload) {
+		final List<String> commandParts = split(payload);
+		if (commandParts.size() != names.size())
+			throw new IllegalArgumentException("Expected " + names.size() + " variables, got " + commandParts.size());
+
+		final Map<String, Object> variables = new HashMap<>();
+		for (int index = 0; index < names.size(); index++)
+			variables.put(names.get(index), Protocol.getObject(commandParts.get(index), gateway));
+
+		return variables;
+	}
+
+	private static List<String> split(String payload) {
+		final List<String> commandParts = new ArrayList<>();
+
+		int start = 0;
+		while (start < payload.length()) {
+			int end = payload.indexOf(SEPARATOR, start);
+			if (end == -1)
+				end = payload.length();
+
+			commandParts.add(payload.substring(start, end));
+			start = end + 1;
+		}
+
+		return commandParts;
+	}
+}
@@ -26,6 +26,8 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		preferenceStore.setDefault(Py4JScriptEnginePrefConstants.INTERPRETER, Py4JScriptEnginePrefConstants.DEFAULT_INTERPRETER);
 		preferenceStore.setDefault(Py4JScriptEnginePrefConstants.IGNORE_PYTHON_ENV_VARIABLES,
 				Py4JScriptEnginePrefConstants.DEFAULT_IGNORE_PYTHON_ENV_VARIABLES);
+		preferenceStore.setDefault(Py4JScriptEnginePrefConstants.POOL_SIZE, Py4JScriptEnginePrefConstants.DEFAULT_POOL_SIZE);
+		preferenceStore.setDefault(Py4JScriptEnginePrefConstants.POOL_IDLE_TIMEOUT, Py4JScriptEnginePrefConstants.DEFAULT_POOL_IDLE_TIMEOUT);
 	}
 
 }
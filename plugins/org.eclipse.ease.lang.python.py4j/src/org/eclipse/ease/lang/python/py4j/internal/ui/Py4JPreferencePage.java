@@ -26,6 +26,7 @@ import org.eclipse.jface.dialogs.IMessageProvider;
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.FileFieldEditor;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.StringFieldEditor;
 import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
@@ -178,6 +179,18 @@ public class Py4JPreferencePage extends FieldEditorPreferencePage implements IWo
 		booleanFieldEditor.getDescriptionControl(fieldEditorParent).setToolTipText(
 				"Ignore all PYTHON* environment variables, e.g. PYTHONPATH and PYTHONHOME, that might be set. (-E command line option to Python)");
 		addField(booleanFieldEditor);
+
+		final IntegerFieldEditor poolSizeEditor = new IntegerFieldEditor(Py4JScriptEnginePrefConstants.POOL_SIZE, "Python processes to keep started:",
+				fieldEditorParent);
+		poolSizeEditor.setValidRange(0, 16);
+		poolSizeEditor.getLabelControl(fieldEditorParent)
+				.setToolTipText("Python processes started in advance and reused by new engines. Set to 0 to start a dedicated process for each engine.");
+		addField(poolSizeEditor);
+
+		final IntegerFieldEditor idleTimeoutEditor = new IntegerFieldEditor(Py4JScriptEnginePrefConstants.POOL_IDLE_TIMEOUT,
+				"Shut down unused processes after (seconds):", fieldEditorParent);
+		idleTimeoutEditor.setValidRange(0, Integer.MAX_VALUE);
+		addField(idleTimeoutEditor);
 	}
 
 }
@@ -47,6 +47,9 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 	 */
 	private static final List<Class<?>> PRIMITIVES = Arrays.asList(short.class, int.class, long.class, float.class, double.class, boolean.class, char.class);
 
+	/** Primitive types supporting bulk array transfers in Py4J. */
+	private static final List<Class<?>> NUMERIC_PRIMITIVES = Arrays.asList(short.class, int.class, long.class, float.class, double.class);
+
 	/**
 	 * Returns the Python (py4j) identifier for the given class.
 	 *
@@ -88,13 +91,16 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 	}
 
 	/**
-	 * Create wrapper code to convert an array parameter to actual Java array.
+	 * Create wrapper code to convert an array parameter to actual Java array. Numeric sequences are transferred in bulk by the Py4J engine, other values are
+	 * copied element by element.
 	 *
 	 * Generated code will have the following look: {@code
 	 * 	try:
-	 * 		tmp = gateway.new_array([array type], len([value to be converted]))
-	 *      for index, value in enumerate([value to be converted]):
-	 *          tmp[index] = value
+	 * 		tmp = _pyease_to_java_array([value to be converted], "[component type]")
+	 * 		if tmp is None:
+	 * 			tmp = gateway.new_array([array type], len([value to be converted]))
+	 *          for index, value in enumerate([value to be converted]):
+	 *              tmp[index] = value
 	 *      [value to be converted] = tmp
 	 *  except NameError:
 	 *      pass
@@ -111,9 +117,12 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 			final String variableName = toSafeNameStatic(parameter.getName());
 			builder.append(String.format("if %s is not None:", variableName)).append(StringTools.LINE_DELIMITER);
 			builder.append("    try:").append(StringTools.LINE_DELIMITER);
-			builder.append(String.format("        tmp = gateway.new_array(%s, len(%s))", arrayType, variableName)).append(StringTools.LINE_DELIMITER);
-			builder.append(String.format("        for index, value in enumerate(%s):", variableName)).append(StringTools.LINE_DELIMITER);
-			builder.append("            tmp[index] = value").append(StringTools.LINE_DELIMITER);
+			builder.append(String.format("        tmp = _pyease_to_java_array(%s, \"%s\")", variableName, parameter.getClazz().getComponentType().getName()))
+					.append(StringTools.LINE_DELIMITER);
+			builder.append("        if tmp is None:").append(StringTools.LINE_DELIMITER);
+			builder.append(String.format("            tmp = gateway.new_array(%s, len(%s))", arrayType, variableName)).append(StringTools.LINE_DELIMITER);
+			builder.append(String.format("            for index, value in enumerate(%s):", variableName)).append(StringTools.LINE_DELIMITER);
+			builder.append("                tmp[index] = value").append(StringTools.LINE_DELIMITER);
 			builder.append(String.format("        %s =  tmp", variableName)).append(StringTools.LINE_DELIMITER);
 			builder.append("    except NameError:").append(StringTools.LINE_DELIMITER);
 			builder.append("        pass").append(StringTools.LINE_DELIMITER);
@@ -185,7 +194,11 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 			methodCall.delete(0, 2);
 		}
 
-		final String body = buildMethodBody(parameters, method, moduleVariable, environment);
+		final String methodId = environment.registerMethod(method);
+		final String body = buildMethodBody(parameters, method, methodId, moduleVariable, environment);
+
+		// callbacks get enabled by the environment when needed
+		pythonCode.append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(" = False\n");
 
 		// build function declarations
 		for (final String name : getMethodNames(method)) {
@@ -205,10 +218,10 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 		return pythonCode.toString();
 	}
 
-	private String buildMethodBody(List<Parameter> parameters, Method method, String classIdentifier, IEnvironment environment) {
+	private String buildMethodBody(List<Parameter> parameters, Method method, String methodId, String classIdentifier, IEnvironment environment) {
 		final StringBuilder body = new StringBuilder();
 
-		final String methodId = environment.registerMethod(method);
+		final boolean isPy4J = environment.getScriptEngine().getDescription().getID().startsWith("org.eclipse.ease.lang.python.py4j");
 
 		// insert deprecation warnings
 		if (ModuleHelper.isDeprecated(method))
@@ -221,19 +234,26 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 		// convert numbers to double/float where needed
 		body.append(buildNumberConversions(parameters)).append(StringTools.LINE_DELIMITER);
 
-		// check for callbacks
-		body.append(String.format("if not %s.hasMethodCallback(\"%s\"):%n", EnvironmentModule.getWrappedVariableName(environment), methodId));
+		// check for callbacks, the script flag avoids a call to the java layer when no callbacks are registered for this method. The java layer is still
+		// queried periodically as it checks for script cancellation
+		final String callCounter = EnvironmentModule.getCallCounterVariableName(environment);
+		body.append(String.format("global %s%n", callCounter));
+		body.append(String.format("%s += 1%n", callCounter));
+		body.append(String.format("if (not %s and %s %% %d != 0) or not %s.hasMethodCallback(\"%s\"):%n",
+				EnvironmentModule.getCallbackFlagVariableName(environment, methodId), callCounter, EnvironmentModule.CANCELLATION_CHECK_INTERVAL,
+				EnvironmentModule.getWrappedVariableName(environment), methodId));
 		if (Objects.equals(Void.TYPE, method.getReturnType())) {
 			body.append(String.format("    %s.%s(%s)%n", classIdentifier, method.getName(), buildParameterList(parameters)));
 			body.append(String.format("    return %s.VOID%n", ScriptResult.class.getName()));
 		} else
-			body.append(String.format("    return %s.%s(%s)%n", classIdentifier, method.getName(), buildParameterList(parameters)));
+			body.append(String.format("    return %s%n",
+					buildResultConversion(method, String.format("%s.%s(%s)", classIdentifier, method.getName(), buildParameterList(parameters)), isPy4J)));
 
 		body.append(StringTools.LINE_DELIMITER);
 
 		// execution with callbacks
 		body.append("else:").append(StringTools.LINE_DELIMITER);
-		if (environment.getScriptEngine().getDescription().getID().startsWith("org.eclipse.ease.lang.python.py4j")) {
+		if (isPy4J) {
 			// special handling for Py4J as it cannot use java varargs parameters directly
 			body.append("    ").append("parameters_array = gateway.new_array(gateway.jvm.Object, ").append(parameters.size()).append(")")
 					.append(StringTools.LINE_DELIMITER);
@@ -262,11 +282,30 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 		if (Objects.equals(Void.TYPE, method.getReturnType())) {
 			body.append(String.format("    return %s.VOID%n", ScriptResult.class.getName()));
 		} else
-			body.append(String.format("    return %s%n", RESULT_NAME));
+			body.append(String.format("    return %s%n", buildResultConversion(method, RESULT_NAME, isPy4J)));
 
 		return body.toString();
 	}
 
+	/**
+	 * Convert numeric array results to python arrays. Py4J would return a proxy, where each element access needs a call to Java. The Py4J engine transfers
+	 * these arrays in bulk instead.
+	 *
+	 * @param method
+	 *            called method
+	 * @param result
+	 *            expression providing the method result
+	 * @param isPy4J
+	 *            <code>true</code> when code is created for the Py4J engine
+	 * @return expression providing the converted result
+	 */
+	private static String buildResultConversion(Method method, String result, boolean isPy4J) {
+		if ((isPy4J) && (method.getReturnType().isArray()) && (NUMERIC_PRIMITIVES.contains(method.getReturnType().getComponentType())))
+			return String.format("_pyease_from_java_array(%s, \"%s\")", result, method.getReturnType().getComponentType().getName());
+
+		return result;
+	}
+
 	@Override
 	public String getSaveVariableName(final String variableName) {
 		return PythonHelper.getSaveName(variableName);
@@ -343,6 +382,6 @@ public class PythonCodeFactory extends AbstractCodeFactory {
 	 * @return wrapper code to be loaded by python
 	 */
 	public String createPep302WrapperCode(EnvironmentModule environment, Object instance, String identifier) {
-		return createWrapper(environment, instance, identifier, false, environment.getScriptEngine());
+		return getWrapperCode(environment, instance, identifier, false, environment.getScriptEngine());
 	}
 }
@@ -78,7 +78,8 @@ public class RubyCodeFactory extends AbstractCodeFactory {
 
 		// insert hooked pre execution code
 		body.append("\t$").append(EnvironmentModule.getWrappedVariableName(environment)).append(".preMethodCallback('").append(methodId).append("'")
-				.append(parameters.isEmpty() ? "" : ", ").append(parameterList).append(");").append(StringTools.LINE_DELIMITER);
+				.append(parameters.isEmpty() ? "" : ", ").append(parameterList).append(") if $").append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId))
+				.append(";").append(StringTools.LINE_DELIMITER);
 
 		// insert method call
 		if (Modifier.isStatic(method.getModifiers()))
@@ -91,11 +92,14 @@ public class RubyCodeFactory extends AbstractCodeFactory {
 
 		// insert hooked post execution code
 		body.append("\t$").append(EnvironmentModule.getWrappedVariableName(environment)).append(".postMethodCallback('").append(methodId).append("', ")
-				.append(RESULT_NAME).append(");").append(StringTools.LINE_DELIMITER);
+				.append(RESULT_NAME).append(") if $").append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(";").append(StringTools.LINE_DELIMITER);
 
 		// insert return statement
 		body.append("\treturn ").append(RESULT_NAME).append(";\n");
 
+		// callbacks get enabled by the environment when needed
+		rubyScriptCode.append('$').append(EnvironmentModule.getCallbackFlagVariableName(environment, methodId)).append(" = false;\n");
+
 		// build function declarations
 		for (final String name : getMethodNames(method)) {
 			if (!isValidMethodName(name)) {
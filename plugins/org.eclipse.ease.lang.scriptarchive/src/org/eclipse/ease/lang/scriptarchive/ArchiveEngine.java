@@ -1,6 +1,7 @@
 package org.eclipse.ease.lang.scriptarchive;
 
 import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -11,15 +12,9 @@ import java.util.Properties;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.ease.AbstractScriptEngine;
-import org.eclipse.ease.Activator;
 import org.eclipse.ease.IScriptEngine;
 import org.eclipse.ease.Logger;
 import org.eclipse.ease.Script;
@@ -30,93 +25,9 @@ import org.eclipse.ease.service.IScriptService;
 import org.eclipse.ease.service.ScriptService;
 import org.eclipse.ease.service.ScriptType;
 import org.eclipse.ease.tools.ResourceTools;
-import org.eclipse.ease.tools.ResourceTools.NonClosingInputStream;
 
 public class ArchiveEngine extends AbstractScriptEngine implements IScriptEngine {
 
-	/**
-	 * Unpack an archive into a workspace project.
-	 *
-	 * @param archive
-	 *            archive to be unpacked
-	 * @param project
-	 *            project to unpack to
-	 * @throws CoreException
-	 *             when project resources cannot be created
-	 */
-	private static void unpackArchive(Object archive, IProject project) throws CoreException {
-		final InputStream inputStream = ResourceTools.getInputStream(archive);
-		if (inputStream != null) {
-			final ZipInputStream stream = new ZipInputStream(new BufferedInputStream(inputStream));
-			try {
-
-				ZipEntry entry = stream.getNextEntry();
-
-				while (entry != null) {
-					IPath path = new Path(entry.getName());
-					path = path.removeFirstSegments(1).makeAbsolute();
-
-					// do not recreate .project file
-					if (!new Path("/.project").equals(path)) {
-						final IFile file = project.getFile(path);
-						ResourceTools.createFolder(file.getParent());
-						file.create(new NonClosingInputStream(stream), true, new NullProgressMonitor());
-					}
-
-					entry = stream.getNextEntry();
-				}
-
-			} catch (final IOException e) {
-				Logger.error(Activator.PLUGIN_ID, "Invalid archive detected", e);
-
-				if (stream != null) {
-					try {
-						stream.close();
-					} catch (final IOException e1) {
-					}
-				}
-			}
-		}
-	}
-
-	/**
-	 * Unpack an archive into a workspace project.
-	 *
-	 * @param archive
-	 *            archive to be unpacked
-	 * @return local workspace project
-	 * @throws CoreException
-	 *             when project resources cannot be created
-	 */
-	private static IProject unpack(Object archive) throws CoreException {
-		final IProject project = createProject("__EASE_ScriptArchive_");
-		unpackArchive(archive, project);
-
-		return project;
-	}
-
-	/**
-	 * Create a project in the workspace. The project will be opened and is ready to be used.
-	 *
-	 * @param prefix
-	 *            prefix to be used for the project name
-	 * @return created project instance
-	 * @throws CoreException
-	 *             on project creation errors
-	 */
-	private static IProject createProject(String prefix) throws CoreException {
-		int count = 1;
-		IProject candidate = ResourcesPlugin.getWorkspace().getRoot().getProject(prefix + count);
-		while (candidate.exists()) {
-			count++;
-			candidate = ResourcesPlugin.getWorkspace().getRoot().getProject(prefix + count);
-		}
-
-		candidate.create(new NullProgressMonitor());
-		candidate.open(new NullProgressMonitor());
-		return candidate;
-	}
-
 	/**
 	 * Get a file from an archive as an input stream. As the stream is returned directly, it needs to be closed by the calling method.
 	 *
@@ -157,50 +68,8 @@ public class ArchiveEngine extends AbstractScriptEngine implements IScriptEngine
 		return null;
 	}
 
-	private static int countArchivedFiles(Object archive) {
-		final InputStream inputStream = ResourceTools.getInputStream(archive);
-		if (inputStream != null) {
-			try (ZipInputStream stream = new ZipInputStream(new BufferedInputStream(inputStream))) {
-				int count = 0;
-				ZipEntry entry = stream.getNextEntry();
-				while (entry != null) {
-					count++;
-					entry = stream.getNextEntry();
-				}
-
-				return count;
-
-			} catch (final IOException e) {
-			}
-		}
-
-		return -1;
-	}
-
-	public static Properties getManifest(Object archive) {
-		final InputStream manifestStream = getArchiveStream(archive, "/META-INF/MANIFEST.MF");
-		if (manifestStream != null) {
-
-			try {
-				final Properties properties = new Properties();
-				properties.load(manifestStream);
-
-				return properties;
-			} catch (final IOException e) {
-				Logger.error(PluginConstants.PLUGIN_ID, "Could not read archive", e);
-
-			} finally {
-				try {
-					manifestStream.close();
-				} catch (final IOException e) {
-				}
-			}
-		}
-
-		return null;
-	}
-
 	private IScriptEngine fInternalEngine;
+	private ScriptArchive fArchive;
 	private Properties fManifest;
 	private List<URL> fRegisteredJars = null;
 
@@ -222,7 +91,13 @@ public class ArchiveEngine extends AbstractScriptEngine implements IScriptEngine
 			final Script script = getScheduledScripts().get(0);
 			final Object input = script.getCommand();
 
-			fManifest = getManifest(input);
+			try {
+				fArchive = ScriptArchive.open(input);
+				fManifest = fArchive.getManifest();
+			} catch (final IOException e) {
+				throw new ScriptEngineException("Could not read archive", e);
+			}
+
 			if (fManifest != null) {
 				// manifest found
 				final Object mainScript = fManifest.get("Main-Script");
@@ -266,31 +141,39 @@ public class ArchiveEngine extends AbstractScriptEngine implements IScriptEngine
 			// release local engine
 			fInternalEngine = null;
 		}
+
+		if (fArchive != null) {
+			try {
+				fArchive.close();
+			} catch (final IOException e) {
+				// ignore
+			}
+
+			fArchive = null;
+		}
 	}
 
 	@Override
 	protected Object execute(Script script, String fileName, boolean uiThread) throws Throwable {
 
-		final Object input = script.getCommand();
 		final Object mainScript = fManifest.get("Main-Script");
 
 		// see if we need to unpack the archive
 		final Object mainScriptObject;
 
-		final int archivedFiles = countArchivedFiles(input);
-		if (archivedFiles > 2) {
-			// there is more than the manifest and the main script file
+		if (fArchive.getFileCount() > 2) {
+			// there is more than the manifest and the main script file, extract to be able to include other files
 			try {
-				final IProject localProject = unpack(input);
-				mainScriptObject = localProject.getFile(new Path(mainScript.toString()));
+				final File root = fArchive.extract();
+				mainScriptObject = ScriptArchive.getExtractedFile(root, mainScript.toString());
 
-			} catch (final CoreException e) {
-				throw new ScriptEngineException("Could not create temporary project", e);
+			} catch (final IOException e) {
+				throw new ScriptEngineException("Could not extract archive", e);
 			}
 
 		} else {
 			// execute directly from archive
-			mainScriptObject = getArchiveStream(input, mainScript.toString());
+			mainScriptObject = fArchive.getInputStream(mainScript.toString());
 		}
 
 		if (mainScriptObject != null) {
@@ -306,10 +189,6 @@ public class ArchiveEngine extends AbstractScriptEngine implements IScriptEngine
 						((InputStream) mainScriptObject).close();
 					} catch (final Exception e) {
 					}
-				} else if (mainScriptObject instanceof IFile) {
-					// we had a local project, delete it
-					final IProject project = ((IFile) mainScriptObject).getProject();
-					project.delete(true, new NullProgressMonitor());
 				}
 			}
 
@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.scriptarchive;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.tools.ResourceTools;
+import org.osgi.framework.Bundle;
+
+/**
+ * Random access to a script archive. The archive is opened once via its central directory. Archives that are not available as local files are copied to a
+ * cache folder first. Extracted archives are cached by content hash, so an unchanged archive is extracted only once. The content hash of local files is only
+ * computed when the archive needs to be extracted.
+ * <p>
+ * Extracted files and folders are read-only as they are shared between script runs. Cache entries used by open archives are not pruned.
+ * </p>
+ * <p>
+ * Entry names are relative to the root folder of the archive, eg. 'root/META-INF/MANIFEST.MF' is accessible as '/META-INF/MANIFEST.MF'.
+ */
+final class ScriptArchive implements Closeable {
+
+	private static final String MANIFEST = "/META-INF/MANIFEST.MF";
+
+	/** Amount of archive copies and extracted archives kept in the cache. */
+	private static final int MAX_CACHED_ARCHIVES = 16;
+
+	private static final String ARCHIVES_FOLDER = "archives";
+
+	private static final String EXTRACTED_FOLDER = "extracted";
+
+	private static final String ARCHIVE_EXTENSION = ".zip";
+
+	/** Cache entries used by open archives along with their usage count. */
+	private static final Map<File, Integer> USED_CACHE_ENTRIES = new HashMap<>();
+
+	/**
+	 * Open a script archive.
+	 *
+	 * @param archive
+	 *            archive source: file, stream or uri
+	 * @return opened archive
+	 * @throws IOException
+	 *             when the archive cannot be read
+	 */
+	static ScriptArchive open(Object archive) throws IOException {
+		if (!(archive instanceof InputStream)) {
+			final File file = ResourceTools.toFile(ResourceTools.resolve(archive));
+			if ((file != null) && (file.isFile()))
+				return new ScriptArchive(file, null);
+		}
+
+		final InputStream input = ResourceTools.getInputStream(archive);
+		if (input == null)
+			throw new IOException("Cannot read archive \"" + archive + "\"");
+
+		final File archiveFile;
+		try {
+			archiveFile = copyToCache(input);
+		} finally {
+			input.close();
+		}
+
+		try {
+			final ScriptArchive scriptArchive = new ScriptArchive(archiveFile,
+					archiveFile.getName().substring(0, archiveFile.getName().length() - ARCHIVE_EXTENSION.length()));
+			scriptArchive.fUsedCacheEntries.add(archiveFile);
+			return scriptArchive;
+
+		} catch (final IOException e) {
+			releaseCacheEntry(archiveFile);
+			throw e;
+		}
+	}
+
+	/**
+	 * Mark a cache entry as used. Used entries are not removed by {@link #pruneCache(File)}.
+	 *
+	 * @param entry
+	 *            cache entry
+	 */
+	private static void acquireCacheEntry(File entry) {
+		synchronized (USED_CACHE_ENTRIES) {
+			USED_CACHE_ENTRIES.merge(entry, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Release a cache entry previously acquired by {@link #acquireCacheEntry(File)}.
+	 *
+	 * @param entry
+	 *            cache entry
+	 */
+	private static void releaseCacheEntry(File entry) {
+		synchronized (USED_CACHE_ENTRIES) {
+			USED_CACHE_ENTRIES.computeIfPresent(entry, (key, count) -> (count > 1) ? count - 1 : null);
+		}
+	}
+
+	private static boolean isUsedCacheEntry(File entry) {
+		synchronized (USED_CACHE_ENTRIES) {
+			return USED_CACHE_ENTRIES.containsKey(entry);
+		}
+	}
+
+	/**
+	 * Copy an archive stream to the cache folder. The copy is named by its content hash. The returned cache entry is acquired and needs to be released by
+	 * the caller.
+	 *
+	 * @param input
+	 *            archive stream
+	 * @return cached archive file
+	 * @throws IOException
+	 *             when the archive cannot be copied
+	 */
+	private static File copyToCache(InputStream input) throws IOException {
+		final File folder = getCacheFolder(ARCHIVES_FOLDER);
+
+		final File temporaryFile = File.createTempFile("archive", ".tmp", folder);
+		try {
+			final String hash;
+			try (OutputStream output = new FileOutputStream(temporaryFile)) {
+				hash = computeHash(input, output);
+			}
+
+			final File archiveFile = new File(folder, hash + ARCHIVE_EXTENSION);
+			acquireCacheEntry(archiveFile);
+
+			try {
+				if (!archiveFile.exists()) {
+					try {
+						Files.move(temporaryFile.toPath(), archiveFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+					} catch (final FileAlreadyExistsException e) {
+						// concurrently copied by another engine
+					}
+
+					pruneCache(folder);
+				} else
+					archiveFile.setLastModified(System.currentTimeMillis());
+
+				return archiveFile;
+
+			} catch (final IOException e) {
+				releaseCacheEntry(archiveFile);
+				throw e;
+			}
+
+		} finally {
+			Files.deleteIfExists(temporaryFile.toPath());
+		}
+	}
+
+	/**
+	 * Compute the SHA-256 hash of a stream.
+	 *
+	 * @param input
+	 *            stream to read
+	 * @param output
+	 *            optional stream to copy content to, may be <code>null</code>
+	 * @return hex encoded hash
+	 * @throws IOException
+	 *             when the stream cannot be read
+	 */
+	private static String computeHash(InputStream input, OutputStream output) throws IOException {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IOException("SHA-256 not supported", e);
+		}
+
+		final DigestInputStream digestStream = new DigestInputStream(input, digest);
+		final byte[] buffer = new byte[8192];
+		int bytes;
+		while ((bytes = digestStream.read(buffer)) != -1) {
+			if (output != null)
+				output.write(buffer, 0, bytes);
+		}
+
+		final StringBuilder hash = new StringBuilder();
+		for (final byte b : digest.digest())
+			hash.append(String.format("%02x", b));
+
+		return hash.toString();
+	}
+
+	private static File getCacheFolder(String name) throws IOException {
+		File root;
+		try {
+			final Bundle bundle = Platform.getBundle(PluginConstants.PLUGIN_ID);
+			root = (bundle != null) ? Platform.getStateLocation(bundle).toFile() : null;
+		} catch (final IllegalStateException e) {
+			// no instance location available
+			root = null;
+		}
+
+		if (root == null)
+			root = new File(System.getProperty("java.io.tmpdir"), PluginConstants.PLUGIN_ID);
+
+		final File folder = new File(root, name);
+		if ((!folder.isDirectory()) && (!folder.mkdirs()))
+			throw new IOException("Cannot create cache folder \"" + folder + "\"");
+
+		return folder;
+	}
+
+	/**
+	 * Remove least recently used entries from a cache folder. Temporary files of ongoing copy or extraction operations and entries used by open archives are not
+	 * touched.
+	 *
+	 * @param folder
+	 *            cache folder to prune
+	 */
+	private static void pruneCache(File folder) {
+		final File[] entries = folder.listFiles((dir, name) -> name.endsWith(ARCHIVE_EXTENSION) || (!name.contains(".")));
+		if ((entries != null) && (entries.length > MAX_CACHED_ARCHIVES)) {
+			Arrays.sort(entries, Comparator.comparingLong(File::lastModified).reversed());
+
+			for (int index = MAX_CACHED_ARCHIVES; index < entries.length; index++) {
+				if (isUsedCacheEntry(entries[index]))
+					continue;
+
+				try {
+					delete(entries[index]);
+				} catch (final IOException e) {
+					// still in use, try again on next prune
+				}
+			}
+		}
+	}
+
+	private static void delete(File file) throws IOException {
+		// extracted content is read-only
+		try (Stream<java.nio.file.Path> paths = Files.walk(file.toPath())) {
+			paths.forEach(path -> path.toFile().setWritable(true));
+		}
+
+		try (Stream<java.nio.file.Path> paths = Files.walk(file.toPath())) {
+			final Iterable<java.nio.file.Path> reversed = () -> paths.sorted(Comparator.reverseOrder()).iterator();
+			for (final java.nio.file.Path path : reversed)
+				Files.deleteIfExists(path);
+		}
+	}
+
+	/**
+	 * Make extracted content read-only. Folders are processed after their content.
+	 *
+	 * @param folder
+	 *            root folder of extracted content
+	 * @throws IOException
+	 *             when the folder cannot be traversed
+	 */
+	private static void setReadOnly(java.nio.file.Path folder) throws IOException {
+		try (Stream<java.nio.file.Path> paths = Files.walk(folder)) {
+			final Iterable<java.nio.file.Path> reversed = () -> paths.sorted(Comparator.reverseOrder()).iterator();
+			for (final java.nio.file.Path path : reversed)
+				path.toFile().setReadOnly();
+		}
+	}
+
+	private final File fFile;
+
+	private final ZipFile fZipFile;
+
+	/** Content hash, computed on demand for local files. */
+	private String fHash;
+
+	/** Cache entries acquired by this archive, released on {@link #close()}. */
+	private final Collection<File> fUsedCacheEntries = new ArrayList<>();
+
+	/** File entries by absolute archive path. */
+	private final Map<String, ZipEntry> fEntries = new HashMap<>();
+
+	private ScriptArchive(File file, String hash) throws IOException {
+		fFile = file;
+		fZipFile = new ZipFile(file);
+		fHash = hash;
+
+		final Enumeration<? extends ZipEntry> entries = fZipFile.entries();
+		while (entries.hasMoreElements()) {
+			final ZipEntry entry = entries.nextElement();
+			if (!entry.isDirectory())
+				fEntries.put(toArchivePath(entry.getName()), entry);
+		}
+	}
+
+	private static String toArchivePath(String name) {
+		return new Path(name).removeFirstSegments(1).makeAbsolute().toString();
+	}
+
+	/**
+	 * Get a file from the archive. The returned stream needs to be closed by the caller.
+	 *
+	 * @param filename
+	 *            name of file within archive to look for
+	 * @return {@link InputStream} or <code>null</code>
+	 * @throws IOException
+	 *             when the entry cannot be read
+	 */
+	InputStream getInputStream(String filename) throws IOException {
+		final ZipEntry entry = fEntries.get(new Path(filename).makeAbsolute().toString());
+		return (entry != null) ? fZipFile.getInputStream(entry) : null;
+	}
+
+	/**
+	 * Read the archive manifest.
+	 *
+	 * @return manifest properties or <code>null</code> when the archive does not contain a manifest
+	 * @throws IOException
+	 *             when the manifest cannot be read
+	 */
+	Properties getManifest() throws IOException {
+		try (InputStream input = getInputStream(MANIFEST)) {
+			if (input != null) {
+				final Properties properties = new Properties();
+				properties.load(input);
+				return properties;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get the amount of files within the archive. Folders are not counted.
+	 *
+	 * @return file count
+	 */
+	int getFileCount() {
+		return fEntries.size();
+	}
+
+	/**
+	 * Extract the archive to the file system. Extracted content is cached, so subsequent calls for the same archive content return the same folder. The
+	 * returned folder is read-only and must not be modified.
+	 *
+	 * @return root folder of extracted archive
+	 * @throws IOException
+	 *             when the archive cannot be extracted
+	 */
+	synchronized File extract() throws IOException {
+		if (fHash == null) {
+			try (InputStream input = new FileInputStream(fFile)) {
+				fHash = computeHash(input, null);
+			}
+		}
+
+		final File folder = getCacheFolder(EXTRACTED_FOLDER);
+
+		final File target = new File(folder, fHash);
+		if (!fUsedCacheEntries.contains(target)) {
+			acquireCacheEntry(target);
+			fUsedCacheEntries.add(target);
+		}
+
+		if (target.isDirectory()) {
+			target.setLastModified(System.currentTimeMillis());
+			return target;
+		}
+
+		final java.nio.file.Path temporaryFolder = Files.createTempDirectory(folder.toPath(), fHash + ".");
+		try {
+			for (final Map.Entry<String, ZipEntry> entry : fEntries.entrySet()) {
+				// do not extract eclipse project files or files outside of the root folder
+				if (("/.project".equals(entry.getKey())) || ("/".equals(entry.getKey())))
+					continue;
+
+				final java.nio.file.Path file = temporaryFolder.resolve(entry.getKey().substring(1)).normalize();
+				if (!file.startsWith(temporaryFolder))
+					throw new IOException("Invalid archive entry \"" + entry.getValue().getName() + "\"");
+
+				Files.createDirectories(file.getParent());
+				try (InputStream input = fZipFile.getInputStream(entry.getValue())) {
+					Files.copy(input, file);
+				}
+			}
+
+			setReadOnly(temporaryFolder);
+
+			try {
+				Files.move(temporaryFolder, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (final IOException e) {
+				// concurrently extracted by another engine
+				if (!target.isDirectory())
+					throw e;
+			}
+
+			pruneCache(folder);
+			return target;
+
+		} finally {
+			if (Files.exists(temporaryFolder))
+				delete(temporaryFolder.toFile());
+		}
+	}
+
+	/**
+	 * Get a file of the extracted archive.
+	 *
+	 * @param root
+	 *            root folder as returned by {@link #extract()}
+	 * @param filename
+	 *            name of file within archive
+	 * @return file within extracted archive
+	 */
+	static File getExtractedFile(File root, String filename) {
+		final IPath path = new Path(filename).makeRelative();
+		return new File(root, path.toOSString());
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		for (final File entry : fUsedCacheEntries)
+			releaseCacheEntry(entry);
+
+		fUsedCacheEntries.clear();
+
+		fZipFile.close();
+	}
+}
@@ -68,6 +68,7 @@ public class OverviewPage extends AbstractEditorPage {
 	private Button fChkPromoteFailuresToErrors;
 	private Button fChkStopSuiteOnError;
 	private Button fChkRunTeardownOnError;
+	private Button fChkParallelExecution;
 	private ComboViewer fEngineComboViewer;
 	private Label fLblTestFilesCount;
 	private Label fLblDefinedVariablesCount;
@@ -249,6 +250,11 @@ public class OverviewPage extends AbstractEditorPage {
 		managedForm.getToolkit().adapt(fChkRunTeardownOnError, true, true);
 		fChkRunTeardownOnError.setText("Run teardown on error");
 
+		fChkParallelExecution = new Button(composite_2, SWT.CHECK);
+		fChkParallelExecution.setLayoutData(new GridData(SWT.LEFT, SWT.CENTER, false, false, 2, 1));
+		managedForm.getToolkit().adapt(fChkParallelExecution, true, true);
+		fChkParallelExecution.setText("Execute test files in parallel threads");
+
 		populateContent();
 
 		// add change listeners
@@ -282,6 +288,13 @@ public class OverviewPage extends AbstractEditorPage {
 				updateFlag(Flag.RUN_TEARDOWN_ON_ERROR, Boolean.toString(fChkRunTeardownOnError.getSelection()));
 			}
 		});
+
+		fChkParallelExecution.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateFlag(Flag.PARALLEL_EXECUTION, Boolean.toString(fChkParallelExecution.getSelection()));
+			}
+		});
 	}
 
 	private void updateFlag(Flag flag, String value) {
@@ -323,6 +336,7 @@ public class OverviewPage extends AbstractEditorPage {
 		fChkPromoteFailuresToErrors.setSelection(getTestSuiteDefinition().getFlag(Flag.PROMOTE_FAILURE_TO_ERROR, false));
 		fChkStopSuiteOnError.setSelection(getTestSuiteDefinition().getFlag(Flag.STOP_SUITE_ON_ERROR, false));
 		fChkRunTeardownOnError.setSelection(getTestSuiteDefinition().getFlag(Flag.RUN_TEARDOWN_ON_ERROR, true));
+		fChkParallelExecution.setSelection(getTestSuiteDefinition().getFlag(Flag.PARALLEL_EXECUTION, false));
 
 		final String selectedEngine = getTestSuiteDefinition().getFlag(Flag.PREFERRED_ENGINE_ID, "");
 		if (!selectedEngine.isEmpty()) {
@@ -42,6 +42,7 @@ public class TestSuiteCreationPage extends WizardNewFileCreationPage {
 		testSuite.getFlags().put(Flag.STOP_SUITE_ON_ERROR, "false");
 		testSuite.getFlags().put(Flag.RUN_TEARDOWN_ON_ERROR, "true");
 		testSuite.getFlags().put(Flag.THREAD_COUNT, "1");
+		testSuite.getFlags().put(Flag.PARALLEL_EXECUTION, "false");
 
 		try {
 			return new ByteArrayInputStream(UnitTestHelper.serializeTestSuite(testSuite));
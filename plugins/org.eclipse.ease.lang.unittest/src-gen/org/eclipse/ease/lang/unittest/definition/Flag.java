@@ -65,7 +65,15 @@ public enum Flag implements Enumerator {
 	 * @generated
 	 * @ordered
 	 */
-	PREFERRED_ENGINE_ID(5, "PREFERRED_ENGINE_ID", "PREFERRED_ENGINE_ID");
+	PREFERRED_ENGINE_ID(5, "PREFERRED_ENGINE_ID", "PREFERRED_ENGINE_ID"),
+	/**
+	 * The '<em><b>PARALLEL EXECUTION</b></em>' literal object. <!-- begin-user-doc --> <!-- end-user-doc -->
+	 * 
+	 * @see #PARALLEL_EXECUTION_VALUE
+	 * @generated
+	 * @ordered
+	 */
+	PARALLEL_EXECUTION(6, "PARALLEL_EXECUTION", "PARALLEL_EXECUTION");
 
 	/**
 	 * The '<em><b>UNDEFINED</b></em>' literal value. <!-- begin-user-doc -->
@@ -151,13 +159,27 @@ public enum Flag implements Enumerator {
 	 */
 	public static final int PREFERRED_ENGINE_ID_VALUE = 5;
 
+	/**
+	 * The '<em><b>PARALLEL EXECUTION</b></em>' literal value. <!-- begin-user-doc -->
+	 * <p>
+	 * Enables concurrent execution of test files, using up to {@link #THREAD_COUNT} threads.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * 
+	 * @see #PARALLEL_EXECUTION
+	 * @model
+	 * @generated
+	 * @ordered
+	 */
+	public static final int PARALLEL_EXECUTION_VALUE = 6;
+
 	/**
 	 * An array of all the '<em><b>Flag</b></em>' enumerators. <!-- begin-user-doc --> <!-- end-user-doc -->
 	 * 
 	 * @generated
 	 */
 	private static final Flag[] VALUES_ARRAY = new Flag[] { UNDEFINED, THREAD_COUNT, PROMOTE_FAILURE_TO_ERROR, STOP_SUITE_ON_ERROR, RUN_TEARDOWN_ON_ERROR,
-			PREFERRED_ENGINE_ID, };
+			PREFERRED_ENGINE_ID, PARALLEL_EXECUTION, };
 
 	/**
 	 * A public read-only list of all the '<em><b>Flag</b></em>' enumerators. <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -224,6 +246,8 @@ public enum Flag implements Enumerator {
 			return RUN_TEARDOWN_ON_ERROR;
 		case PREFERRED_ENGINE_ID_VALUE:
 			return PREFERRED_ENGINE_ID;
+		case PARALLEL_EXECUTION_VALUE:
+			return PARALLEL_EXECUTION;
 		}
 		return null;
 	}
@@ -538,6 +538,7 @@ public class DefinitionPackage extends EPackageImpl implements IDefinitionPackag
 		addEEnumLiteral(flagEEnum, Flag.STOP_SUITE_ON_ERROR);
 		addEEnumLiteral(flagEEnum, Flag.RUN_TEARDOWN_ON_ERROR);
 		addEEnumLiteral(flagEEnum, Flag.PREFERRED_ENGINE_ID);
+		addEEnumLiteral(flagEEnum, Flag.PARALLEL_EXECUTION);
 
 		// Initialize data types
 		initEDataType(pathEDataType, IPath.class, "Path", IS_SERIALIZABLE, !IS_GENERATED_INSTANCE_CLASS);
@@ -63,6 +63,20 @@ public abstract class TestContainer extends TestEntity implements ITestContainer
 	 */
 	protected Object resource = RESOURCE_EDEFAULT;
 
+	/**
+	 * Amount of children per aggregated status, indexed by {@link TestStatus#getValue()}. Guarded by {@link #STATUS_LOCK}.
+	 *
+	 * @generated NOT
+	 */
+	private final int[] fChildStatusCount = new int[TestStatus.VALUES.size()];
+
+	/**
+	 * Amount of children containing errors. Guarded by {@link #STATUS_LOCK}.
+	 *
+	 * @generated NOT
+	 */
+	private int fChildErrorCount = 0;
+
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
 	 *
@@ -124,7 +138,7 @@ public abstract class TestContainer extends TestEntity implements ITestContainer
 	 * @generated NOT
 	 */
 	@Override
-	public ITest getTest(String name) {
+	public synchronized ITest getTest(String name) {
 		for (final ITestEntity child : getCopyOfChildren()) {
 			if ((child instanceof ITest) && (name.equals(child.getName())))
 				return (ITest) child;
@@ -134,10 +148,7 @@ public abstract class TestContainer extends TestEntity implements ITestContainer
 		final ITest test = IRuntimeFactory.eINSTANCE.createTest();
 		test.setName(name);
 		test.setEntityStatus(TestStatus.RUNNING);
-
-		synchronized (this) {
-			getChildren().add(test);
-		}
+		getChildren().add(test);
 
 		return test;
 	}
@@ -309,11 +320,13 @@ public abstract class TestContainer extends TestEntity implements ITestContainer
 	 * @generated NOT
 	 */
 	@Override
-	public TestStatus getStatus() {
-		int status = super.getStatus().getValue();
+	protected TestStatus computeStatus() {
+		int status = super.computeStatus().getValue();
 
-		for (final ITestEntity child : getCopyOfChildren())
-			status = Math.max(status, child.getStatus().getValue());
+		for (int index = fChildStatusCount.length - 1; index > status; index--) {
+			if (fChildStatusCount[index] > 0)
+				return TestStatus.get(index);
+		}
 
 		return TestStatus.get(status);
 	}
@@ -322,13 +335,92 @@ public abstract class TestContainer extends TestEntity implements ITestContainer
 	 * @generated NOT
 	 */
 	@Override
-	public boolean hasError() {
-		for (final ITestEntity child : getCopyOfChildren()) {
-			if (child.hasError())
-				return true;
+	protected boolean computeError() {
+		return (fChildErrorCount > 0) || super.computeError();
+	}
+
+	/**
+	 * @generated NOT
+	 */
+	@Override
+	protected void handleStatusNotification(Notification notification) {
+		if (IRuntimePackage.Literals.TEST_CONTAINER__CHILDREN.equals(notification.getFeature())) {
+			synchronized (STATUS_LOCK) {
+				switch (notification.getEventType()) {
+				case Notification.ADD:
+					addStatusOf(notification.getNewValue());
+					break;
+
+				case Notification.ADD_MANY:
+					for (final Object child : (Collection<?>) notification.getNewValue())
+						addStatusOf(child);
+					break;
+
+				case Notification.REMOVE:
+					removeStatusOf(notification.getOldValue());
+					break;
+
+				case Notification.REMOVE_MANY:
+					for (final Object child : (Collection<?>) notification.getOldValue())
+						removeStatusOf(child);
+					break;
+
+				case Notification.SET:
+					removeStatusOf(notification.getOldValue());
+					addStatusOf(notification.getNewValue());
+					break;
+
+				default:
+					// ordering changes do not affect the status
+					break;
+				}
+
+				updateStatus();
+			}
+
+		} else
+			super.handleStatusNotification(notification);
+	}
+
+	/**
+	 * Called by children when their aggregated status changes. Needs to be called while holding {@link #STATUS_LOCK}.
+	 *
+	 * @generated NOT
+	 */
+	void childStatusChanged(TestStatus oldStatus, boolean oldError, TestStatus newStatus, boolean newError) {
+		fChildStatusCount[oldStatus.getValue()]--;
+		fChildStatusCount[newStatus.getValue()]++;
+
+		if (oldError != newError)
+			fChildErrorCount += newError ? 1 : -1;
+
+		updateStatus();
+	}
+
+	/**
+	 * @generated NOT
+	 */
+	private void addStatusOf(Object child) {
+		if ((child instanceof TestEntity) && (((TestEntity) child).getStatusListener() == null)) {
+			((TestEntity) child).setStatusListener(this);
+
+			fChildStatusCount[((TestEntity) child).getStatus().getValue()]++;
+			if (((TestEntity) child).hasError())
+				fChildErrorCount++;
 		}
+	}
 
-		return super.hasError();
+	/**
+	 * @generated NOT
+	 */
+	private void removeStatusOf(Object child) {
+		if ((child instanceof TestEntity) && (((TestEntity) child).getStatusListener() == this)) {
+			((TestEntity) child).setStatusListener(null);
+
+			fChildStatusCount[((TestEntity) child).getStatus().getValue()]--;
+			if (((TestEntity) child).hasError())
+				fChildErrorCount--;
+		}
 	}
 
 	/**
@@ -209,6 +209,55 @@ public abstract class TestEntity extends MinimalEObjectImpl.Container implements
 	 */
 	protected boolean terminated = TERMINATED_EDEFAULT;
 
+	/**
+	 * Lock guarding aggregated status information of all entities. A single lock is used as status changes propagate from children to their parents.
+	 *
+	 * @generated NOT
+	 */
+	protected static final Object STATUS_LOCK = new Object();
+
+	/**
+	 * Cached result of {@link #getStatus()}, <code>null</code> when not calculated yet.
+	 *
+	 * @generated NOT
+	 */
+	private TestStatus fAggregatedStatus = null;
+
+	/**
+	 * Cached result of {@link #hasError()}.
+	 *
+	 * @generated NOT
+	 */
+	private boolean fAggregatedError = false;
+
+	/**
+	 * Worst status value of all results, collected by {@link #updateResultStatus()}.
+	 *
+	 * @generated NOT
+	 */
+	private int fResultStatus = TestStatus.NOT_RUN_VALUE;
+
+	/**
+	 * <code>true</code> when an error result exists.
+	 *
+	 * @generated NOT
+	 */
+	private boolean fResultError = false;
+
+	/**
+	 * <code>true</code> when a disabled result exists.
+	 *
+	 * @generated NOT
+	 */
+	private boolean fResultDisabled = false;
+
+	/**
+	 * Container that accounted the aggregated status of this entity in its counters.
+	 *
+	 * @generated NOT
+	 */
+	private TestContainer fStatusListener = null;
+
 	/**
 	 * <!-- begin-user-doc --> <!-- end-user-doc -->
 	 *
@@ -221,6 +270,8 @@ public abstract class TestEntity extends MinimalEObjectImpl.Container implements
 
 			@Override
 			public void notifyChanged(Notification notification) {
+				handleStatusNotification(notification);
+
 				if ((getEntityStatus() != TestStatus.RUNNING) && (getEntityStatus() != TestStatus.NOT_RUN)
 						&& (IRuntimePackage.Literals.TEST_ENTITY__ENTITY_STATUS.equals(notification.getFeature()))) {
 					if (!isDisabled()) {
@@ -332,15 +383,27 @@ public abstract class TestEntity extends MinimalEObjectImpl.Container implements
 	 */
 	@Override
 	public TestStatus getStatus() {
-		if (isDisabled())
-			return TestStatus.DISABLED;
+		synchronized (STATUS_LOCK) {
+			if (fAggregatedStatus == null) {
+				fAggregatedStatus = computeStatus();
+				fAggregatedError = computeError();
+			}
 
-		int status = getEntityStatus().getValue();
-		for (final ITestResult result : getResults()) {
-			status = Math.max(status, result.getStatus().getValue());
+			return fAggregatedStatus;
 		}
+	}
+
+	/**
+	 * Calculate the status of this entity. Called whenever status relevant data changes, the result is cached for {@link #getStatus()}.
+	 *
+	 * @return entity status
+	 * @generated NOT
+	 */
+	protected TestStatus computeStatus() {
+		if ((fResultDisabled) || (TestStatus.DISABLED.equals(getEntityStatus())))
+			return TestStatus.DISABLED;
 
-		return TestStatus.get(status);
+		return TestStatus.get(Math.max(getEntityStatus().getValue(), fResultStatus));
 	}
 
 	/**
@@ -366,7 +429,105 @@ public abstract class TestEntity extends MinimalEObjectImpl.Container implements
 	 */
 	@Override
 	public boolean hasError() {
-		return !getResults(TestStatus.ERROR).isEmpty();
+		synchronized (STATUS_LOCK) {
+			getStatus();
+			return fAggregatedError;
+		}
+	}
+
+	/**
+	 * Calculate the error state of this entity. Called whenever status relevant data changes, the result is cached for {@link #hasError()}.
+	 *
+	 * @return <code>true</code> when an error result exists
+	 * @generated NOT
+	 */
+	protected boolean computeError() {
+		return fResultError;
+	}
+
+	/**
+	 * Update cached status information on model changes.
+	 *
+	 * @param notification
+	 *            model change notification
+	 * @generated NOT
+	 */
+	protected void handleStatusNotification(Notification notification) {
+		if (IRuntimePackage.Literals.TEST_ENTITY__RESULTS.equals(notification.getFeature())) {
+			// test files executed in parallel add results while holding the entity monitor. Acquire it before the status lock to keep a consistent lock order
+			synchronized (this) {
+				updateResultStatus();
+				updateStatus();
+			}
+
+		} else if (IRuntimePackage.Literals.TEST_ENTITY__ENTITY_STATUS.equals(notification.getFeature()))
+			updateStatus();
+	}
+
+	/**
+	 * Collect the status summary of all results. Needs to be called while holding the entity monitor.
+	 *
+	 * @generated NOT
+	 */
+	private void updateResultStatus() {
+		int status = TestStatus.NOT_RUN_VALUE;
+		boolean error = false;
+		boolean disabled = false;
+
+		for (final ITestResult result : getResults()) {
+			status = Math.max(status, result.getStatus().getValue());
+			error |= TestStatus.ERROR.equals(result.getStatus());
+			disabled |= TestStatus.DISABLED.equals(result.getStatus());
+		}
+
+		synchronized (STATUS_LOCK) {
+			fResultStatus = status;
+			fResultError = error;
+			fResultDisabled = disabled;
+		}
+	}
+
+	/**
+	 * Recalculate cached status information and propagate changes to the parent container.
+	 *
+	 * @generated NOT
+	 */
+	protected void updateStatus() {
+		synchronized (STATUS_LOCK) {
+			if (fAggregatedStatus == null)
+				// not calculated yet, nobody depends on it
+				return;
+
+			final TestStatus oldStatus = fAggregatedStatus;
+			final boolean oldError = fAggregatedError;
+
+			fAggregatedStatus = computeStatus();
+			fAggregatedError = computeError();
+
+			if ((fStatusListener != null) && ((oldStatus != fAggregatedStatus) || (oldError != fAggregatedError)))
+				fStatusListener.childStatusChanged(oldStatus, oldError, fAggregatedStatus, fAggregatedError);
+		}
+	}
+
+	/**
+	 * Set the container accounting the status of this entity. Needs to be called while holding {@link #STATUS_LOCK}.
+	 *
+	 * @param container
+	 *            accounting container or <code>null</code>
+	 * @generated NOT
+	 */
+	void setStatusListener(TestContainer container) {
+		fStatusListener = container;
+	}
+
+	/**
+	 * Get the container accounting the status of this entity. Needs to be called while holding {@link #STATUS_LOCK}.
+	 *
+	 * @return accounting container or <code>null</code>
+	 * @generated NOT
+	 */
+	TestContainer getStatusListener() {
+		return fStatusListener;
 	}
 
 	/**
@@ -454,7 +615,10 @@ public abstract class TestEntity extends MinimalEObjectImpl.Container implements
 		if (scriptEngine instanceof IDebugEngine)
 			result.setStackTrace(((IDebugEngine) scriptEngine).getExceptionStackTrace());
 
-		getResults().add(result);
+		// test files executed in parallel may add results to shared entities
+		synchronized (this) {
+			getResults().add(result);
+		}
 
 		return result;
 	}
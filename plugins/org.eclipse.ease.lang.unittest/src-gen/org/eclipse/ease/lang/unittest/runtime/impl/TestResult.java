@@ -97,13 +97,17 @@ public class TestResult extends StackTraceContainer implements ITestResult {
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
-	 * @generated
+	 * @generated NOT
 	 */
 	public void setStatus(TestStatus newStatus) {
 		TestStatus oldStatus = status;
 		status = newStatus == null ? STATUS_EDEFAULT : newStatus;
 		if (eNotificationRequired())
 			eNotify(new ENotificationImpl(this, Notification.SET, IRuntimePackage.TEST_RESULT__STATUS, oldStatus, status));
+
+		// owner caches its aggregated status
+		if (eContainer() instanceof TestEntity)
+			((TestEntity) eContainer()).updateStatus();
 	}
 
 	/**
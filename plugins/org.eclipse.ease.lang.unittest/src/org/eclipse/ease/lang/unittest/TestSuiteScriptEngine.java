@@ -19,7 +19,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.ease.AbstractScriptEngine;
@@ -34,6 +33,7 @@ import org.eclipse.ease.lang.unittest.definition.ITestSuiteDefinition;
 import org.eclipse.ease.lang.unittest.definition.IVariable;
 import org.eclipse.ease.lang.unittest.execution.DefaultTestExecutionStrategy;
 import org.eclipse.ease.lang.unittest.execution.ITestExecutionStrategy;
+import org.eclipse.ease.lang.unittest.execution.ParallelTestExecutionStrategy;
 import org.eclipse.ease.lang.unittest.runtime.IRuntimeFactory;
 import org.eclipse.ease.lang.unittest.runtime.ITestContainer;
 import org.eclipse.ease.lang.unittest.runtime.ITestEntity;
@@ -182,7 +182,7 @@ public class TestSuiteScriptEngine extends AbstractScriptEngine implements IDebu
 		}
 
 		if (command instanceof ITestEntity) {
-			final ITestExecutionStrategy strategy = new DefaultTestExecutionStrategy();
+			final ITestExecutionStrategy strategy = createExecutionStrategy((ITestEntity) command);
 			strategy.prepareExecution(this, (ITestEntity) command);
 			strategy.execute((ITestEntity) command);
 
@@ -193,7 +193,7 @@ public class TestSuiteScriptEngine extends AbstractScriptEngine implements IDebu
 
 		} else if (command instanceof FilteredTestCommand) {
 			// called when a test entity is re-executed with an applied filter
-			final ITestExecutionStrategy strategy = new DefaultTestExecutionStrategy();
+			final ITestExecutionStrategy strategy = createExecutionStrategy(((FilteredTestCommand) command).getTestRoot());
 			strategy.prepareExecution(this, ((FilteredTestCommand) command).getTestRoot(), ((FilteredTestCommand) command).getActiveTests());
 			strategy.execute(((FilteredTestCommand) command).getTestRoot());
 
@@ -205,6 +205,21 @@ public class TestSuiteScriptEngine extends AbstractScriptEngine implements IDebu
 			throw new Exception("Cannot execute object \"" + command + "\"");
 	}
 
+	/**
+	 * Create the execution strategy for a given test root. Test files get executed concurrently when the testsuite definition enables parallel execution with
+	 * more than one thread.
+	 *
+	 * @param root
+	 *            test root element
+	 * @return execution strategy
+	 */
+	private static ITestExecutionStrategy createExecutionStrategy(ITestEntity root) {
+		if (ParallelTestExecutionStrategy.getThreadCount(root) > 1)
+			return new ParallelTestExecutionStrategy();
+
+		return new DefaultTestExecutionStrategy();
+	}
+
 	@Override
 	public void setupDebugger(ILaunch launch, boolean suspendOnStartup, boolean suspendOnScriptLoad, boolean showDynamicCode) {
 		fLaunch = launch;
@@ -322,15 +337,10 @@ public class TestSuiteScriptEngine extends AbstractScriptEngine implements IDebu
 		}
 
 		// pass variables from suite
-		for (final Entry<String, Object> variable : getVariables().entrySet()) {
-			if (TEST_FILE_VARIABLE.equals(variable.getKey()))
-				continue;
-
-			if (TEST_SUITE_VARIABLE.equals(variable.getKey()))
-				continue;
-
-			engine.setVariable(variable.getKey(), variable.getValue());
-		}
+		final Map<String, Object> variables = new HashMap<>(getVariables());
+		variables.remove(TEST_FILE_VARIABLE);
+		variables.remove(TEST_SUITE_VARIABLE);
+		engine.setVariables(variables);
 
 		// add registered jars rom suite
 		for (final URL jarLocation : fRegisteredJars)
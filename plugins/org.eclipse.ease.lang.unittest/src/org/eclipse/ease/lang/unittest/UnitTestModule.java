@@ -173,17 +173,19 @@ public class UnitTestModule extends AbstractScriptModule {
 		if (getScriptEngine() instanceof IDebugEngine)
 			metadata.setStackTrace(((IDebugEngine) getScriptEngine()).getStackTrace());
 
-		if (fCurrentTest != null)
-			fCurrentTest.getMetadata().add(metadata);
-
-		else if (getTestFile() != null)
-			getTestFile().getMetadata().add(metadata);
-
-		else if (getTestSuite() != null)
-			getTestSuite().getMetadata().add(metadata);
+		ITestEntity owner = fCurrentTest;
+		if (owner == null)
+			owner = getTestFile();
+		if (owner == null)
+			owner = getTestSuite();
 
-		else
+		if (owner == null)
 			throw new RuntimeException("No test entity availabe. Nowhere to store metadata to");
+
+		// test files executed in parallel may add metadata to shared entities
+		synchronized (owner) {
+			owner.getMetadata().add(metadata);
+		}
 	}
 
 	/**
@@ -421,7 +423,10 @@ public class UnitTestModule extends AbstractScriptModule {
 		else if (getScriptEngine() instanceof IDebugEngine)
 			result.setStackTrace(((IDebugEngine) getScriptEngine()).getStackTrace());
 
-		owner.getResults().add(result);
+		// test files executed in parallel may add results to shared entities
+		synchronized (owner) {
+			owner.getResults().add(result);
+		}
 	}
 
 	/**
@@ -51,7 +51,8 @@ public class DefaultTestExecutionStrategy implements ITestExecutionStrategy {
 	@Override
 	public void prepareExecution(TestSuiteScriptEngine engine, ITestEntity root, Collection<ITestEntity> activeEntities) {
 		fEngine = engine;
-		fActiveEntities = activeEntities;
+		// filtered executions might pass lists, we need fast lookups for each executed entity
+		fActiveEntities = (activeEntities instanceof HashSet) ? activeEntities : new HashSet<>(activeEntities);
 
 		for (final ITestEntity entry : activeEntities)
 			entry.reset();
@@ -68,10 +69,19 @@ public class DefaultTestExecutionStrategy implements ITestExecutionStrategy {
 
 	@Override
 	public void execute(ITestEntity testEntity) {
-		if ((!testEntity.getRoot().hasError()) || (!fStopSuiteOnError)) {
-			if (fActiveEntities.contains(testEntity))
-				testEntity.run(this);
-		}
+		if (isExecutable(testEntity))
+			testEntity.run(this);
+	}
+
+	/**
+	 * Check if a test entity is part of the current execution and execution did not stop due to a previous error.
+	 *
+	 * @param testEntity
+	 *            entity to check
+	 * @return <code>true</code> when the entity shall be executed
+	 */
+	protected boolean isExecutable(ITestEntity testEntity) {
+		return ((!testEntity.getRoot().hasError()) || (!fStopSuiteOnError)) && (fActiveEntities.contains(testEntity));
 	}
 
 	@Override
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.unittest.execution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ease.IScriptEngine;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.lang.unittest.PluginConstants;
+import org.eclipse.ease.lang.unittest.TestSuiteScriptEngine;
+import org.eclipse.ease.lang.unittest.definition.Flag;
+import org.eclipse.ease.lang.unittest.definition.ITestSuiteDefinition;
+import org.eclipse.ease.lang.unittest.runtime.ITestContainer;
+import org.eclipse.ease.lang.unittest.runtime.ITestEntity;
+import org.eclipse.ease.lang.unittest.runtime.ITestFile;
+import org.eclipse.ease.lang.unittest.runtime.ITestSuite;
+
+/**
+ * Execution strategy running test files concurrently. Needs to be enabled by the {@link Flag#PARALLEL_EXECUTION} flag of the testsuite definition. Containers
+ * are traversed on the calling thread while test files are queued to a bounded worker pool. The amount of workers is taken from the {@link Flag#THREAD_COUNT}
+ * flag. Testsuite teardown code is executed after all test files of the suite finished. Testfile setup and teardown code is executed by the worker running the
+ * file.
+ * <p>
+ * Test files update their own part of the runtime model. Shared model elements like the testsuite synchronize modifications on the modified entity.
+ * </p>
+ */
+public class ParallelTestExecutionStrategy extends DefaultTestExecutionStrategy {
+
+	/**
+	 * Get the amount of test files to be executed concurrently for a given test root.
+	 *
+	 * @param root
+	 *            test root element
+	 * @return amount of worker threads, 1 when parallel execution is not enabled
+	 */
+	public static int getThreadCount(ITestEntity root) {
+		final ITestSuite testSuite = root.getTestSuite();
+		if (testSuite != null) {
+			final ITestSuiteDefinition definition = testSuite.getDefinition();
+			if ((definition != null) && (definition.getFlag(Flag.PARALLEL_EXECUTION, false))) {
+				final Integer threadCount = definition.getFlag(Flag.THREAD_COUNT, 1);
+				if (threadCount != null)
+					return Math.max(1, threadCount);
+			}
+		}
+
+		return 1;
+	}
+
+	private ExecutorService fExecutor = null;
+
+	private final List<Future<?>> fPendingFiles = new ArrayList<>();
+
+	private int fThreadCount = 1;
+
+	@Override
+	public void prepareExecution(TestSuiteScriptEngine engine, ITestEntity root, Collection<ITestEntity> activeEntities) {
+		super.prepareExecution(engine, root, activeEntities);
+
+		fThreadCount = getThreadCount(root);
+	}
+
+	@Override
+	public synchronized IScriptEngine createScriptEngine(ITestSuite testSuite, Object resource) {
+		return super.createScriptEngine(testSuite, resource);
+	}
+
+	@Override
+	public void execute(ITestEntity testEntity) {
+		if (fExecutor == null) {
+			// outermost call, owns the worker pool
+			fExecutor = Executors.newFixedThreadPool(fThreadCount, new WorkerThreadFactory());
+			try {
+				executeEntity(testEntity);
+				waitForPendingFiles();
+
+			} finally {
+				fExecutor.shutdownNow();
+				fExecutor = null;
+			}
+
+		} else
+			executeEntity(testEntity);
+	}
+
+	private void executeEntity(ITestEntity testEntity) {
+		if (testEntity instanceof ITestFile) {
+			if (isExecutable(testEntity)) {
+				final Future<?> future = fExecutor.submit(() -> {
+					// re-evaluate as a previous file might have failed in the meantime
+					if ((!testEntity.isTerminated()) && (isExecutable(testEntity)))
+						testEntity.run(this);
+				});
+
+				synchronized (fPendingFiles) {
+					fPendingFiles.add(future);
+				}
+			}
+
+		} else
+			super.execute(testEntity);
+
+		// suite teardown code runs after the last child container, so all files of the suite need to be finished by then
+		if ((testEntity.getParent() instanceof ITestSuite) && (isLastChildContainer(testEntity)))
+			waitForPendingFiles();
+	}
+
+	private void waitForPendingFiles() {
+		while (true) {
+			final Future<?> future;
+			synchronized (fPendingFiles) {
+				if (fPendingFiles.isEmpty())
+					return;
+
+				future = fPendingFiles.remove(0);
+			}
+
+			try {
+				future.get();
+
+			} catch (final ExecutionException e) {
+				Logger.error(PluginConstants.PLUGIN_ID, "Test file execution failed", e.getCause());
+
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static boolean isLastChildContainer(ITestEntity testEntity) {
+		final List<ITestContainer> siblings = testEntity.getParent().getChildContainers();
+		return (!siblings.isEmpty()) && (siblings.get(siblings.size() - 1) == testEntity);
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger fCounter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(runnable, "Unit test worker " + fCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -229,7 +229,7 @@ public class ChartingModule extends AbstractScriptModule {
 
 	/**
 	 * Add (x,y) point to the last Series that is set with method series(seriesName,format). If there is no active figure and series then both will be created
-	 * and activated.
+	 * and activated. Points are buffered and displayed with the next chart refresh, so scripts may stream data at high rates.
 	 *
 	 * @param x
 	 *            x coordinate of this point
@@ -247,7 +247,7 @@ public class ChartingModule extends AbstractScriptModule {
 
 	/**
 	 * Plot array of points (x[],y[]) on the last series that is set with method series(seriesName, format). If there is no active Figure and Series then both
-	 * will be created and activated.
+	 * will be created and activated. Points replace the current content of the series and are displayed with the next chart refresh.
 	 *
 	 * @param x
 	 *            array of x coordinates
@@ -416,6 +416,10 @@ public class ChartingModule extends AbstractScriptModule {
 			@ScriptParameter(defaultValue = ScriptParameter.NULL) Double yPosition) {
 
 		if (fCurrentPlot != null) {
+			// make sure the annotation can attach to the latest points
+			if (fChart != null)
+				fChart.flush();
+
 			final Annotation annotation = new Annotation(text, fCurrentPlot);
 			annotation.setEnabled(true);
 			annotation.setCursorLineStyle(CursorLineStyle.NONE);
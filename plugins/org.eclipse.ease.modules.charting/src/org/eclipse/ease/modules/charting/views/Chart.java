@@ -17,11 +17,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.LightweightSystem;
 import org.eclipse.draw2d.MouseEvent;
@@ -49,18 +53,59 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.MessageBox;
+import org.eclipse.ui.progress.UIJob;
 
 public class Chart extends Composite {
 
+	/** Amount of samples displayed per trace. */
+	private static final int BUFFER_SIZE = 1000;
+
+	/** Minimum delay between chart refreshes in milliseconds. */
+	private static final long FRAME_INTERVAL = 40;
+
 	private final XYGraph fXYGraph;
 	private final List<Trace> fTraces = new ArrayList<>();
 	private final List<CircularBufferDataProvider> fTraceDataProviders = new ArrayList<>();
-	private boolean fPerformAutoScale = true;
+	private final List<SampleRingBuffer> fTraceBuffers = new ArrayList<>();
+	private volatile boolean fPerformAutoScale = true;
 	private int fIndex = -1;
 	private int fSeriesCounter = 1;
 
+	/**
+	 * Trace samples are added to, along with its pending samples.
+	 */
+	private static class ActiveSeries {
+		private final Trace fTrace;
+		private final SampleRingBuffer fBuffer;
+
+		public ActiveSeries(Trace trace, SampleRingBuffer buffer) {
+			fTrace = trace;
+			fBuffer = buffer;
+		}
+	}
+
+	/** Written in the display thread only. */
+	private volatile ActiveSeries fActiveSeries = null;
+
+	private final double[] fDrainX = new double[BUFFER_SIZE];
+	private final double[] fDrainY = new double[BUFFER_SIZE];
+
+	private final AtomicBoolean fRefreshScheduled = new AtomicBoolean(false);
+
+	private final UIJob fRefreshJob = new UIJob("Refresh chart") {
+
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			refresh();
+			return Status.OK_STATUS;
+		}
+	};
+
 	public Chart(final Composite parent, final int style) {
 		super(parent, style);
+		fRefreshJob.setSystem(true);
+		addDisposeListener(e -> fRefreshJob.cancel());
+
 		final GridLayout layout = new GridLayout();
 		final GridData gd = new GridData(SWT.FILL, SWT.FILL, true, true);
 		setLayout(layout);
@@ -124,8 +169,9 @@ public class Chart extends Composite {
 		}
 		if (!findTrace) {
 			final CircularBufferDataProvider newTraceDataProvider = new CircularBufferDataProvider(false);
-			newTraceDataProvider.setBufferSize(1000);
+			newTraceDataProvider.setBufferSize(BUFFER_SIZE);
 			fTraceDataProviders.add(newTraceDataProvider);
+			fTraceBuffers.add(new SampleRingBuffer(BUFFER_SIZE));
 			final Trace currentTrace = new Trace(traceName, fXYGraph.primaryXAxis, fXYGraph.primaryYAxis, newTraceDataProvider);
 			currentTrace.setTraceType(TraceType.SOLID_LINE);
 			currentTrace.setPointStyle(PointStyle.XCROSS);
@@ -133,23 +179,76 @@ public class Chart extends Composite {
 			fTraces.add(currentTrace);
 			fXYGraph.addTrace(currentTrace);
 		}
+
+		fActiveSeries = new ActiveSeries(fTraces.get(fIndex), fTraceBuffers.get(fIndex));
+	}
+
+	/**
+	 * Get the series samples are added to. Creates a new series when none is active.
+	 *
+	 * @return active series
+	 */
+	private ActiveSeries getActiveSeries() {
+		final ActiveSeries activeSeries = fActiveSeries;
+		if (activeSeries != null)
+			return activeSeries;
+
+		final RunnableWithResult<ActiveSeries> runnable = new RunnableWithResult<ActiveSeries>() {
+			@Override
+			public ActiveSeries runWithTry() throws Throwable {
+				if (fIndex == (-1))
+					getTraceIndex("Series " + Integer.toString(fSeriesCounter++));
+
+				return fActiveSeries;
+			}
+		};
+
+		Display.getDefault().syncExec(runnable);
+		return runnable.getResult();
 	}
 
 	public Trace plot(final double x, final double y) {
-		Display.getDefault().syncExec(() -> {
-			if (fIndex == (-1))
-				getTraceIndex("Series " + Integer.toString(fSeriesCounter++));
-			plotPoint(x, y);
-		});
-		return fTraces.get(fIndex);
+		final ActiveSeries activeSeries = getActiveSeries();
+		activeSeries.fBuffer.add(x, y);
+		scheduleRefresh();
+
+		return activeSeries.fTrace;
 	}
 
-	private void plotPoint(final double x, final double y) {
-		fTraceDataProviders.get(fIndex).addSample(new Sample(x, y));
-		if (fPerformAutoScale)
+	private void scheduleRefresh() {
+		if (fRefreshScheduled.compareAndSet(false, true))
+			fRefreshJob.schedule(FRAME_INTERVAL);
+	}
+
+	/**
+	 * Move pending samples to their traces. Needs to be called in the display thread.
+	 */
+	private void refresh() {
+		fRefreshScheduled.set(false);
+		if (isDisposed())
+			return;
+
+		boolean updated = false;
+		for (int index = 0; index < fTraceBuffers.size(); index++) {
+			final CircularBufferDataProvider dataProvider = fTraceDataProviders.get(index);
+			final int count = fTraceBuffers.get(index).drain(fDrainX, fDrainY, dataProvider::clearTrace);
+			for (int sample = 0; sample < count; sample++)
+				dataProvider.addSample(new Sample(fDrainX[sample], fDrainY[sample]));
+
+			updated |= (count > 0);
+		}
+
+		if (updated && fPerformAutoScale)
 			fXYGraph.performAutoScale();
 	}
 
+	/**
+	 * Display all pending samples immediately.
+	 */
+	public void flush() {
+		Display.getDefault().syncExec(this::refresh);
+	}
+
 	private void setStyle(final Trace trace, final String format) {
 		boolean doubleLine = false;
 
@@ -271,6 +370,8 @@ public class Chart extends Composite {
 		final RunnableWithResult<Object> runnable = new RunnableWithResult<Object>() {
 			@Override
 			public Object runWithTry() throws Throwable {
+				refresh();
+
 				final ImageLoader loader = new ImageLoader();
 				loader.data = new ImageData[] { fXYGraph.getImage().getImageData() };
 				boolean done = true;
@@ -362,11 +463,20 @@ public class Chart extends Composite {
 
 	public void removeSeries(final String traceName) {
 		Display.getDefault().syncExec(() -> {
-			for (final Trace trace : fTraces) {
+			for (int index = 0; index < fTraces.size(); index++) {
+				final Trace trace = fTraces.get(index);
 				if (trace.getName().equals(traceName)) {
 					fXYGraph.removeTrace(trace);
-					fTraceDataProviders.remove((trace.getDataProvider()));
-					fTraces.remove(trace);
+					fTraceDataProviders.remove(index);
+					fTraceBuffers.remove(index);
+					fTraces.remove(index);
+
+					if ((fActiveSeries != null) && (trace.equals(fActiveSeries.fTrace))) {
+						fActiveSeries = null;
+						fIndex = -1;
+					} else if (fIndex > index)
+						fIndex--;
+
 					return;
 				}
 			}
@@ -379,26 +489,22 @@ public class Chart extends Composite {
 				fXYGraph.removeTrace(trace);
 			}
 			fTraceDataProviders.clear();
+			fTraceBuffers.clear();
 			fTraces.clear();
+			fActiveSeries = null;
 			fSeriesCounter = 1;
 			fIndex = -1;
 		});
 	}
 
 	public Trace plot(final double[] x, final double[] y) {
-		Display.getDefault().syncExec(() -> {
-			if (fIndex == (-1))
-				getTraceIndex("Series " + Integer.toString(fSeriesCounter++));
-			plotArray(x, y);
-		});
-		return fTraces.get(fIndex);
-	}
+		final ActiveSeries activeSeries = getActiveSeries();
 
-	private void plotArray(final double[] x, final double[] y) {
-		fTraceDataProviders.get(fIndex).setCurrentXDataArray(x);
-		fTraceDataProviders.get(fIndex).setCurrentYDataArray(y);
-		if (fPerformAutoScale)
-			fXYGraph.performAutoScale();
+		// arrays replace the content of the series
+		activeSeries.fBuffer.replaceAll(x, y);
+		scheduleRefresh();
+
+		return activeSeries.fTrace;
 	}
 
 	public Trace series(final String seriesName, final String format) {
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.modules.charting.views;
+
+/**
+ * Fixed size buffer for pending chart samples. Scripts append samples without synchronizing with the display thread, the chart drains pending samples once
+ * per frame. When more samples are pending than the buffer can hold, the oldest ones are dropped. As traces display a limited amount of samples only, these
+ * would be overwritten on the next frame anyway.
+ */
+final class SampleRingBuffer {
+
+	private final double[] fX;
+
+	private final double[] fY;
+
+	private int fStart = 0;
+
+	private int fSize = 0;
+
+	/** Set when displayed samples got replaced, cleared on the next {@link #drain(double[], double[], Runnable)}. */
+	private boolean fReplaced = false;
+
+	SampleRingBuffer(int capacity) {
+		fX = new double[capacity];
+		fY = new double[capacity];
+	}
+
+	int getCapacity() {
+		return fX.length;
+	}
+
+	synchronized void add(double x, double y) {
+		final int index = (fStart + fSize) % fX.length;
+		fX[index] = x;
+		fY[index] = y;
+
+		if (fSize < fX.length)
+			fSize++;
+		else
+			fStart = (fStart + 1) % fX.length;
+	}
+
+	/**
+	 * Append samples. When arrays differ in length, surplus elements of the longer array are ignored.
+	 *
+	 * @param x
+	 *            x coordinates
+	 * @param y
+	 *            y coordinates
+	 */
+	synchronized void addAll(double[] x, double[] y) {
+		final int length = Math.min(x.length, y.length);
+
+		// samples not fitting into the buffer would get dropped immediately
+		int source = Math.max(0, length - fX.length);
+		while (source < length) {
+			final int end = (fStart + fSize) % fX.length;
+			final int chunk = Math.min(length - source, fX.length - end);
+
+			System.arraycopy(x, source, fX, end, chunk);
+			System.arraycopy(y, source, fY, end, chunk);
+
+			fSize += chunk;
+			if (fSize > fX.length) {
+				fStart = (fStart + fSize - fX.length) % fX.length;
+				fSize = fX.length;
+			}
+
+			source += chunk;
+		}
+	}
+
+	/**
+	 * Replace all samples. Pending samples get dropped, displayed samples need to be removed on the next drain.
+	 *
+	 * @param x
+	 *            x coordinates
+	 * @param y
+	 *            y coordinates
+	 */
+	synchronized void replaceAll(double[] x, double[] y) {
+		clear();
+		fReplaced = true;
+		addAll(x, y);
+	}
+
+	/**
+	 * Move pending samples to the given arrays, oldest first. When samples got replaced since the last drain, <i>onReplace</i> is executed first.
+	 *
+	 * @param x
+	 *            target for x coordinates, needs to hold at least {@link #getCapacity()} elements
+	 * @param y
+	 *            target for y coordinates, needs to hold at least {@link #getCapacity()} elements
+	 * @param onReplace
+	 *            removes displayed samples
+	 * @return amount of samples moved
+	 */
+	synchronized int drain(double[] x, double[] y, Runnable onReplace) {
+		if (fReplaced) {
+			fReplaced = false;
+			onReplace.run();
+		}
+
+		final int count = fSize;
+		final int first = Math.min(count, fX.length - fStart);
+
+		System.arraycopy(fX, fStart, x, 0, first);
+		System.arraycopy(fY, fStart, y, 0, first);
+		System.arraycopy(fX, 0, x, first, count - first);
+		System.arraycopy(fY, 0, y, first, count - first);
+
+		fStart = 0;
+		fSize = 0;
+
+		return count;
+	}
+
+	synchronized void clear() {
+		fStart = 0;
+		fSize = 0;
+	}
+}
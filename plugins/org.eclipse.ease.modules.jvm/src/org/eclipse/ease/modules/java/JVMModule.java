@@ -92,7 +92,7 @@ public class JVMModule extends AbstractScriptModule {
 	}
 
 	/**
-	 * Retrieve class for a given JRE resource.
+	 * Retrieve class for a given JRE resource. Classes are reused until their class files or the project classpath change.
 	 *
 	 * @param location
 	 *            file location to look for
@@ -106,6 +106,6 @@ public class JVMModule extends AbstractScriptModule {
 	 */
 	@WrapToScript
 	public Class<?> compile(final Object location) throws ClassNotFoundException, JavaModelException, MalformedURLException {
-		return JVMCompiledScriptEngine.loadClass(location);
+		return JVMCompiledScriptEngine.loadClass(location, getScriptEngine());
 	}
 }
@@ -15,13 +15,19 @@ package org.eclipse.ease.modules.git;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.ease.IExecutionListener;
+import org.eclipse.ease.IScriptEngine;
+import org.eclipse.ease.Script;
 import org.eclipse.ease.modules.AbstractScriptModule;
 import org.eclipse.ease.modules.ScriptParameter;
 import org.eclipse.ease.modules.WrapToScript;
 import org.eclipse.ease.tools.ResourceTools;
+import org.eclipse.jgit.api.AddCommand;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.PullResult;
@@ -31,15 +37,18 @@ import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.NoFilepatternException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.lib.RepositoryCache;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.PushResult;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.RawParseUtils;
 
 /**
- * Provides functions to access and operate on git repositories through JGIT.
+ * Provides functions to access and operate on git repositories through JGIT. Repositories opened by the module are kept open and reused until the script
+ * engine terminates.
  */
-public class GitModule extends AbstractScriptModule {
+public class GitModule extends AbstractScriptModule implements IExecutionListener {
 
 	/**
 	 * Try to extract the project name from a given location. Effectively searches for the last slash and extracts the name afterwards, eventually removing
@@ -63,6 +72,24 @@ public class GitModule extends AbstractScriptModule {
 		return remoteLocation;
 	}
 
+	/**
+	 * Get the key to cache a repository. Uses the canonical path of the git directory where possible.
+	 *
+	 * @param gitDirectory
+	 *            .git folder of a local git repository
+	 * @return cache key
+	 */
+	private static File getCacheKey(File gitDirectory) {
+		try {
+			return gitDirectory.getCanonicalFile();
+		} catch (final IOException e) {
+			return gitDirectory.getAbsoluteFile();
+		}
+	}
+
+	/** Open repositories by canonical git directory. */
+	private final Map<File, Git> fRepositories = new HashMap<>();
+
 	/**
 	 * Clone a git repository.
 	 *
@@ -113,14 +140,15 @@ public class GitModule extends AbstractScriptModule {
 
 			final Git result = cloneCommand.call();
 			addToEGit(result.getRepository().getDirectory());
-			return result;
+			return cacheRepository(result);
 
 		} else
 			throw new RuntimeException("invalid local folder detected: " + localLocation);
 	}
 
 	/**
-	 * Open a local repository.
+	 * Open a local repository. Repositories are opened only once per script engine, subsequent calls return the same instance. Open repositories get closed
+	 * when the script engine terminates.
 	 *
 	 * @param location
 	 *            local repository root folder
@@ -137,13 +165,46 @@ public class GitModule extends AbstractScriptModule {
 		if (resource != null) {
 			final File folder = ResourceTools.toFile(resource);
 
-			if (folder != null)
+			if (folder != null) {
+				final File gitDirectory = RepositoryCache.FileKey.resolve(folder, FS.DETECTED);
+				if (gitDirectory != null) {
+					final Git repository = fRepositories.get(getCacheKey(gitDirectory));
+					if (repository != null)
+						return repository;
+
+					return cacheRepository(Git.open(gitDirectory));
+				}
+
+				// not a repository, let JGit create the appropriate exception
 				return Git.open(folder);
+			}
 		}
 
 		throw new RuntimeException("Invalid folder location: " + location);
 	}
 
+	/**
+	 * Register a repository to be reused by subsequent calls and to be closed on engine termination.
+	 *
+	 * @param repository
+	 *            repository to register
+	 * @return registered repository
+	 */
+	private Git cacheRepository(Git repository) {
+		final File key = getCacheKey(repository.getRepository().getDirectory());
+		final Git cachedRepository = fRepositories.get(key);
+		if (cachedRepository != null) {
+			repository.close();
+			return cachedRepository;
+		}
+
+		if (fRepositories.isEmpty())
+			getScriptEngine().addExecutionListener(this);
+
+		fRepositories.put(key, repository);
+		return repository;
+	}
+
 	/**
 	 * Initialize a fresh repository.
 	 *
@@ -166,7 +227,7 @@ public class GitModule extends AbstractScriptModule {
 
 			final Git result = Git.init().setDirectory(folder).setBare(bare).call();
 			addToEGit(result.getRepository().getDirectory());
-			return result;
+			return cacheRepository(result);
 
 		} else
 			throw new RuntimeException("Invalid folder location: " + location);
@@ -278,6 +339,35 @@ public class GitModule extends AbstractScriptModule {
 			throw new RuntimeException("No repository found at: " + repository);
 	}
 
+	/**
+	 * Add multiple files to the index. All files are staged within a single index update, which is considerably faster than adding files one by one.
+	 *
+	 * @param repository
+	 *            repository instance or location (local) to add files to
+	 * @param filepatterns
+	 *            repository-relative paths of files/directories to add (with <code>/</code> as separator)
+	 * @return add result
+	 * @throws IOException
+	 *             when resource cannot be accessed
+	 * @throws NoFilepatternException
+	 *             when <i>filepatterns</i> is empty
+	 * @throws GitAPIException
+	 *             on a general error during git execution
+	 */
+	@WrapToScript
+	public DirCache addAll(final Object repository, final Object[] filepatterns) throws IOException, NoFilepatternException, GitAPIException {
+		final Git repo = openRepository(repository);
+		if (repo != null) {
+			final AddCommand command = repo.add();
+			for (final Object filepattern : filepatterns)
+				command.addFilepattern(filepattern.toString());
+
+			return command.call();
+
+		} else
+			throw new RuntimeException("No repository found at: " + repository);
+	}
+
 	/**
 	 * Get repository status.
 	 *
@@ -340,4 +430,15 @@ public class GitModule extends AbstractScriptModule {
 		} else
 			throw new RuntimeException("No repository found at: " + repository);
 	}
+
+	@Override
+	public void notify(IScriptEngine engine, Script script, int status) {
+		if (status == IExecutionListener.ENGINE_END) {
+			// close all repositories opened by this module
+			for (final Git repository : fRepositories.values())
+				repository.close();
+
+			fRepositories.clear();
+		}
+	}
 }
@@ -13,7 +13,6 @@
 package org.eclipse.ease.ui.completions.java.provider;
 
 import java.util.Collection;
-import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
 import org.eclipse.ease.ICompletionContext;
@@ -69,15 +68,13 @@ public class JavaClassCompletionProvider extends AbstractCompletionProvider {
 		final String filter = context.getFilter();
 
 		if (isPackage(context)) {
-			final Collection<String> candidates = JavaResources.getInstance().getClasses(getPackageName(context));
+			final Collection<String> candidates = JavaResources.getInstance().getClasses(getPackageName(context), filter);
 
 			for (final String candidate : candidates) {
-				if (candidate.startsWith(filter)) {
-					final IHelpResolver helpResolver = new JavaClassHelpResolver(getPackageName(context), candidate);
-					final IImageResolver imageResolver = new JavaClassImageResolver(getPackageName(context), candidate);
+				final IHelpResolver helpResolver = new JavaClassHelpResolver(getPackageName(context), candidate);
+				final IImageResolver imageResolver = new JavaClassImageResolver(getPackageName(context), candidate);
 
-					addProposal(candidate, candidate, imageResolver, ScriptCompletionProposal.ORDER_CLASS, helpResolver);
-				}
+				addProposal(candidate, candidate, imageResolver, ScriptCompletionProposal.ORDER_CLASS, helpResolver);
 			}
 
 		} else if (isClass(context)) {
@@ -86,7 +83,7 @@ public class JavaClassCompletionProvider extends AbstractCompletionProvider {
 
 			final Pattern filterPattern = Pattern.compile(baseClass.getSimpleName() + "\\." + createFilterPattern(filter).pattern());
 
-			for (final String candidate : JavaResources.getInstance().getClasses().get(basePackage)) {
+			for (final String candidate : JavaResources.getInstance().getClasses(basePackage, baseClass.getSimpleName() + ".")) {
 				if (filterPattern.matcher(candidate).matches()) {
 					final String replacementString = (basePackage + "." + candidate).substring(baseClass.getName().length() + 1);
 
@@ -104,22 +101,39 @@ public class JavaClassCompletionProvider extends AbstractCompletionProvider {
 			// no package provided, look in all packages for matching class
 			final Pattern filterPattern = createFilterPattern(filter);
 
-			for (final Entry<String, Collection<String>> packageEntry : JavaResources.getInstance().getClasses().entrySet()) {
-				for (final String candidate : packageEntry.getValue()) {
-					if (filterPattern.matcher(candidate).matches()) {
-						final IHelpResolver helpResolver = new JavaClassHelpResolver(packageEntry.getKey(), candidate);
-						final IImageResolver imageResolver = new JavaClassImageResolver(packageEntry.getKey(), candidate);
+			for (final String[] classEntry : JavaResources.getInstance().findClasses(getLiteralPrefix(filter))) {
+				final String packageName = classEntry[0];
+				final String candidate = classEntry[1];
+
+				if (filterPattern.matcher(candidate).matches()) {
+					final IHelpResolver helpResolver = new JavaClassHelpResolver(packageName, candidate);
+					final IImageResolver imageResolver = new JavaClassImageResolver(packageName, candidate);
 
-						final StyledString styledString = new StyledString(candidate);
-						styledString.append(" - " + packageEntry.getKey(), StyledString.QUALIFIER_STYLER);
+					final StyledString styledString = new StyledString(candidate);
+					styledString.append(" - " + packageName, StyledString.QUALIFIER_STYLER);
 
-						addProposal(styledString, packageEntry.getKey() + "." + candidate, imageResolver, ScriptCompletionProposal.ORDER_CLASS, helpResolver);
-					}
+					addProposal(styledString, packageName + "." + candidate, imageResolver, ScriptCompletionProposal.ORDER_CLASS, helpResolver);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Get the part of a camel case filter that needs to match the start of a class name literally, eg 'FiIn' -&gt; 'Fi'.
+	 *
+	 * @param filter
+	 *            camel case filter
+	 * @return literal prefix
+	 */
+	private static String getLiteralPrefix(String filter) {
+		for (int index = 1; index < filter.length(); index++) {
+			if (Character.isUpperCase(filter.charAt(index)))
+				return filter.substring(0, index);
+		}
+
+		return filter;
+	}
+
 	private Pattern createFilterPattern(String filter) {
 		final StringBuffer filterPattern = new StringBuffer();
 
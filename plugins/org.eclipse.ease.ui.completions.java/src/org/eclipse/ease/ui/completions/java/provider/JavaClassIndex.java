@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.ui.completions.java.provider;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+
+/**
+ * Immutable index of java packages and classes. Stored as sorted string tables in a single buffer, which can be persisted and memory mapped. Prefix queries
+ * use binary search on the tables.
+ * <p>
+ * Buffer layout: header (magic, format version, state key, table sizes), followed by the offset arrays of all tables and a final UTF-8 encoded string blob.
+ * Tables:
+ * <ul>
+ * <li>packages: package names</li>
+ * <li>classes by package: 'packageName{@value #SEPARATOR}className'</li>
+ * <li>classes by name: 'className{@value #SEPARATOR}packageName'</li>
+ * </ul>
+ */
+final class JavaClassIndex {
+
+	private static final int MAGIC = 0x45415345;
+
+	private static final int FORMAT_VERSION = 1;
+
+	/** Separator between package and class name. Lower than any valid identifier character, so entries of the same prefix stay contiguous. */
+	private static final char SEPARATOR = '\u0001';
+
+	private static final int HEADER_SIZE = 4 + 4 + 8 + (3 * 4);
+
+	/**
+	 * Create a new index.
+	 *
+	 * @param packagesAndClasses
+	 *            packageName -&gt; {classNames}
+	 * @param stateKey
+	 *            key identifying the source state of the index
+	 * @return index
+	 */
+	static JavaClassIndex create(Map<String, Collection<String>> packagesAndClasses, long stateKey) {
+		final TreeSet<String> packages = new TreeSet<>(packagesAndClasses.keySet());
+		final TreeSet<String> classesByPackage = new TreeSet<>();
+		final TreeSet<String> classesByName = new TreeSet<>();
+
+		for (final Entry<String, Collection<String>> entry : packagesAndClasses.entrySet()) {
+			for (final String className : entry.getValue()) {
+				classesByPackage.add(entry.getKey() + SEPARATOR + className);
+				classesByName.add(className + SEPARATOR + entry.getKey());
+			}
+		}
+
+		final List<byte[]> strings = new ArrayList<>();
+		for (final String value : packages)
+			strings.add(value.getBytes(StandardCharsets.UTF_8));
+		for (final String value : classesByPackage)
+			strings.add(value.getBytes(StandardCharsets.UTF_8));
+		for (final String value : classesByName)
+			strings.add(value.getBytes(StandardCharsets.UTF_8));
+
+		int blobSize = 0;
+		for (final byte[] string : strings)
+			blobSize += string.length;
+
+		final int tableEntries = packages.size() + classesByPackage.size() + classesByName.size();
+		final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + ((tableEntries + 1) * 4) + blobSize);
+		buffer.putInt(MAGIC);
+		buffer.putInt(FORMAT_VERSION);
+		buffer.putLong(stateKey);
+		buffer.putInt(packages.size());
+		buffer.putInt(classesByPackage.size());
+		buffer.putInt(classesByName.size());
+
+		// offsets, one additional offset marks the end of the last string
+		int offset = 0;
+		for (final byte[] string : strings) {
+			buffer.putInt(offset);
+			offset += string.length;
+		}
+		buffer.putInt(offset);
+
+		for (final byte[] string : strings)
+			buffer.put(string);
+
+		buffer.flip();
+		return new JavaClassIndex(buffer);
+	}
+
+	/**
+	 * Load a persisted index.
+	 *
+	 * @param file
+	 *            file to load from
+	 * @param stateKey
+	 *            expected state key
+	 * @return index or <code>null</code> when the file does not exist or was created for a different state
+	 */
+	static JavaClassIndex load(File file, long stateKey) {
+		if (!file.isFile())
+			return null;
+
+		try (RandomAccessFile input = new RandomAccessFile(file, "r"); FileChannel channel = input.getChannel()) {
+			// mapping stays valid after the channel is closed
+			final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+
+			if ((buffer.remaining() >= HEADER_SIZE) && (buffer.getInt(0) == MAGIC) && (buffer.getInt(4) == FORMAT_VERSION) && (buffer.getLong(8) == stateKey))
+				return new JavaClassIndex(buffer);
+
+		} catch (final IOException e) {
+			// invalid index file, needs to be rebuilt
+		}
+
+		return null;
+	}
+
+	private final ByteBuffer fBuffer;
+
+	private final int fPackageCount;
+
+	private final int fClassCount;
+
+	private final int fBlobOffset;
+
+	private JavaClassIndex(ByteBuffer buffer) {
+		fBuffer = buffer;
+
+		fPackageCount = buffer.getInt(16);
+		fClassCount = buffer.getInt(20);
+		fBlobOffset = HEADER_SIZE + ((fPackageCount + (2 * fClassCount) + 1) * 4);
+	}
+
+	/**
+	 * Persist the index to a file. The file is replaced atomically.
+	 *
+	 * @param file
+	 *            file to write to
+	 * @throws IOException
+	 *             when the file cannot be written
+	 */
+	void write(File file) throws IOException {
+		final File temporaryFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+		try {
+			try (RandomAccessFile output = new RandomAccessFile(temporaryFile, "rw"); FileChannel channel = output.getChannel()) {
+				final ByteBuffer content = fBuffer.duplicate();
+				content.position(0);
+				while (content.hasRemaining())
+					channel.write(content);
+			}
+
+			Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} finally {
+			Files.deleteIfExists(temporaryFile.toPath());
+		}
+	}
+
+	/**
+	 * Get packages starting with a given prefix.
+	 *
+	 * @param prefix
+	 *            package prefix, use an empty string to get all packages
+	 * @return sorted package names
+	 */
+	List<String> getPackages(String prefix) {
+		final List<String> result = new ArrayList<>();
+
+		for (int index = findFirst(0, fPackageCount, prefix); index < fPackageCount; index++) {
+			final String packageName = getString(index);
+			if (!packageName.startsWith(prefix))
+				break;
+
+			result.add(packageName);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get classes of a package starting with a given prefix.
+	 *
+	 * @param packageName
+	 *            package to look in
+	 * @param prefix
+	 *            class name prefix, use an empty string to get all classes of the package
+	 * @return sorted class names
+	 */
+	List<String> getClasses(String packageName, String prefix) {
+		final List<String> result = new ArrayList<>();
+
+		final String key = packageName + SEPARATOR + prefix;
+		final int start = fPackageCount;
+		final int end = start + fClassCount;
+		for (int index = findFirst(start, end, key); index < end; index++) {
+			final String entry = getString(index);
+			if (!entry.startsWith(key))
+				break;
+
+			result.add(entry.substring(packageName.length() + 1));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get classes of all packages starting with a given prefix.
+	 *
+	 * @param prefix
+	 *            class name prefix, use an empty string to get all classes
+	 * @return list of {packageName, className} tuples, sorted by class name
+	 */
+	List<String[]> findClasses(String prefix) {
+		final List<String[]> result = new ArrayList<>();
+
+		final int start = fPackageCount + fClassCount;
+		final int end = start + fClassCount;
+		for (int index = findFirst(start, end, prefix); index < end; index++) {
+			final String entry = getString(index);
+			if (!entry.startsWith(prefix))
+				break;
+
+			final int separator = entry.indexOf(SEPARATOR);
+			result.add(new String[] { entry.substring(separator + 1), entry.substring(0, separator) });
+		}
+
+		return result;
+	}
+
+	/**
+	 * Find the first table entry that is not smaller than the given key.
+	 *
+	 * @param start
+	 *            first index of table (inclusive)
+	 * @param end
+	 *            last index of table (exclusive)
+	 * @param key
+	 *            key to look for
+	 * @return insertion point of key
+	 */
+	private int findFirst(int start, int end, String key) {
+		int low = start;
+		int high = end;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (getString(middle).compareTo(key) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	private String getString(int index) {
+		final int offset = fBuffer.getInt(HEADER_SIZE + (index * 4));
+		final int length = fBuffer.getInt(HEADER_SIZE + ((index + 1) * 4)) - offset;
+
+		final byte[] data = new byte[length];
+		final ByteBuffer view = fBuffer.duplicate();
+		view.position(fBlobOffset + offset);
+		view.get(data);
+
+		return new String(data, StandardCharsets.UTF_8);
+	}
+}
@@ -66,7 +66,7 @@ public class JavaPackagesCompletionProvider extends AbstractCompletionProvider {
 
 		final String packageFilter = getFilter(context);
 
-		for (final String candidate : JavaResources.getInstance().getPackages()) {
+		for (final String candidate : JavaResources.getInstance().getPackages(packageFilter)) {
 			if (isValidCandidate(candidate, packageFilter)) {
 				addProposal(candidate, candidate.substring(packageFilter.length() - context.getFilter().length()) + ".",
 						new JavaMethodCompletionProvider.JDTImageResolver(ISharedImages.IMG_OBJS_PACKAGE), ScriptCompletionProposal.ORDER_PACKAGE,
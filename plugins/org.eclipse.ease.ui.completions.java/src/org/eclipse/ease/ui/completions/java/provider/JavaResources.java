@@ -14,6 +14,7 @@
 package org.eclipse.ease.ui.completions.java.provider;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
@@ -22,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -30,6 +32,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.ease.Logger;
@@ -52,52 +55,168 @@ public final class JavaResources {
 		return INSTANCE;
 	}
 
-	/** Maps packageName -> {classNames}, eg 'java.io' -> {File, FileBuffer, ...}. */
-	private Map<String, Collection<String>> fPackagesAndClasses = Collections.emptyMap();
+	private static final String INDEX_FILE = "java classes.idx";
+
+	/** Persisted index of packages and classes. <code>null</code> until loaded. */
+	private volatile JavaClassIndex fIndex = null;
+
+	/** Maps packageName -> {classNames}, eg 'java.io' -> {File, FileBuffer, ...}. Lazily created from the index. */
+	private volatile Map<String, Collection<String>> fPackagesAndClasses = null;
+
 	private boolean fisLoadingTriggered = false;
 
 	private JavaResources() {
 	}
 
+	/**
+	 * Get all packages and their classes. Expensive as the whole index needs to be copied into a map. Prefer {@link #getPackages(String)} and
+	 * {@link #getClasses(String, String)} for lookups.
+	 *
+	 * @return map packageName -&gt; {classNames}
+	 */
 	public Map<String, Collection<String>> getClasses() {
-		if (fPackagesAndClasses.isEmpty())
-			loadClasses();
+		final JavaClassIndex index = getIndex();
+		if (index == null)
+			return Collections.emptyMap();
+
+		Map<String, Collection<String>> packagesAndClasses = fPackagesAndClasses;
+		if (packagesAndClasses == null) {
+			packagesAndClasses = new TreeMap<>();
+			for (final String packageName : index.getPackages(""))
+				packagesAndClasses.put(packageName, Collections.unmodifiableCollection(index.getClasses(packageName, "")));
+
+			packagesAndClasses = Collections.unmodifiableMap(packagesAndClasses);
+			fPackagesAndClasses = packagesAndClasses;
+		}
 
-		return fPackagesAndClasses;
+		return packagesAndClasses;
 	}
 
 	public Collection<String> getPackages() {
-		return getClasses().keySet();
+		return getPackages("");
+	}
+
+	/**
+	 * Get packages starting with a given prefix.
+	 *
+	 * @param prefix
+	 *            package prefix, eg 'java.u'
+	 * @return sorted package names
+	 */
+	public Collection<String> getPackages(String prefix) {
+		final JavaClassIndex index = getIndex();
+		return (index != null) ? index.getPackages(prefix) : Collections.emptyList();
 	}
 
 	public Collection<String> getClasses(String packageName) {
-		if (getClasses().containsKey(packageName))
-			return getClasses().get(packageName);
+		return getClasses(packageName, "");
+	}
 
-		return Collections.emptySet();
+	/**
+	 * Get classes of a package starting with a given prefix.
+	 *
+	 * @param packageName
+	 *            package to look in, eg 'java.io'
+	 * @param prefix
+	 *            class name prefix, eg 'Fi'
+	 * @return sorted class names
+	 */
+	public Collection<String> getClasses(String packageName, String prefix) {
+		final JavaClassIndex index = getIndex();
+		return (index != null) ? index.getClasses(packageName, prefix) : Collections.emptyList();
 	}
 
-	private void loadClasses() {
+	/**
+	 * Find classes in all packages starting with a given prefix.
+	 *
+	 * @param prefix
+	 *            class name prefix, eg 'Fi'
+	 * @return list of {packageName, className} tuples, sorted by class name
+	 */
+	public List<String[]> findClasses(String prefix) {
+		final JavaClassIndex index = getIndex();
+		return (index != null) ? index.findClasses(prefix) : Collections.emptyList();
+	}
+
+	private JavaClassIndex getIndex() {
+		if (fIndex == null)
+			loadClasses();
+
+		return fIndex;
+	}
+
+	private synchronized void loadClasses() {
 		if (!fisLoadingTriggered) {
 			fisLoadingTriggered = true;
 
-			final Job job = new Job("Load Java code completion") {
-				@Override
-				protected IStatus run(IProgressMonitor monitor) {
-					final Map<String, Collection<String>> loadingContent = new TreeMap<>();
-
-					readJavaPackagesAndClasses(loadingContent);
-					readEclipsePackages(loadingContent);
+			// a persisted index is only memory mapped, so we can load it synchronously
+			final long stateKey = computeStateKey();
+			final File indexFile = getIndexFile();
+			if (indexFile != null)
+				fIndex = JavaClassIndex.load(indexFile, stateKey);
+
+			if (fIndex == null) {
+				final Job job = new Job("Load Java code completion") {
+					@Override
+					protected IStatus run(IProgressMonitor monitor) {
+						final Map<String, Collection<String>> loadingContent = new TreeMap<>();
+
+						readJavaPackagesAndClasses(loadingContent);
+						readEclipsePackages(loadingContent);
+
+						final JavaClassIndex index = JavaClassIndex.create(loadingContent, stateKey);
+						if (indexFile != null) {
+							try {
+								index.write(indexFile);
+							} catch (final IOException e) {
+								Logger.warning(PLUGIN_ID, "Cannot persist java class index for code completion", e);
+							}
+						}
+
+						fIndex = index;
+
+						return Status.OK_STATUS;
+					}
+				};
+
+				job.setSystem(true);
+				job.schedule();
+			}
+		}
+	}
 
-					fPackagesAndClasses = loadingContent;
+	/**
+	 * Get the file to persist the index to.
+	 *
+	 * @return index file or <code>null</code> when no state location is available
+	 */
+	private File getIndexFile() {
+		try {
+			return new File(Platform.getStateLocation(FrameworkUtil.getBundle(getClass())).toFile(), INDEX_FILE);
+		} catch (final IllegalStateException e) {
+			// no instance location available
+			return null;
+		}
+	}
 
-					return Status.OK_STATUS;
-				}
-			};
+	/**
+	 * Compute a key for the current framework state. The key changes whenever bundles get installed, updated or removed, or when the java runtime
+	 * changes.
+	 *
+	 * @return state key
+	 */
+	private long computeStateKey() {
+		long key = getJavaMajorVersion();
 
-			job.setSystem(true);
-			job.schedule();
+		final BundleContext context = FrameworkUtil.getBundle(getClass()).getBundleContext();
+		for (final Bundle bundle : context.getBundles()) {
+			key = (31 * key) + bundle.getBundleId();
+			key = (31 * key) + bundle.getLastModified();
+			key = (31 * key) + String.valueOf(bundle.getSymbolicName()).hashCode();
+			key = (31 * key) + bundle.getVersion().hashCode();
 		}
+
+		return key;
 	}
 
 	private void readEclipsePackages(Map<String, Collection<String>> target) {
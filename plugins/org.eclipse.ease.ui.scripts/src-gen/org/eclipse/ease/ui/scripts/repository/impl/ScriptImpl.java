@@ -18,7 +18,6 @@ import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.IPath;
@@ -558,9 +557,7 @@ public class ScriptImpl extends RawLocationImpl implements IScript {
 		final IScriptEngine engine = prepareEngine();
 
 		if (engine != null) {
-			for (final Entry<String, Object> entry : parameters.entrySet())
-				engine.setVariable(entry.getKey(), entry.getValue());
-
+			engine.setVariables(parameters);
 			engine.schedule();
 		}
 
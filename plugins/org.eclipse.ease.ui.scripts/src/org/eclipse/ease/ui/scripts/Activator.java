@@ -14,6 +14,7 @@ package org.eclipse.ease.ui.scripts;
 
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.ease.ui.scripts.repository.impl.RepositoryService;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
@@ -37,6 +38,7 @@ public class Activator extends AbstractUIPlugin {
 
 	@Override
 	public void stop(final BundleContext context) throws Exception {
+		RepositoryService.disposeInstance();
 		fInstance = null;
 
 		super.stop(context);
@@ -13,28 +13,50 @@
 package org.eclipse.ease.ui.scripts.repository.impl;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 
+import org.eclipse.ease.Logger;
 import org.eclipse.ease.tools.ResourceTools;
+import org.eclipse.ease.ui.scripts.Activator;
 import org.eclipse.ease.ui.scripts.repository.IRepositoryService;
 import org.eclipse.ease.ui.scripts.repository.IScriptLocation;
-import org.eclipse.ui.PlatformUI;
 
 public class FileSystemParser extends WorkspaceParser {
 
 	public void parse(final File file, final IScriptLocation entry) {
-		if (file.isDirectory()) {
-			// containment, parse children
-			for (final File child : file.listFiles()) {
-				if ((child.isFile()) || (entry.isRecursive()))
-					parse(child, entry);
-			}
-
-		} else {
-			// try to locate registered script
-			final String location = ResourceTools.toAbsoluteLocation(file, null);
-
-			final IRepositoryService repositoryService = PlatformUI.getWorkbench().getService(IRepositoryService.class);
-			repositoryService.updateLocation(entry, location, file.lastModified());
+		final IRepositoryService repositoryService = getRepositoryService();
+
+		// file attributes are read while traversing, avoiding additional file system access per file
+		try {
+			Files.walkFileTree(file.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), entry.isRecursive() ? Integer.MAX_VALUE : 1,
+					new SimpleFileVisitor<Path>() {
+						@Override
+						public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+							if (attributes.isRegularFile()) {
+								// try to locate registered script
+								final String location = ResourceTools.toAbsoluteLocation(path.toFile(), null);
+								repositoryService.updateLocation(entry, location, attributes.lastModifiedTime().toMillis());
+							}
+
+							return FileVisitResult.CONTINUE;
+						}
+
+						@Override
+						public FileVisitResult visitFileFailed(Path path, IOException e) {
+							// unreadable file or folder, skip
+							return FileVisitResult.CONTINUE;
+						}
+					});
+
+		} catch (final IOException e) {
+			Logger.warning(Activator.PLUGIN_ID, "Cannot parse script location " + file, e);
 		}
 	}
 }
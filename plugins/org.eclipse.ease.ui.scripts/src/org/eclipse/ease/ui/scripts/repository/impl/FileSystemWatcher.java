@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.ui.scripts.repository.impl;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.ui.scripts.Activator;
+import org.eclipse.ease.ui.scripts.repository.IScriptLocation;
+
+/**
+ * Watches file system script locations for changes. Touched files are reported to the {@link UpdateRepositoryJob}, so only these need to be parsed again.
+ * Recursive locations register each subfolder, as a {@link WatchService} does not report changes within nested folders. When the root folder of a location
+ * disappears, the location is dropped and gets registered and rescanned again once it is watched anew.
+ */
+class FileSystemWatcher {
+
+	/** Folder registered with the watch service. */
+	private static class WatchedFolder {
+
+		private final IScriptLocation fLocation;
+
+		private final Path fFolder;
+
+		public WatchedFolder(IScriptLocation location, Path folder) {
+			fLocation = location;
+			fFolder = folder;
+		}
+	}
+
+	private final UpdateRepositoryJob fUpdateJob;
+
+	private WatchService fWatchService = null;
+
+	/** Registered folders. Nested script locations may register the same folder, so a key might be shared by several locations. */
+	private final Map<WatchKey, List<WatchedFolder>> fWatchKeys = new HashMap<>();
+
+	/** Watched script locations mapped to their root path. */
+	private final Map<IScriptLocation, Path> fLocations = new HashMap<>();
+
+	/** Locations dropped as their root folder disappeared. These need a rescan when watched again. */
+	private final Set<IScriptLocation> fLostLocations = new HashSet<>();
+
+	private boolean fDisposed = false;
+
+	FileSystemWatcher(UpdateRepositoryJob updateJob) {
+		fUpdateJob = updateJob;
+	}
+
+	/**
+	 * Start watching a script location. A location that got lost before is marked for a full update.
+	 *
+	 * @param location
+	 *            script location to watch
+	 * @param root
+	 *            root folder or single file of the location
+	 * @return <code>true</code> when the location is watched
+	 */
+	synchronized boolean watch(IScriptLocation location, File root) {
+		if (fDisposed)
+			return false;
+
+		if (fLocations.containsKey(location))
+			return true;
+
+		try {
+			if (fWatchService == null) {
+				final WatchService watchService = FileSystems.getDefault().newWatchService();
+				fWatchService = watchService;
+
+				final Thread thread = new Thread(() -> processEvents(watchService), "EASE script repository watcher");
+				thread.setDaemon(true);
+				thread.start();
+			}
+
+			final Path rootPath = root.toPath().toAbsolutePath();
+			fLocations.put(location, rootPath);
+
+			if (Files.isDirectory(rootPath))
+				registerTree(location, rootPath);
+			else
+				// single file location, watch its folder and filter events
+				register(location, rootPath.getParent());
+
+			// changes while the location was not watched got lost
+			if (fLostLocations.remove(location))
+				location.setUpdatePending(true);
+
+			return true;
+
+		} catch (final IOException e) {
+			Logger.warning(Activator.PLUGIN_ID, "Cannot watch script location " + location.getLocation() + ", falling back to periodic updates", e);
+			unwatch(location);
+			return false;
+		}
+	}
+
+	/**
+	 * Stop watching a script location.
+	 *
+	 * @param location
+	 *            script location to remove
+	 */
+	synchronized void unwatch(IScriptLocation location) {
+		fLocations.remove(location);
+		fLostLocations.remove(location);
+
+		final Iterator<Entry<WatchKey, List<WatchedFolder>>> iterator = fWatchKeys.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Entry<WatchKey, List<WatchedFolder>> entry = iterator.next();
+			entry.getValue().removeIf(folder -> folder.fLocation.equals(location));
+			if (entry.getValue().isEmpty()) {
+				entry.getKey().cancel();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Stop watching all locations. Closes the watch service, which terminates the watcher thread.
+	 */
+	synchronized void dispose() {
+		fDisposed = true;
+
+		fWatchKeys.clear();
+		fLocations.clear();
+		fLostLocations.clear();
+
+		if (fWatchService != null) {
+			try {
+				fWatchService.close();
+			} catch (final IOException e) {
+				Logger.warning(Activator.PLUGIN_ID, "Cannot close script repository watcher", e);
+			}
+
+			fWatchService = null;
+		}
+	}
+
+	private void registerTree(IScriptLocation location, Path folder) throws IOException {
+		if (location.isRecursive()) {
+			Files.walkFileTree(folder, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+					register(location, directory);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e) {
+					// unreadable folder, skip
+					return FileVisitResult.CONTINUE;
+				}
+			});
+
+		} else
+			register(location, folder);
+	}
+
+	private void register(IScriptLocation location, Path folder) throws IOException {
+		final WatchKey key = folder.register(fWatchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+		fWatchKeys.computeIfAbsent(key, k -> new ArrayList<>()).add(new WatchedFolder(location, folder));
+	}
+
+	private void processEvents(WatchService watchService) {
+		while (true) {
+			final WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (final InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+
+			final List<WatchEvent<?>> events = key.pollEvents();
+
+			synchronized (this) {
+				final List<WatchedFolder> folders = fWatchKeys.get(key);
+				if (folders != null) {
+					for (final WatchedFolder folder : new ArrayList<>(folders)) {
+						for (final WatchEvent<?> event : events)
+							handleEvent(folder, event);
+					}
+				}
+
+				if (!key.reset()) {
+					// folder is no longer accessible
+					final List<WatchedFolder> removedFolders = fWatchKeys.remove(key);
+					if (removedFolders != null) {
+						for (final WatchedFolder folder : removedFolders)
+							checkRoot(folder);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop a location when its root folder is no longer accessible. The location gets rescanned and is registered again on its next
+	 * {@link #watch(IScriptLocation, File)}.
+	 *
+	 * @param folder
+	 *            folder that can no longer be watched
+	 */
+	private void checkRoot(WatchedFolder folder) {
+		final Path root = fLocations.get(folder.fLocation);
+		if ((root != null) && (root.startsWith(folder.fFolder))) {
+			unwatch(folder.fLocation);
+			fLostLocations.add(folder.fLocation);
+
+			fUpdateJob.update(folder.fLocation);
+		}
+	}
+
+	private void handleEvent(WatchedFolder folder, WatchEvent<?> event) {
+		if (OVERFLOW.equals(event.kind())) {
+			// events got lost, rescan the whole location
+			fUpdateJob.update(folder.fLocation);
+			return;
+		}
+
+		final Path path = folder.fFolder.resolve((Path) event.context());
+
+		// single file locations watch their parent folder
+		final Path root = fLocations.get(folder.fLocation);
+		if ((root == null) || (!path.startsWith(root)))
+			return;
+
+		if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+			// a modified folder only indicates changed children, these get reported on their own
+			if (ENTRY_MODIFY.equals(event.kind()) || !folder.fLocation.isRecursive())
+				return;
+
+			if (ENTRY_CREATE.equals(event.kind())) {
+				try {
+					registerTree(folder.fLocation, path);
+				} catch (final IOException e) {
+					Logger.warning(Activator.PLUGIN_ID, "Cannot watch script folder " + path, e);
+				}
+			}
+		}
+
+		fUpdateJob.update(folder.fLocation, path.toFile());
+	}
+}
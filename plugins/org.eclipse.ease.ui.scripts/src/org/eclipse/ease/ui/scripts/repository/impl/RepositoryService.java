@@ -24,9 +24,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -81,12 +83,25 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 		return fInstance;
 	}
 
+	/**
+	 * Dispose the repository service singleton if it got started. Stops tracking script locations for changes.
+	 */
+	public static void disposeInstance() {
+		if (fInstance != null) {
+			fInstance.dispose();
+			fInstance = null;
+		}
+	}
+
 	/** Access fRepository only synchronized with fRepositoryMutex. **/
 	private IStorage fRepository = null;
 
 	/** Synchronizer for fRepository. **/
 	private final Object fRepositoryMutex = new Object();
 
+	/** Scripts indexed by their location. Access only synchronized with fScriptsByLocation. **/
+	private final Map<String, IScript> fScriptsByLocation = new HashMap<>();
+
 	private final UpdateRepositoryJob fUpdateJob;
 
 	private final IEventBroker fEventBroker = PlatformUI.getWorkbench().getService(IEventBroker.class);
@@ -166,6 +181,11 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 			save();
 		}
 
+		synchronized (fScriptsByLocation) {
+			for (final IScript script : getScripts())
+				fScriptsByLocation.put(script.getLocation(), script);
+		}
+
 		// update repository
 		fUpdateJob = new UpdateRepositoryJob(this);
 
@@ -183,6 +203,11 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 		}
 	}
 
+	private void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		fUpdateJob.dispose();
+	}
+
 	/**
 	 *
 	 */
@@ -322,6 +347,10 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 				script.setLocation(location);
 
 				entry.getScripts().add(script);
+				synchronized (fScriptsByLocation) {
+					fScriptsByLocation.put(location, script);
+				}
+
 				final HashMap<String, Object> eventData = new HashMap<>();
 				eventData.put("script", script);
 				fEventBroker.post(BROKER_CHANNEL_SCRIPTS_NEW, eventData);
@@ -366,16 +395,16 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 	}
 
 	private IScript getScriptByLocation(final String location) {
-		for (final IScript script : getScripts()) {
-			if (script.getLocation().equals(location))
-				return script;
+		synchronized (fScriptsByLocation) {
+			return fScriptsByLocation.get(location);
 		}
-
-		return null;
 	}
 
 	void removeScript(final IScript script) {
 		script.getEntry().getScripts().remove(script);
+		synchronized (fScriptsByLocation) {
+			fScriptsByLocation.remove(script.getLocation(), script);
+		}
 
 		// unregister script keywords
 		for (final Entry<String, String> entry : script.getKeywords().entrySet())
@@ -386,19 +415,55 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 		fEventBroker.post(BROKER_CHANNEL_SCRIPTS_REMOVED, eventData);
 	}
 
+	/**
+	 * Remove all scripts stored at a given location. When the location denotes a folder, all contained scripts are removed.
+	 *
+	 * @param location
+	 *            location of a deleted file or folder
+	 */
+	void removeScripts(final String location) {
+		final String folderLocation = location.endsWith("/") ? location : location + "/";
+
+		final Collection<IScript> scripts = new ArrayList<>();
+		synchronized (fScriptsByLocation) {
+			for (final Entry<String, IScript> entry : fScriptsByLocation.entrySet()) {
+				if (entry.getKey().equals(location) || entry.getKey().startsWith(folderLocation))
+					scripts.add(entry.getValue());
+			}
+		}
+
+		for (final IScript script : scripts)
+			removeScript(script);
+	}
+
 	@Override
 	public void resourceChanged(final IResourceChangeEvent event) {
 		try {
 			if (event.getDelta() != null) {
 				event.getDelta().accept(delta -> {
-					// TODO currently we update the whole location on a simple change, just focus on the changed files in future
 					final IResource resource = delta.getResource();
 					final String location = "workspace:/" + resource.getFullPath();
-					for (final IScriptLocation entry : getLocations()) {
-						if (entry.getLocation().equals(location)) {
-							// TODO currently updates a whole repository for eg a small file content change
-							fUpdateJob.update(entry);
+
+					if (resource instanceof IFile) {
+						// ignore marker or sync changes
+						if ((delta.getKind() == IResourceDelta.CHANGED) && ((delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) == 0))
 							return false;
+
+						// only update the touched file
+						final IScriptLocation entry = getWorkspaceLocation(location);
+						if (entry != null)
+							fUpdateJob.update(entry, resource);
+
+						return false;
+					}
+
+					if (delta.getKind() == IResourceDelta.ADDED) {
+						// location root got created, parse the whole location
+						for (final IScriptLocation entry : getLocations()) {
+							if (entry.getLocation().equals(location)) {
+								fUpdateJob.update(entry);
+								return false;
+							}
 						}
 					}
 
@@ -411,6 +476,27 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 		}
 	}
 
+	/**
+	 * Find the workspace location containing a given file.
+	 *
+	 * @param location
+	 *            file location
+	 * @return script location or <code>null</code>
+	 */
+	private IScriptLocation getWorkspaceLocation(final String location) {
+		for (final IScriptLocation entry : getLocations()) {
+			if (entry.getLocation().equals(location))
+				// single file location
+				return entry;
+
+			final String folderLocation = entry.getLocation().endsWith("/") ? entry.getLocation() : entry.getLocation() + "/";
+			if (location.startsWith(folderLocation) && (entry.isRecursive() || (location.indexOf('/', folderLocation.length()) == -1)))
+				return entry;
+		}
+
+		return null;
+	}
+
 	@Override
 	public void addLocation(final String locationURI, final boolean defaultLocation, final boolean recursive) {
 		final IScriptLocation entry = IRepositoryFactory.eINSTANCE.createScriptLocation();
@@ -448,6 +534,7 @@ public final class RepositoryService implements IRepositoryService, IResourceCha
 			for (final IScriptLocation entry : new HashSet<>(fRepository.getEntries())) {
 				if (entry.getLocation().equals(locationURI)) {
 					fRepository.getEntries().remove(entry);
+					fUpdateJob.remove(entry);
 
 					for (final IScript script : new HashSet<>(entry.getScripts()))
 						removeScript(script);
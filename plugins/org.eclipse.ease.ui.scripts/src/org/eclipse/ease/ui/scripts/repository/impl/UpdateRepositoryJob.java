@@ -18,22 +18,47 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ease.tools.ResourceTools;
 import org.eclipse.ease.ui.scripts.repository.IScript;
 import org.eclipse.ease.ui.scripts.repository.IScriptLocation;
 import org.eclipse.ease.ui.scripts.ui.Decorator;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 
+/**
+ * Keeps the script repository up to date. Locations get parsed completely when added or on explicit update requests. Afterwards file system locations are
+ * watched and workspace locations are tracked by resource deltas, so only touched files need to be parsed again. Locations that cannot be watched (remote and
+ * plugin locations) are rescanned periodically.
+ */
 public class UpdateRepositoryJob extends Job {
 
+	/** Interval to rescan locations that cannot be watched for changes. */
+	// TODO make this editable by preferences
+	private static final long REFRESH_INTERVAL = 1000 * 60 * 30;
+
+	/** Delay to collect further changes before updating the repository. */
+	private static final long UPDATE_DELAY = 300;
+
 	private final RepositoryService fRepositoryService;
 
+	private final FileSystemWatcher fFileSystemWatcher = new FileSystemWatcher(this);
+
+	/** Files changed since the last run, mapped to their script location. Files are either {@link File} or {@link IResource} instances. */
+	private final Map<Object, IScriptLocation> fChangedFiles = new LinkedHashMap<>();
+
+	/** Time for the next rescan of locations that cannot be watched. */
+	private long fNextRefresh = 0;
+
 	public UpdateRepositoryJob(final RepositoryService repositoryService) {
 		super("Updating script repository");
 
@@ -43,77 +68,202 @@ public class UpdateRepositoryJob extends Job {
 	@Override
 	protected IStatus run(final IProgressMonitor monitor) {
 
+		final long now = System.currentTimeMillis();
+		final boolean refresh = now >= fNextRefresh;
+		boolean hasUnwatchedLocations = false;
+
 		final Collection<IScriptLocation> locations = new HashSet<>(fRepositoryService.getLocations());
 
 		for (final IScriptLocation location : locations) {
-			if (location.isUpdatePending()) {
-				// mark scripts to be verified
-				for (final IScript script : location.getScripts())
-					script.setUpdatePending(true);
-
-				// get location base resource
-				final Object content = location.getResource();
-				if ((content instanceof IResource) && (((IResource) content).exists())) {
-					// this is a valid workspace resource
-					new WorkspaceParser().parse((IResource) content, location);
-					// ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
-
-				} else if ((content instanceof File) && (((File) content).exists())) {
-					// this is a valid file system resource
-					new FileSystemParser().parse((File) content, location);
-
-				} else if (content instanceof URI) {
-					if ("platform".equals(((URI) content).getScheme())) {
-						new PluginParser().parse(content, location);
-
-					} else {
-						// trying for remote locations
-						try {
-							final String scriptLocation = ((URI) content).toURL().toString();
-							if (GithubParser.checkBundle() && GithubParser.isLocationValid(scriptLocation)) {
-								new GithubParser().parse(scriptLocation, location);
-							} else {
-								new HttpParser().parse(scriptLocation, location);
-							}
-						} catch (final MalformedURLException e) {
-							// not a valid URL, ignore repository
-						}
-					}
+			// get location base resource
+			final Object content = location.getResource();
 
-				} else if (content instanceof InputStream) {
-					// FIXME can never happen call entry.getInputStream() instead
-					// new InputStreamParser(fRepositoryService).parse(stream, entry);
-					// entry.setTimestamp(System.currentTimeMillis());
-				}
+			// start watching before parsing, so changes during the scan do not get lost
+			final boolean watched = watch(location, content);
+			if (!watched)
+				hasUnwatchedLocations = true;
 
-				// remove scripts that were not verified
-				for (final IScript script : new HashSet<>(location.getScripts())) {
-					if (script.isUpdatePending())
-						fRepositoryService.removeScript(script);
-				}
+			if (location.isUpdatePending() || (!watched && refresh)) {
+				location.setUpdatePending(false);
+				parseLocation(location, content);
 			}
 		}
 
+		// parse touched files only
+		final Map<Object, IScriptLocation> changedFiles;
+		synchronized (this) {
+			changedFiles = new LinkedHashMap<>(fChangedFiles);
+			fChangedFiles.clear();
+		}
+
+		for (final Entry<Object, IScriptLocation> entry : changedFiles.entrySet()) {
+			if (locations.contains(entry.getValue()))
+				parseFile(entry.getKey(), entry.getValue());
+		}
+
 		// save new state
 		fRepositoryService.save();
 
 		// update decorators
 		Display.getDefault().asyncExec(() -> PlatformUI.getWorkbench().getDecoratorManager().update(Decorator.SIGN_DECORATOR_ID));
 
-		// re schedule job
-		// TODO make this editable by preferences
-		schedule(1000 * 60 * 30);
+		// re schedule job, updates requested during this run take precedence
+		synchronized (this) {
+			if (!fChangedFiles.isEmpty() || fRepositoryService.getLocations().stream().anyMatch(IScriptLocation::isUpdatePending))
+				schedule(UPDATE_DELAY);
+
+			else if (hasUnwatchedLocations) {
+				if (refresh)
+					fNextRefresh = now + REFRESH_INTERVAL;
+
+				schedule(Math.max(0, fNextRefresh - System.currentTimeMillis()));
+			}
+		}
 
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Register a location for change tracking. Workspace locations are tracked by the {@link RepositoryService} using resource deltas.
+	 *
+	 * @param location
+	 *            location to track
+	 * @param content
+	 *            location base resource
+	 * @return <code>true</code> when changes of the location get reported
+	 */
+	private boolean watch(final IScriptLocation location, final Object content) {
+		if (content instanceof IResource)
+			return ((IResource) content).exists();
+
+		if ((content instanceof File) && (((File) content).exists()))
+			return fFileSystemWatcher.watch(location, (File) content);
+
+		return false;
+	}
+
+	/**
+	 * Parse a whole location. Scripts that cannot be found anymore are removed from the repository.
+	 *
+	 * @param location
+	 *            location to parse
+	 * @param content
+	 *            location base resource
+	 */
+	private void parseLocation(final IScriptLocation location, final Object content) {
+		// mark scripts to be verified
+		for (final IScript script : location.getScripts())
+			script.setUpdatePending(true);
+
+		if ((content instanceof IResource) && (((IResource) content).exists())) {
+			// this is a valid workspace resource
+			new WorkspaceParser().parse((IResource) content, location);
+
+		} else if ((content instanceof File) && (((File) content).exists())) {
+			// this is a valid file system resource
+			new FileSystemParser().parse((File) content, location);
+
+		} else if (content instanceof URI) {
+			if ("platform".equals(((URI) content).getScheme())) {
+				new PluginParser().parse(content, location);
+
+			} else {
+				// trying for remote locations
+				try {
+					final String scriptLocation = ((URI) content).toURL().toString();
+					if (GithubParser.checkBundle() && GithubParser.isLocationValid(scriptLocation)) {
+						new GithubParser().parse(scriptLocation, location);
+					} else {
+						new HttpParser().parse(scriptLocation, location);
+					}
+				} catch (final MalformedURLException e) {
+					// not a valid URL, ignore repository
+				}
+			}
+
+		} else if (content instanceof InputStream) {
+			// FIXME can never happen call entry.getInputStream() instead
+			// new InputStreamParser(fRepositoryService).parse(stream, entry);
+			// entry.setTimestamp(System.currentTimeMillis());
+		}
+
+		// remove scripts that were not verified
+		for (final IScript script : new HashSet<>(location.getScripts())) {
+			if (script.isUpdatePending())
+				fRepositoryService.removeScript(script);
+		}
+	}
+
+	/**
+	 * Parse a single changed file. Files that do not exist anymore are removed from the repository, for deleted folders all contained scripts are removed.
+	 *
+	 * @param file
+	 *            {@link File} or {@link IResource} that changed
+	 * @param location
+	 *            script location containing the file
+	 */
+	private void parseFile(final Object file, final IScriptLocation location) {
+		if (file instanceof IResource) {
+			if (((IResource) file).exists()) {
+				if (file instanceof IFile)
+					new WorkspaceParser().parse((IResource) file, location);
+
+			} else
+				fRepositoryService.removeScripts(ResourceTools.toAbsoluteLocation(file, null));
+
+		} else if (file instanceof File) {
+			if (((File) file).exists()) {
+				// new folders within non recursive locations are not parsed
+				if (((File) file).isFile() || location.isRecursive())
+					new FileSystemParser().parse((File) file, location);
+
+			} else
+				fRepositoryService.removeScripts(ResourceTools.toAbsoluteLocation(file, null));
+		}
+	}
+
+	/**
+	 * Stop tracking changes of a location.
+	 *
+	 * @param entry
+	 *            location that got removed from the repository
+	 */
+	void remove(final IScriptLocation entry) {
+		fFileSystemWatcher.unwatch(entry);
+	}
+
+	/**
+	 * Stop updating the repository. Terminates change tracking of file system locations.
+	 */
+	void dispose() {
+		cancel();
+		fFileSystemWatcher.dispose();
+	}
+
+	/**
+	 * Queue a single file for update. Files get parsed on the next run of this job, deleted files get removed from the repository.
+	 *
+	 * @param entry
+	 *            script location containing the file
+	 * @param file
+	 *            {@link File} or {@link IResource} that changed
+	 */
+	synchronized void update(final IScriptLocation entry, final Object file) {
+		fChangedFiles.put(file, entry);
+
+		if (getState() != Job.RUNNING)
+			cancel();
+
+		schedule(UPDATE_DELAY);
+	}
+
 	synchronized void update(final IScriptLocation entry) {
 		entry.setUpdatePending(true);
 
 		if (getState() != Job.RUNNING)
 			cancel();
 
-		schedule(300);
+		schedule(UPDATE_DELAY);
 	}
 
 	synchronized void update() {
@@ -123,7 +273,7 @@ public class UpdateRepositoryJob extends Job {
 		if (getState() != Job.RUNNING)
 			cancel();
 
-		schedule(300);
+		schedule(UPDATE_DELAY);
 	}
 
 	// FIXME does not work yet
@@ -133,6 +283,6 @@ public class UpdateRepositoryJob extends Job {
 		if (getState() != Job.RUNNING)
 			cancel();
 
-		schedule(300);
+		schedule(UPDATE_DELAY);
 	}
 }
\ No newline at end of file
@@ -24,16 +24,47 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.modules.EnvironmentModule;
 import org.eclipse.ease.modules.IEnvironment;
 import org.eclipse.ease.modules.ModuleHelper;
 import org.eclipse.ease.modules.ScriptParameter;
 import org.eclipse.ease.modules.WrapToScript;
+import org.eclipse.ease.tools.LRUCache;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 public abstract class AbstractCodeFactory implements ICodeFactory {
 
 	/** Default line break character. */
 	public static final String LINE_DELIMITER = System.getProperty(Platform.PREF_LINE_SEPARATOR);
 
+	/** Maximum amount of generated wrappers kept in the shared cache. */
+	private static final int WRAPPER_CACHE_SIZE = 256;
+
+	/** Generated wrapper code shared by all code factory instances. */
+	private static final LRUCache<List<Object>, WrapperCode> WRAPPER_CACHE = new LRUCache<>(WRAPPER_CACHE_SIZE);
+
+	/**
+	 * Get the cache of generated module wrappers shared by all code factories. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return wrapper code cache
+	 */
+	public static LRUCache<List<Object>, WrapperCode> getWrapperCache() {
+		return WRAPPER_CACHE;
+	}
+
+	private static String getBundleVersion(Class<?> clazz) {
+		final Bundle bundle = FrameworkUtil.getBundle(clazz);
+		return (bundle != null) ? bundle.getVersion().toString() : "";
+	}
+
+	private static String getEngineIdentifier(IScriptEngine engine) {
+		if (engine == null)
+			return "";
+
+		return ((engine.getDescription() != null) ? engine.getDescription().getID() : engine.getClass().getName());
+	}
+
 	protected String buildParameterList(List<Parameter> parameters) {
 		return parameters.stream().map(p -> toSafeName(p.getName())).collect(Collectors.joining(", "));
 	}
@@ -233,6 +264,30 @@ public abstract class AbstractCodeFactory implements ICodeFactory {
 		}
 	}
 
+	@Override
+	public String getWrapperCode(IEnvironment environment, Object instance, String identifier, boolean customNamespace, IScriptEngine engine) {
+		// generated code only depends on these parameters, identifiers are derived from class names
+		final List<Object> key = Arrays.asList(getClass(), instance.getClass(), getBundleVersion(instance.getClass()), customNamespace, identifier,
+				EnvironmentModule.getWrappedVariableName(environment), getEngineIdentifier(engine));
+
+		final WrapperCode cachedCode = WRAPPER_CACHE.get(key);
+		if (cachedCode != null) {
+			// method tokens are stored per environment, so we need to register them for each engine
+			for (final Method method : cachedCode.getMethods())
+				environment.registerMethod(method);
+
+			return cachedCode.getCode();
+		}
+
+		final String code = createWrapper(environment, instance, identifier, customNamespace, engine);
+
+		// only wrapped methods get registered, unsupported ones must not be registered on cache hits either
+		final List<Method> methods = ModuleHelper.getMethods(instance.getClass()).stream().filter(this::isSupportedByLanguage).collect(Collectors.toList());
+		WRAPPER_CACHE.put(key, new WrapperCode(code, methods));
+
+		return code;
+	}
+
 	@Override
 	public String createWrapper(IEnvironment environment, Object instance, String identifier, boolean customNamespace, IScriptEngine engine) {
 
@@ -369,4 +424,27 @@ public abstract class AbstractCodeFactory implements ICodeFactory {
 	 * @return safe name
 	 */
 	protected abstract String toSafeName(String name);
+
+	/**
+	 * Generated wrapper code along with the methods that need to be registered on the environment.
+	 */
+	public static class WrapperCode {
+
+		private final String fCode;
+
+		private final List<Method> fMethods;
+
+		public WrapperCode(String code, List<Method> methods) {
+			fCode = code;
+			fMethods = methods;
+		}
+
+		public String getCode() {
+			return fCode;
+		}
+
+		public List<Method> getMethods() {
+			return fMethods;
+		}
+	}
 }
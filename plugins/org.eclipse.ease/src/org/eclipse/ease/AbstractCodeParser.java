@@ -150,7 +150,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 
 			// contentBuffer is used to get content excluding signature block. It is updated continuously because in rare cases, we may come to know that
 			// what we have read yet is not an actual signature block but part of original script.
-			final StringBuffer contentBuffer = new StringBuffer();
+			final StringBuilder contentBuffer = new StringBuilder();
 
 			cur = bReader.readLine();
 			if (cur == null)
@@ -162,27 +162,25 @@ public abstract class AbstractCodeParser implements ICodeParser {
 			while ((cur = bReader.readLine()) != null) {
 
 				while (!cur.equals(ISignatureConstants.BEGIN_STRING)) {
-					contentBuffer.append(prev + "\n");
+					contentBuffer.append(prev).append('\n');
 					prev = cur;
 					cur = bReader.readLine();
 					if (cur == null)
 						return null;
 				}
 
-				final StringBuffer contentOnlyBuffer = new StringBuffer(contentBuffer);
-				// remove an extra \n character at end. Since this content is used for verification. Same script is required in contentOnly as it was before
-				// signing
-				if (contentOnlyBuffer.length() > 0)
-					contentOnlyBuffer.deleteCharAt(contentOnlyBuffer.length() - 1);
+				// remember where content ends instead of copying it. An extra \n character at end needs to be removed. Since this content is used for
+				// verification. Same script is required in contentOnly as it was before signing
+				final int contentOnlyLength = Math.max(0, contentBuffer.length() - 1);
 
-				contentBuffer.append(prev + "\n");
+				contentBuffer.append(prev).append('\n');
 				if (!prev.equals(getBlockCommentStartToken())) {
 					// if start block comment is not present, it is not a signature block
 					prev = cur;
 					continue;
 				}
 
-				contentBuffer.append(cur + "\n");
+				contentBuffer.append(cur).append('\n');
 
 				// else{ continue; } denote that signature in proper format is not yet found and can be found later. So, continue with finding BEGIN_STRING.
 				// else{ break; } denote that end of script is reached and so, return null.
@@ -194,7 +192,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -203,7 +201,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 				cur = bReader.readLine();
 				if (cur != null) {
 					messageDigestAlgo = cur;
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -214,7 +212,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -225,7 +223,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -234,7 +232,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 				cur = bReader.readLine();
 				if (cur != null) {
 					provider = cur;
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -245,7 +243,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -256,21 +254,21 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
 				// following block fetches signature
-				final StringBuffer signBuf = new StringBuffer();
+				final StringBuilder signBuf = new StringBuilder();
 				while (((cur = bReader.readLine()) != null) && !cur.isEmpty()) {
 					signBuf.append(cur);
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				}
 
 				if (cur == null)
 					break;
 
-				contentBuffer.append(cur + "\n");
+				contentBuffer.append(cur).append('\n');
 
 				cur = bReader.readLine();
 				if (cur != null) {
@@ -278,21 +276,21 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
 				// following block fetches certificates separated by colon(:)
-				final StringBuffer certBuf = new StringBuffer();
+				final StringBuilder certBuf = new StringBuilder();
 				while (((cur = bReader.readLine()) != null) && !cur.isEmpty()) {
 					certBuf.append(cur);
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				}
 
 				if (cur == null)
 					break;
 
-				contentBuffer.append(cur + "\n");
+				contentBuffer.append(cur).append('\n');
 
 				// end string
 				cur = bReader.readLine();
@@ -301,7 +299,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						prev = cur;
 						continue;
 					}
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -314,7 +312,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 						continue;
 					}
 
-					contentBuffer.append(cur + "\n");
+					contentBuffer.append(cur).append('\n');
 				} else
 					break;
 
@@ -325,7 +323,7 @@ public abstract class AbstractCodeParser implements ICodeParser {
 				else {
 					final String signature = signBuf.toString();
 					final String certificates[] = certBuf.toString().split(":");
-					return new SignatureInfo(signature, provider, messageDigestAlgo, certificates, contentOnlyBuffer.toString());
+					return new SignatureInfo(signature, provider, messageDigestAlgo, certificates, contentBuffer.substring(0, contentOnlyLength));
 				}
 			}
 			return null;
@@ -55,9 +55,7 @@ public abstract class AbstractReplScriptEngine extends AbstractScriptEngine impl
 			// we can only set this before the engine got started
 			setSystem(!terminate);
 
-		synchronized (getScheduledScripts()) {
-			getScheduledScripts().notifyAll();
-		}
+		wakeUpEngine();
 	}
 
 	@Override
@@ -20,11 +20,14 @@ import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.resources.IFile;
@@ -82,8 +85,13 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 		}
 	}
 
-	/** List of code parts to be executed. */
-	private final List<Script> fScheduledScripts = new ArrayList<>();
+	/** Code parts to be executed. Producers never block on this queue. */
+	private final Queue<ScheduledScript> fScheduledScripts = new ConcurrentLinkedQueue<>();
+
+	/** Monitor used to wake up the engine thread. Never held while a script is executed. */
+	private final Object fSchedulerSignal = new Object();
+
+	private final ScriptEngineStatistics fStatistics = new ScriptEngineStatistics();
 
 	private final ListenerList<IExecutionListener> fExecutionListeners = new ListenerList<>();
 
@@ -135,10 +143,9 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	public final ScriptResult execute(final Object content) {
 		final Script script = (content instanceof Script) ? (Script) content : new Script(content);
 
-		synchronized (fScheduledScripts) {
-			fScheduledScripts.add(script);
-			fScheduledScripts.notifyAll();
-		}
+		fStatistics.scriptSubmitted();
+		fScheduledScripts.offer(new ScheduledScript(script));
+		wakeUpEngine();
 
 		return script.getResult();
 	}
@@ -237,13 +244,16 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 			while (!shallTerminate()) {
 
 				try {
-					synchronized (fScheduledScripts) {
-						waitForNextScript();
+					waitForNextScript();
+
+					final ScheduledScript piece = fScheduledScripts.poll();
+					if (piece != null) {
+						final long startTime = System.nanoTime();
+						fStatistics.scriptDequeued(startTime - piece.fSubmitTime);
 
-						if (!fScheduledScripts.isEmpty()) {
-							final Script piece = fScheduledScripts.remove(0);
-							inject(piece, true, false);
-						}
+						inject(piece.fScript, true, false);
+
+						fStatistics.scriptExecuted(System.nanoTime() - startTime);
 					}
 				} catch (final InterruptedException e) {
 					// waiting got interrupted, quite likely a shutdown
@@ -258,14 +268,23 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	}
 
 	private void waitForNextScript() throws InterruptedException {
-		synchronized (fScheduledScripts) {
+		synchronized (fSchedulerSignal) {
 			while ((fScheduledScripts.isEmpty()) && (!shallTerminate())) {
-				Logger.trace(Activator.PLUGIN_ID, TRACE_SCRIPT_ENGINE, "Engine idle: " + getName());
-				fScheduledScripts.wait();
+				Logger.trace(Activator.PLUGIN_ID, TRACE_SCRIPT_ENGINE, "Engine idle: " + getName() + " (" + fStatistics + ")");
+				fSchedulerSignal.wait();
 			}
 		}
 	}
 
+	/**
+	 * Wake up the engine thread (and threads joining the engine) to re-evaluate the scheduler state.
+	 */
+	protected void wakeUpEngine() {
+		synchronized (fSchedulerSignal) {
+			fSchedulerSignal.notifyAll();
+		}
+	}
+
 	private IStatus setupRun() {
 		Logger.trace(Activator.PLUGIN_ID, TRACE_SCRIPT_ENGINE, "Engine started: " + getName());
 
@@ -276,9 +295,8 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 			fSetupDone = true;
 
 			// engine is initialized, set buffered variables
-			for (final Entry<String, Object> entry : fBufferedVariables.entrySet()) {
-				setVariable(entry.getKey(), entry.getValue());
-			}
+			if (!fBufferedVariables.isEmpty())
+				setVariables(fBufferedVariables);
 
 			fBufferedVariables.clear();
 
@@ -297,11 +315,10 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	private IStatus cleanupRun(IStatus returnStatus) {
 
 		// discard pending code pieces
-		synchronized (fScheduledScripts) {
-			for (final Script script : fScheduledScripts)
-				script.setException(new ScriptExecutionException("Engine got terminated"));
-
-			fScheduledScripts.clear();
+		ScheduledScript pending;
+		while ((pending = fScheduledScripts.poll()) != null) {
+			fStatistics.scriptDiscarded();
+			pending.fScript.setException(new ScriptExecutionException("Engine got terminated"));
 		}
 
 		notifyExecutionListeners(null, IExecutionListener.ENGINE_END);
@@ -315,9 +332,7 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 				returnStatus = new Status(IStatus.ERROR, Activator.PLUGIN_ID, "Could not teardown script engine", e);
 			}
 		} finally {
-			synchronized (fScheduledScripts) {
-				fScheduledScripts.notifyAll();
-			}
+			wakeUpEngine();
 
 			closeStreams();
 
@@ -371,9 +386,7 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	 * @return <code>true</code> when termination is requested or there is no more work to be done
 	 */
 	protected boolean shallTerminate() {
-		synchronized (fScheduledScripts) {
-			return getMonitor().isCanceled() || fScheduledScripts.isEmpty();
-		}
+		return getMonitor().isCanceled() || fScheduledScripts.isEmpty();
 	}
 
 	@Override
@@ -384,9 +397,7 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 
 		terminateCurrent();
 
-		synchronized (fScheduledScripts) {
-			fScheduledScripts.notifyAll();
-		}
+		wakeUpEngine();
 	}
 
 	@Override
@@ -400,9 +411,9 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 		if (!Thread.currentThread().equals(getThread())) {
 			// we cannot join our own thread
 
-			synchronized (fScheduledScripts) {
+			synchronized (fSchedulerSignal) {
 				while (!isFinished())
-					fScheduledScripts.wait(1000);
+					fSchedulerSignal.wait(1000);
 			}
 		}
 	}
@@ -412,9 +423,9 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 		if (!Thread.currentThread().equals(getThread())) {
 			// we cannot join our own thread
 
-			synchronized (fScheduledScripts) {
+			synchronized (fSchedulerSignal) {
 				if (!isFinished())
-					fScheduledScripts.wait(timeout);
+					fSchedulerSignal.wait(timeout);
 			}
 		}
 	}
@@ -552,6 +563,15 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 			fBufferedVariables.put(name, content);
 	}
 
+	@Override
+	public void setVariables(Map<String, Object> variables) {
+		if (fSetupDone)
+			internalSetVariables(variables);
+
+		else
+			fBufferedVariables.putAll(variables);
+	}
+
 	@Override
 	public Object getVariable(final String name) {
 		if (fSetupDone)
@@ -560,6 +580,18 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 		return fBufferedVariables.get(name);
 	}
 
+	@Override
+	public Map<String, Object> getVariables(Collection<String> names) {
+		if (fSetupDone)
+			return internalGetVariables(names);
+
+		final Map<String, Object> variables = new HashMap<>();
+		for (final String name : names)
+			variables.put(name, fBufferedVariables.get(name));
+
+		return variables;
+	}
+
 	@Override
 	public boolean hasVariable(final String name) {
 		if (fSetupDone)
@@ -585,8 +617,26 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 			fSecurityChecks.get(type).add(check);
 	}
 
+	/**
+	 * Get a snapshot of scripts waiting for execution.
+	 *
+	 * @return scheduled scripts in execution order
+	 */
 	protected List<Script> getScheduledScripts() {
-		return fScheduledScripts;
+		final List<Script> scripts = new ArrayList<>();
+		for (final ScheduledScript scheduledScript : fScheduledScripts)
+			scripts.add(scheduledScript.fScript);
+
+		return scripts;
+	}
+
+	/**
+	 * Get statistics of the script submission queue, like queue depth, submit-to-start latency and run times.
+	 *
+	 * @return engine statistics
+	 */
+	public ScriptEngineStatistics getStatistics() {
+		return fStatistics;
 	}
 
 	public void setLaunch(ILaunch launch) {
@@ -633,6 +683,34 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	 */
 	protected abstract void internalSetVariable(String name, Object content);
 
+	/**
+	 * Internal version of {@link #setVariables(Map)}. Only called after script engine was initialized successfully. Engines may override this method to set
+	 * all variables in a single request.
+	 *
+	 * @param variables
+	 *            map of variables: name -> content
+	 */
+	protected void internalSetVariables(Map<String, Object> variables) {
+		for (final Entry<String, Object> entry : variables.entrySet())
+			internalSetVariable(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Internal version of {@link #getVariables(Collection)}. Only called after script engine was initialized successfully. Engines may override this method
+	 * to retrieve all variables in a single request.
+	 *
+	 * @param names
+	 *            variables to retrieve
+	 * @return map of variables: name -> content
+	 */
+	protected Map<String, Object> internalGetVariables(Collection<String> names) {
+		final Map<String, Object> variables = new HashMap<>();
+		for (final String name : names)
+			variables.put(name, internalGetVariable(name));
+
+		return variables;
+	}
+
 	/**
 	 * Setup method for script engine. Run directly after the engine is activated.
 	 *
@@ -660,6 +738,21 @@ public abstract class AbstractScriptEngine extends Job implements IScriptEngine
 	 */
 	protected abstract Object execute(Script script, String fileName, boolean uiThread) throws Throwable;
 
+	/**
+	 * Queue entry storing the submission time of a script.
+	 */
+	private static class ScheduledScript {
+
+		private final Script fScript;
+
+		private final long fSubmitTime;
+
+		public ScheduledScript(Script script) {
+			fScript = script;
+			fSubmitTime = System.nanoTime();
+		}
+	}
+
 	/**
 	 * Simple monitor to forward cancellation requests to the script engine.
 	 */
@@ -17,6 +17,7 @@ import java.net.URL;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.service.ScriptService;
 import org.eclipse.ecf.filetransfer.FileTransferJob;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
@@ -54,6 +55,8 @@ public class Activator extends AbstractUIPlugin {
 
 	@Override
 	public void stop(final BundleContext context) throws Exception {
+		ScriptService.shutdown();
+
 		fInstance = null;
 		fContext = null;
 
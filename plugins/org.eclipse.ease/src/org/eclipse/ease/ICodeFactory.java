@@ -142,4 +142,25 @@ public interface ICodeFactory {
 	 * @return create wrapped script code
 	 */
 	String createWrapper(IEnvironment environment, Object instance, String identifier, boolean customNamespace, IScriptEngine engine);
+
+	/**
+	 * Get script wrapper code for a given java instance. In contrast to {@link #createWrapper(IEnvironment, Object, String, boolean, IScriptEngine)}
+	 * implementations may return previously generated code for the same module class. Registration of wrapped methods on the environment needs to be performed
+	 * in any case.
+	 *
+	 * @param environment
+	 *            environment module instance
+	 * @param instance
+	 *            object instance to wrap
+	 * @param identifier
+	 *            script variable name for wrapped Java object
+	 * @param customNamespace
+	 *            whether to store methods to the global namespace or to create a custom object
+	 * @param engine
+	 *            script engine
+	 * @return wrapped script code
+	 */
+	default String getWrapperCode(IEnvironment environment, Object instance, String identifier, boolean customNamespace, IScriptEngine engine) {
+		return createWrapper(environment, instance, identifier, customNamespace, engine);
+	}
 }
@@ -65,4 +65,23 @@ public interface IReplEngine extends IScriptEngine {
 	 * @return script result of last execution
 	 */
 	EaseDebugVariable getLastExecutionResult();
+
+	/**
+	 * Remember the current top level scope. A later call to {@link #resetScope()} restores this state. Used to recycle engines.
+	 *
+	 * @return <code>true</code> when the engine supports scope resets
+	 */
+	default boolean markScope() {
+		return false;
+	}
+
+	/**
+	 * Restore the top level scope remembered by {@link #markScope()}. Variables defined afterwards get removed, modified variables get restored. Only top
+	 * level bindings are restored, objects referenced by these bindings are not. Modifications to such objects remain visible after the reset.
+	 *
+	 * @return <code>true</code> when the scope was restored
+	 */
+	default boolean resetScope() {
+		return false;
+	}
 }
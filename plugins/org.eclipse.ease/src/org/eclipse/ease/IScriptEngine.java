@@ -18,6 +18,8 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
 import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
@@ -152,6 +154,34 @@ public interface IScriptEngine {
 	 */
 	Object getVariable(String name);
 
+	/**
+	 * Set multiple variables in the script engine. Engines that need to communicate with an external process may transfer all variables in a single
+	 * request.
+	 *
+	 * @param variables
+	 *            map of variables: name -> content
+	 */
+	default void setVariables(Map<String, Object> variables) {
+		for (final Map.Entry<String, Object> entry : variables.entrySet())
+			setVariable(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Get multiple script variables from the global script scope. Engines that need to communicate with an external process may retrieve all variables in a
+	 * single request.
+	 *
+	 * @param names
+	 *            variable names
+	 * @return map of variables: name -> content, content is <code>null</code> for undefined variables
+	 */
+	default Map<String, Object> getVariables(Collection<String> names) {
+		final Map<String, Object> variables = new HashMap<>();
+		for (final String name : names)
+			variables.put(name, getVariable(name));
+
+		return variables;
+	}
+
 	/**
 	 * Check if a variable exists within the scope of the engine. As a variable content may be <code>null</code>, {@link #getVariable(String)} might not be
 	 * sufficient to query.
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime statistics of a script engine submission queue. All values are updated without locking and may be read from any thread.
+ */
+public class ScriptEngineStatistics {
+
+	/** Scripts currently waiting for execution. */
+	private final AtomicInteger fQueueDepth = new AtomicInteger();
+
+	/** Highest queue depth seen so far. */
+	private final AtomicInteger fMaxQueueDepth = new AtomicInteger();
+
+	private final AtomicLong fSubmittedScripts = new AtomicLong();
+
+	private final AtomicLong fExecutedScripts = new AtomicLong();
+
+	private final AtomicLong fTotalWaitTime = new AtomicLong();
+
+	private final AtomicLong fMaxWaitTime = new AtomicLong();
+
+	private final AtomicLong fTotalRunTime = new AtomicLong();
+
+	private final AtomicLong fMaxRunTime = new AtomicLong();
+
+	void scriptSubmitted() {
+		fSubmittedScripts.incrementAndGet();
+
+		final int depth = fQueueDepth.incrementAndGet();
+		fMaxQueueDepth.accumulateAndGet(depth, Math::max);
+	}
+
+	void scriptDequeued(long waitTime) {
+		fQueueDepth.decrementAndGet();
+
+		fTotalWaitTime.addAndGet(waitTime);
+		fMaxWaitTime.accumulateAndGet(waitTime, Math::max);
+	}
+
+	void scriptDiscarded() {
+		fQueueDepth.decrementAndGet();
+	}
+
+	void scriptExecuted(long runTime) {
+		fExecutedScripts.incrementAndGet();
+
+		fTotalRunTime.addAndGet(runTime);
+		fMaxRunTime.accumulateAndGet(runTime, Math::max);
+	}
+
+	/**
+	 * Get the amount of scripts waiting for execution.
+	 *
+	 * @return scheduled scripts not yet started
+	 */
+	public int getQueueDepth() {
+		return fQueueDepth.get();
+	}
+
+	/**
+	 * Get the highest amount of scripts that were waiting for execution at the same time.
+	 *
+	 * @return maximum queue depth
+	 */
+	public int getMaxQueueDepth() {
+		return fMaxQueueDepth.get();
+	}
+
+	/**
+	 * Get the amount of scripts submitted via {@link IScriptEngine#execute(Object)}.
+	 *
+	 * @return submitted scripts
+	 */
+	public long getSubmittedScripts() {
+		return fSubmittedScripts.get();
+	}
+
+	/**
+	 * Get the amount of submitted scripts that were processed by the engine.
+	 *
+	 * @return executed scripts
+	 */
+	public long getExecutedScripts() {
+		return fExecutedScripts.get();
+	}
+
+	/**
+	 * Get the average time between submission of a script and the start of its execution.
+	 *
+	 * @param unit
+	 *            time unit to be used
+	 * @return average submit-to-start latency
+	 */
+	public long getAverageWaitTime(TimeUnit unit) {
+		final long executed = getExecutedScripts();
+		return (executed > 0) ? unit.convert(fTotalWaitTime.get() / executed, TimeUnit.NANOSECONDS) : 0;
+	}
+
+	/**
+	 * Get the longest time a script had to wait for its execution.
+	 *
+	 * @param unit
+	 *            time unit to be used
+	 * @return maximum submit-to-start latency
+	 */
+	public long getMaxWaitTime(TimeUnit unit) {
+		return unit.convert(fMaxWaitTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Get the average run time of submitted scripts.
+	 *
+	 * @param unit
+	 *            time unit to be used
+	 * @return average run time
+	 */
+	public long getAverageRunTime(TimeUnit unit) {
+		final long executed = getExecutedScripts();
+		return (executed > 0) ? unit.convert(fTotalRunTime.get() / executed, TimeUnit.NANOSECONDS) : 0;
+	}
+
+	/**
+	 * Get the longest run time of a submitted script.
+	 *
+	 * @param unit
+	 *            time unit to be used
+	 * @return maximum run time
+	 */
+	public long getMaxRunTime(TimeUnit unit) {
+		return unit.convert(fMaxRunTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("queued: %d (max %d), executed: %d/%d, wait: avg %d ms (max %d ms), run: avg %d ms (max %d ms)", getQueueDepth(),
+				getMaxQueueDepth(), getExecutedScripts(), getSubmittedScripts(), getAverageWaitTime(TimeUnit.MILLISECONDS),
+				getMaxWaitTime(TimeUnit.MILLISECONDS), getAverageRunTime(TimeUnit.MILLISECONDS), getMaxRunTime(TimeUnit.MILLISECONDS));
+	}
+}
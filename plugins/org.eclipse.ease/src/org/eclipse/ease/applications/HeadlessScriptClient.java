@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.applications;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Thin client to execute scripts in a running script daemon. Start the daemon with the runScript application:
+ *
+ * <pre>
+ * eclipse -application org.eclipse.ease.runScript -daemon &lt;connection file&gt;
+ * </pre>
+ *
+ * The client does not depend on any OSGi classes. It can be started from the org.eclipse.ease bundle jar:
+ *
+ * <pre>
+ * java -cp org.eclipse.ease.jar org.eclipse.ease.applications.HeadlessScriptClient &lt;connection file&gt; [-engine &lt;engineID&gt;] -script &lt;script name&gt; &lt;script parameters&gt;
+ * </pre>
+ *
+ * Script output is streamed to the client, the script result is used as exit code.
+ */
+public final class HeadlessScriptClient {
+
+	static final int PROTOCOL_VERSION = 1;
+
+	/** Frame containing script output: int length, byte[] data. */
+	static final byte FRAME_OUTPUT = 1;
+
+	/** Frame containing script error output: int length, byte[] data. */
+	static final byte FRAME_ERROR = 2;
+
+	/** Final frame containing the script result: int exitCode. */
+	static final byte FRAME_EXIT = 3;
+
+	private static final String ENGINE = "-engine";
+
+	private static final String SCRIPT = "-script";
+
+	public static void main(String[] args) {
+		if ((args.length < 3) || (!Arrays.asList(args).contains(SCRIPT))) {
+			System.err.println("SYNTAX: <connection file> [-engine <engineID>] -script <script name> <script parameters>");
+			System.exit(-1);
+		}
+
+		String engineID = null;
+		String scriptLocation = null;
+		final List<String> arguments = new ArrayList<>();
+
+		for (int index = 1; index < args.length; index++) {
+			if (scriptLocation != null)
+				arguments.add(args[index]);
+
+			else if ((ENGINE.equals(args[index])) && ((index + 1) < args.length))
+				engineID = args[++index];
+
+			else if ((SCRIPT.equals(args[index])) && ((index + 1) < args.length)) {
+				scriptLocation = args[++index];
+				arguments.add(scriptLocation);
+
+			} else {
+				System.err.println("ERROR: invalid argument: " + args[index]);
+				System.exit(-1);
+			}
+		}
+
+		try {
+			System.exit(execute(new File(args[0]), scriptLocation, engineID, arguments.toArray(new String[0]), System.out, System.err));
+
+		} catch (final IOException e) {
+			System.err.println("ERROR: cannot execute script in daemon: " + e.getMessage());
+			System.exit(-1);
+		}
+	}
+
+	/**
+	 * Execute a script in a running daemon.
+	 *
+	 * @param connectionFile
+	 *            connection file written by the daemon
+	 * @param scriptLocation
+	 *            script to execute
+	 * @param engineID
+	 *            engine to use, <code>null</code> to detect by script type
+	 * @param arguments
+	 *            script arguments, passed as 'argv'
+	 * @param output
+	 *            receives script output
+	 * @param error
+	 *            receives script error output
+	 * @return script exit code
+	 * @throws IOException
+	 *             when the daemon cannot be reached
+	 */
+	public static int execute(File connectionFile, String scriptLocation, String engineID, String[] arguments, OutputStream output, OutputStream error)
+			throws IOException {
+		final List<String> connection = Files.readAllLines(connectionFile.toPath(), StandardCharsets.UTF_8);
+		if (connection.size() < 2)
+			throw new IOException("Invalid connection file \"" + connectionFile + "\"");
+
+		final int port;
+		try {
+			port = Integer.parseInt(connection.get(0).trim());
+		} catch (final NumberFormatException e) {
+			throw new IOException("Invalid connection file \"" + connectionFile + "\"", e);
+		}
+
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			socket.setTcpNoDelay(true);
+
+			final DataOutputStream request = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			request.writeInt(PROTOCOL_VERSION);
+			request.writeUTF(connection.get(1).trim());
+			request.writeUTF(scriptLocation);
+			request.writeUTF((engineID != null) ? engineID : "");
+			request.writeInt(arguments.length);
+			for (final String argument : arguments)
+				request.writeUTF(argument);
+			request.flush();
+
+			final DataInputStream response = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			while (true) {
+				final byte frameType = response.readByte();
+				if (frameType == FRAME_EXIT) {
+					output.flush();
+					error.flush();
+					return response.readInt();
+				}
+
+				final byte[] data = new byte[response.readInt()];
+				response.readFully(data);
+
+				if (frameType == FRAME_OUTPUT) {
+					output.write(data);
+					output.flush();
+
+				} else if (frameType == FRAME_ERROR) {
+					error.write(data);
+					error.flush();
+
+				} else
+					throw new IOException("Invalid response from daemon");
+			}
+		}
+	}
+
+	private HeadlessScriptClient() {
+		// utility class
+	}
+}
@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.applications;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.ease.Activator;
+import org.eclipse.ease.IScriptEngine;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.ScriptResult;
+import org.eclipse.ease.service.EngineDescription;
+import org.eclipse.ease.service.EnginePool;
+import org.eclipse.ease.service.ScriptService;
+
+/**
+ * Script daemon for {@link RunHeadlessScript}. Accepts script execution requests from {@link HeadlessScriptClient} on a loopback socket. Port and access
+ * token are published in a connection file readable by the current user only. Engines are taken from the {@link EnginePool}, so subsequent requests run on
+ * warm engines.
+ */
+final class HeadlessScriptServer implements Closeable {
+
+	private static final int TOKEN_LENGTH = 32;
+
+	private static final int MAX_FRAME_SIZE = 8192;
+
+	/** Maximum amount of script arguments accepted per request. */
+	private static final int MAX_ARGUMENTS = 1024;
+
+	/**
+	 * Output stream sending its content as frames to the client. Content is sent on line ends, on array writes and when the buffer is full.
+	 */
+	private static class FrameOutputStream extends OutputStream {
+
+		private final DataOutputStream fOutput;
+
+		private final byte fFrameType;
+
+		private final ByteArrayOutputStream fBuffer = new ByteArrayOutputStream();
+
+		public FrameOutputStream(DataOutputStream output, byte frameType) {
+			fOutput = output;
+			fFrameType = frameType;
+		}
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			fBuffer.write(b);
+			if ((b == '\n') || (fBuffer.size() >= MAX_FRAME_SIZE))
+				flush();
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) throws IOException {
+			fBuffer.write(b, off, len);
+			flush();
+		}
+
+		@Override
+		public synchronized void flush() throws IOException {
+			if (fBuffer.size() > 0) {
+				synchronized (fOutput) {
+					fOutput.writeByte(fFrameType);
+					fOutput.writeInt(fBuffer.size());
+					fBuffer.writeTo(fOutput);
+					fOutput.flush();
+				}
+
+				fBuffer.reset();
+			}
+		}
+	}
+
+	private final File fConnectionFile;
+
+	private final ServerSocket fServerSocket;
+
+	private final byte[] fToken;
+
+	private final ExecutorService fExecutor = Executors.newCachedThreadPool(r -> {
+		final Thread thread = new Thread(r, "EASE script daemon request");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Open the daemon socket and publish the connection file.
+	 *
+	 * @param connectionFile
+	 *            file to write port and access token to
+	 * @throws IOException
+	 *             when the socket cannot be opened or the connection file cannot be written
+	 */
+	HeadlessScriptServer(File connectionFile) throws IOException {
+		fConnectionFile = connectionFile;
+
+		final byte[] token = new byte[TOKEN_LENGTH];
+		new SecureRandom().nextBytes(token);
+		fToken = Base64.getUrlEncoder().withoutPadding().encodeToString(token).getBytes(StandardCharsets.UTF_8);
+
+		fServerSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		try {
+			writeConnectionFile();
+		} catch (final IOException e) {
+			fServerSocket.close();
+			throw e;
+		}
+	}
+
+	private void writeConnectionFile() throws IOException {
+		final File folder = fConnectionFile.getAbsoluteFile().getParentFile();
+		if ((!folder.isDirectory()) && (!folder.mkdirs()))
+			throw new IOException(String.format("Could not create folder '%s'", folder));
+
+		final File temporaryFile = File.createTempFile("daemon", ".tmp", folder);
+		try {
+			try {
+				Files.setPosixFilePermissions(temporaryFile.toPath(), PosixFilePermissions.fromString("rw-------"));
+			} catch (final UnsupportedOperationException e) {
+				// not a posix file system, rely on default permissions
+			}
+
+			Files.write(temporaryFile.toPath(),
+					(fServerSocket.getLocalPort() + "\n" + new String(fToken, StandardCharsets.UTF_8) + "\n").getBytes(StandardCharsets.UTF_8));
+			Files.move(temporaryFile.toPath(), fConnectionFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} finally {
+			Files.deleteIfExists(temporaryFile.toPath());
+		}
+	}
+
+	/**
+	 * Serve requests until the daemon gets closed.
+	 */
+	void run() {
+		Logger.info(Activator.PLUGIN_ID, String.format("Script daemon listening on port %d", fServerSocket.getLocalPort()));
+
+		while (!fServerSocket.isClosed()) {
+			try {
+				final Socket socket = fServerSocket.accept();
+				fExecutor.execute(() -> handleRequest(socket));
+
+			} catch (final SocketException e) {
+				// server socket closed
+			} catch (final IOException e) {
+				Logger.error(Activator.PLUGIN_ID, "Script daemon could not accept connection", e);
+			}
+		}
+	}
+
+	int getPort() {
+		return fServerSocket.getLocalPort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			fServerSocket.close();
+			fExecutor.shutdownNow();
+
+		} finally {
+			Files.deleteIfExists(fConnectionFile.toPath());
+		}
+	}
+
+	private void handleRequest(Socket socket) {
+		try (Socket client = socket) {
+			client.setTcpNoDelay(true);
+
+			final DataInputStream request = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+			final DataOutputStream response = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+
+			if (request.readInt() != HeadlessScriptClient.PROTOCOL_VERSION)
+				return;
+
+			if (!MessageDigest.isEqual(fToken, request.readUTF().getBytes(StandardCharsets.UTF_8)))
+				return;
+
+			final String scriptLocation = request.readUTF();
+			final String engineID = request.readUTF();
+			final int argumentCount = request.readInt();
+			if ((argumentCount < 0) || (argumentCount > MAX_ARGUMENTS))
+				return;
+
+			final String[] arguments = new String[argumentCount];
+			for (int index = 0; index < arguments.length; index++)
+				arguments[index] = request.readUTF();
+
+			final FrameOutputStream output = new FrameOutputStream(response, HeadlessScriptClient.FRAME_OUTPUT);
+			final FrameOutputStream error = new FrameOutputStream(response, HeadlessScriptClient.FRAME_ERROR);
+
+			int exitCode;
+			try {
+				exitCode = executeScript(scriptLocation, engineID.isEmpty() ? null : engineID, arguments, request, output, error);
+
+			} catch (final IllegalArgumentException e) {
+				error.write(("ERROR: " + e.getMessage() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+				exitCode = -1;
+
+			} catch (final Throwable e) {
+				exitCode = -1;
+			}
+
+			output.flush();
+			error.flush();
+
+			synchronized (response) {
+				response.writeByte(HeadlessScriptClient.FRAME_EXIT);
+				response.writeInt(exitCode);
+				response.flush();
+			}
+
+		} catch (final IOException e) {
+			// client disconnected
+		}
+	}
+
+	private int executeScript(String scriptLocation, String engineID, String[] arguments, InputStream request, OutputStream output, OutputStream error)
+			throws Throwable {
+		final ScriptService scriptService = ScriptService.getInstance();
+		final EngineDescription engineDescription = scriptService.getEngineForScript(scriptLocation, engineID);
+
+		// prefer a warm engine from the pool
+		final EnginePool enginePool = scriptService.getEnginePool();
+		final IScriptEngine pooledEngine = (enginePool != null) ? enginePool.lease(engineDescription) : null;
+		final IScriptEngine engine = (pooledEngine != null) ? pooledEngine : scriptService.createEngine(engineDescription);
+
+		final AtomicBoolean finished = new AtomicBoolean(false);
+		fExecutor.execute(() -> terminateOnDisconnect(request, engine, finished));
+
+		try {
+			engine.setOutputStream(output);
+			engine.setErrorStream(error);
+
+			final ScriptResult scriptResult = ScriptService.executeScript(engine, scriptLocation, arguments);
+			if (pooledEngine == null)
+				engine.schedule();
+
+			return RunHeadlessScript.getScriptResult(scriptResult.get());
+
+		} finally {
+			synchronized (finished) {
+				finished.set(true);
+			}
+
+			if (pooledEngine != null)
+				enginePool.release(pooledEngine);
+		}
+	}
+
+	/**
+	 * Wait for the client to disconnect and terminate the engine if the script is still running. Clients do not send data after their request, so any read
+	 * returns on disconnect only.
+	 *
+	 * @param request
+	 *            request stream of the client
+	 * @param engine
+	 *            engine executing the request
+	 * @param finished
+	 *            set when the request is finished, also used as lock
+	 */
+	private static void terminateOnDisconnect(InputStream request, IScriptEngine engine, AtomicBoolean finished) {
+		try {
+			while (request.read() != -1) {
+				// ignore unexpected data
+			}
+		} catch (final IOException e) {
+			// client disconnected or socket closed after the response
+		}
+
+		synchronized (finished) {
+			if (!finished.get())
+				engine.terminate();
+		}
+	}
+}
@@ -57,6 +57,8 @@ public class RunHeadlessScript implements IApplication {
 
 	private static final String WORKSPACE = "-workspace";
 
+	private static final String DAEMON = "-daemon";
+
 	private static void loadStartupExtension(PlatformExtension extension) {
 		try {
 			Logger.info(Activator.PLUGIN_ID, String.format("Loading early startup extension: %s", extension.getAttribute(ATTRIBUTE_CLASS)));
@@ -98,6 +100,14 @@ public class RunHeadlessScript implements IApplication {
 			} else if (REFRESH_WORKSPACE.equals(arguments[index])) {
 				parameters.put(REFRESH_WORKSPACE, true);
 
+			} else if (DAEMON.equals(arguments[index])) {
+				if ((index + 1) < arguments.length) {
+					parameters.put(DAEMON, arguments[index + 1]);
+					index++;
+
+				} else
+					throw new IllegalArgumentException("daemon connection file is missing");
+
 			} else if (ENGINE.equals(arguments[index])) {
 				if ((index + 1) < arguments.length) {
 					parameters.put(ENGINE, arguments[index + 1]);
@@ -119,6 +129,7 @@ public class RunHeadlessScript implements IApplication {
 	private static void printUsage() {
 		getOutputStream()
 				.println("SYNTAX: [-workspace <workspace location> [-refreshWorkspace]] [-engine <engineID>]-script <script name> <script parameters>");
+		getOutputStream().println("        [-workspace <workspace location> [-refreshWorkspace]] -daemon <connection file>");
 		getOutputStream().println("");
 		getOutputStream().println("\t\t<script name> is a path like 'file://C/myfolder/myscript.js'");
 		getOutputStream().println("\t\t<engineID> provides a dedicated script engine ID. Use org.eclipse.ease.listEngines application.");
@@ -126,6 +137,8 @@ public class RunHeadlessScript implements IApplication {
 		getOutputStream().println("\t\t\tif you provide a workspace you can use workspace:// identifiers in your scripts");
 		getOutputStream().println("\t\t\tif you provide a workspace you may ask to refresh it first prior to script execution");
 		getOutputStream().println("\t\t<script parameters> will be passed to the script as String[] in the variable 'argv'");
+		getOutputStream().println("\t\t<connection file> keeps the platform running and accepts scripts from " + HeadlessScriptClient.class.getName());
+		getOutputStream().println("\t\t\tport and access token are written to this file");
 	}
 
 	private static void printError(String message) {
@@ -136,6 +149,8 @@ public class RunHeadlessScript implements IApplication {
 		return System.out;
 	}
 
+	private HeadlessScriptServer fServer = null;
+
 	@Override
 	public Object start(final IApplicationContext context) throws Exception {
 		try {
@@ -151,9 +166,25 @@ public class RunHeadlessScript implements IApplication {
 					loadEarlyStartupExtensions();
 
 					try {
-						// execute script
-						if (parameters.containsKey(SCRIPT)) {
+						if (parameters.containsKey(DAEMON)) {
+							// serve scripts until the application gets stopped
+							try (HeadlessScriptServer server = new HeadlessScriptServer(new File(parameters.get(DAEMON).toString()))) {
+								synchronized (this) {
+									fServer = server;
+								}
+
+								server.run();
+
+							} finally {
+								synchronized (this) {
+									fServer = null;
+								}
+							}
+
+							return 0;
 
+						} else if (parameters.containsKey(SCRIPT)) {
+							// execute script
 							final String scriptLocation = parameters.get(SCRIPT).toString();
 							final String engineID = (parameters.containsKey(ENGINE)) ? parameters.get(ENGINE).toString() : null;
 							final String[] arguments = ((List<String>) parameters.get(SCRIPT_ARGUMENTS)).toArray(new String[0]);
@@ -195,7 +226,7 @@ public class RunHeadlessScript implements IApplication {
 		return -1;
 	}
 
-	private int getScriptResult(final Object result) {
+	static int getScriptResult(final Object result) {
 		if (result != null) {
 			if (ScriptResult.VOID.equals(result))
 				return 0;
@@ -259,7 +290,13 @@ public class RunHeadlessScript implements IApplication {
 	}
 
 	@Override
-	public void stop() {
-		// nothing to do
+	public synchronized void stop() {
+		if (fServer != null) {
+			try {
+				fServer.close();
+			} catch (final IOException e) {
+				// daemon is shutting down anyway
+			}
+		}
 	}
 }
@@ -14,16 +14,21 @@
 package org.eclipse.ease.debugging;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.ease.Activator;
@@ -89,6 +94,34 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 
 	private final Map<Object, ThreadState> fThreadStates = new HashMap<>();
 
+	/** Line numbers of breakpoints per script. Rebuilt on breakpoint changes, read on every executed line. */
+	private final Map<Script, BitSet> fBreakpointLines = new ConcurrentHashMap<>();
+
+	/** Set when breakpoint markers changed, eg. when their line number got updated. The line index gets rebuilt on the next processed line. */
+	private volatile boolean fBreakpointLinesOutdated = false;
+
+	/** Tracks marker changes of breakpoints as these do not necessarily trigger a {@link BreakpointRequest}. */
+	private final IBreakpointListener fBreakpointListener = new IBreakpointListener() {
+
+		@Override
+		public void breakpointAdded(IBreakpoint breakpoint) {
+			// handled by BreakpointRequest
+		}
+
+		@Override
+		public void breakpointRemoved(IBreakpoint breakpoint, IMarkerDelta delta) {
+			// handled by BreakpointRequest
+		}
+
+		@Override
+		public void breakpointChanged(IBreakpoint breakpoint, IMarkerDelta delta) {
+			invalidateBreakpointLines();
+		}
+	};
+
+	/** Set when any thread requested to step. Without step requests only lines with breakpoints need to be processed. */
+	private volatile boolean fStepRequested = false;
+
 	/** Requests to evaluate expressions. */
 	private final List<AbstractEvent> fEvaluationRequests = Collections.synchronizedList(new ArrayList<>());
 
@@ -97,6 +130,10 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 		fShowDynamicCode = showDynamicCode;
 
 		fEngine.addExecutionListener(this);
+
+		final DebugPlugin debugPlugin = DebugPlugin.getDefault();
+		if (debugPlugin != null)
+			debugPlugin.getBreakpointManager().addBreakpointListener(fBreakpointListener);
 	}
 
 	/**
@@ -158,10 +195,11 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 			DebugTracer.debug("Debugger", "process " + event);
 
 			if (event instanceof BreakpointRequest) {
-				if (((BreakpointRequest) event).isRemoveAllBreakpointsRequest())
+				if (((BreakpointRequest) event).isRemoveAllBreakpointsRequest()) {
 					fBreakpoints.clear();
+					fBreakpointLines.clear();
 
-				else {
+				} else {
 					final Script script = ((BreakpointRequest) event).getScript();
 					if (!fBreakpoints.containsKey(script))
 						fBreakpoints.put(script, new ArrayList<IBreakpoint>());
@@ -175,11 +213,14 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 						fBreakpoints.get(script).remove(breakpoint);
 						breakpointRemoved(script, breakpoint);
 					}
+
+					updateBreakpointLines(script);
 				}
 
 			} else if (event instanceof SuspendRequest) {
 				final ThreadState threadState = getThreadState(((AbstractEvent) event).getThread());
 				threadState.fResumeType = DebugEvent.STEP_INTO;
+				fStepRequested = true;
 
 			} else if (event instanceof TerminateRequest) {
 				fEvaluationRequests.add((AbstractEvent) event);
@@ -191,6 +232,7 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 
 			} else if (event instanceof DisconnectRequest) {
 				fBreakpoints.clear();
+				fBreakpointLines.clear();
 
 				fDispatcher = null;
 
@@ -212,6 +254,63 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 		}
 	}
 
+	/**
+	 * Rebuild the line index of breakpoints for a given script. Disabled breakpoints are indexed too, their state is verified in
+	 * {@link #getBreakpoint(Script, int)}.
+	 *
+	 * @param script
+	 *            script to rebuild index for
+	 */
+	private synchronized void updateBreakpointLines(final Script script) {
+		final BitSet lines = new BitSet();
+
+		final List<IBreakpoint> breakpoints = fBreakpoints.get(script);
+		if (breakpoints != null) {
+			for (final IBreakpoint breakpoint : breakpoints) {
+				final int lineNumber = breakpoint.getMarker().getAttribute(IMarker.LINE_NUMBER, -1);
+				if (lineNumber >= 0)
+					lines.set(lineNumber);
+			}
+		}
+
+		if (lines.isEmpty())
+			fBreakpointLines.remove(script);
+		else
+			fBreakpointLines.put(script, lines);
+	}
+
+	/**
+	 * Mark the line index of breakpoints as outdated. Needs to be called when line numbers of registered breakpoints change. The index gets rebuilt on the
+	 * next processed line.
+	 */
+	protected void invalidateBreakpointLines() {
+		fBreakpointLinesOutdated = true;
+	}
+
+	/**
+	 * Rebuild the line index of breakpoints for all scripts.
+	 */
+	private synchronized void rebuildBreakpointLines() {
+		fBreakpointLinesOutdated = false;
+
+		for (final Script script : new ArrayList<>(fBreakpoints.keySet()))
+			updateBreakpointLines(script);
+	}
+
+	/**
+	 * Check if a script contains a breakpoint at a given line. Does not consider the enablement state of the breakpoint.
+	 *
+	 * @param script
+	 *            script to look for
+	 * @param lineNumber
+	 *            line number within script to check
+	 * @return <code>true</code> when a breakpoint is registered for this line
+	 */
+	protected boolean hasBreakpoint(final Script script, final int lineNumber) {
+		final BitSet lines = (script != null) ? fBreakpointLines.get(script) : null;
+		return (lines != null) && (lineNumber >= 0) && (lines.get(lineNumber));
+	}
+
 	/**
 	 * Callback triggered when breakpoint has been added.
 	 *
@@ -342,11 +441,30 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 			threadState.fResumeType = resumeType;
 			threadState.fResumeStack = threadState.fStacktrace.clone();
 			threadState.fResumeLineNumber = (threadState.fResumeStack.size() > 0) ? threadState.fStacktrace.get(0).getLineNumber() : 0;
+
+			updateStepRequested();
 		}
 
 		threadState.fSuspended = false;
 	}
 
+	private void updateStepRequested() {
+		final Collection<ThreadState> threadStates;
+		synchronized (fThreadStates) {
+			threadStates = new ArrayList<>(fThreadStates.values());
+		}
+
+		boolean stepRequested = false;
+		for (final ThreadState threadState : threadStates)
+			stepRequested |= isStepRequest(threadState.fResumeType);
+
+		fStepRequested = stepRequested;
+	}
+
+	private static boolean isStepRequest(int resumeType) {
+		return (resumeType == DebugEvent.STEP_INTO) || (resumeType == DebugEvent.STEP_OVER) || (resumeType == DebugEvent.STEP_RETURN);
+	}
+
 	protected IDebugEngine getEngine() {
 		return fEngine;
 	}
@@ -370,9 +488,18 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 			fTerminated = true;
 			fEngine.removeExecutionListener(this);
 			fEngine = null;
+
+			final DebugPlugin debugPlugin = DebugPlugin.getDefault();
+			if (debugPlugin != null)
+				debugPlugin.getBreakpointManager().removeBreakpointListener(fBreakpointListener);
+
 			fDispatcher = null;
-			fThreadStates.clear();
+			synchronized (fThreadStates) {
+				fThreadStates.clear();
+			}
 			fBreakpoints.clear();
+			fBreakpointLines.clear();
+			fStepRequested = false;
 			break;
 
 		case SCRIPT_START:
@@ -406,6 +533,9 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 	 * @return {@link IBreakpoint} instance or <code>null</code>
 	 */
 	protected IBreakpoint getBreakpoint(final Script script, final int lineNumber) {
+		if (!hasBreakpoint(script, lineNumber))
+			return null;
+
 		final List<IBreakpoint> breakpoints = fBreakpoints.get(script);
 		if (breakpoints != null) {
 			for (final IBreakpoint breakpoint : breakpoints) {
@@ -473,6 +603,13 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 	 */
 	protected void processLine(final Script script, final int lineNumber, boolean checkBreakpoints) {
 
+		if (fBreakpointLinesOutdated)
+			rebuildBreakpointLines();
+
+		// fast path for lines without breakpoints while no thread is stepping
+		if ((!fStepRequested) && ((!checkBreakpoints) || (!hasBreakpoint(script, lineNumber))))
+			return;
+
 		if (!isTrackedScript(script))
 			return;
 
@@ -531,9 +668,14 @@ public abstract class AbstractEaseDebugger implements IEventProcessor, IExecutio
 	}
 
 	protected ThreadState getThreadState(Object thread) {
-		if (!fThreadStates.containsKey(thread))
-			fThreadStates.put(thread, new ThreadState());
+		synchronized (fThreadStates) {
+			ThreadState threadState = fThreadStates.get(thread);
+			if (threadState == null) {
+				threadState = new ThreadState();
+				fThreadStates.put(thread, threadState);
+			}
 
-		return fThreadStates.get(thread);
+			return threadState;
+		}
 	}
 }
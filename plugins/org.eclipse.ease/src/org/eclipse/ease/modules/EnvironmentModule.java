@@ -25,8 +25,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -66,6 +69,9 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 	/** Used by code completion. Keep in sync with method name in this class. */
 	public static final String LOAD_MODULE_METHOD = "loadModule";
 
+	/** Number of wrapped function invocations between two cancellation checks. */
+	public static final int CANCELLATION_CHECK_INTERVAL = 256;
+
 	private static final Pattern VALID_TOPICS_PATTERN = Pattern.compile("[\\w ]+(?:\\(\\))?");
 
 	public static void bootstrap() throws ExecutionException {
@@ -74,6 +80,9 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 
 		instance.initialize(AbstractScriptEngine.getCurrentScriptEngine(), instance);
 
+		// wrapped functions count their invocations to check for cancellation periodically
+		instance.getScriptEngine().setVariable(getCallCounterVariableName(instance), 0);
+
 		instance.wrap(instance, false);
 	}
 
@@ -81,6 +90,33 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 		return (MODULE_PREFIX + toBeWrapped.getClass().getName()).replace('.', '_');
 	}
 
+	/**
+	 * Get the name of the script variable indicating that module callbacks are registered for a specific method. Wrapped module functions check this flag
+	 * before querying {@link #hasMethodCallback(String)}, which avoids a call to the java layer for each function invocation. Generated wrapper code needs
+	 * to initialize the flag to <code>false</code>, the environment only updates flags of methods that have callbacks registered.
+	 *
+	 * @param environment
+	 *            environment instance
+	 * @param methodToken
+	 *            token returned by {@link #registerMethod(Method)}
+	 * @return name of boolean script variable
+	 */
+	public static final String getCallbackFlagVariableName(final Object environment, final String methodToken) {
+		return getWrappedVariableName(environment) + "_callbacks_" + methodToken.replace('-', '_');
+	}
+
+	/**
+	 * Get the name of the script variable counting wrapped function invocations. Every {@link #CANCELLATION_CHECK_INTERVAL} invocations wrapped functions
+	 * call {@link #hasMethodCallback(String)}, which checks for script cancellation.
+	 *
+	 * @param environment
+	 *            environment instance
+	 * @return name of numeric script variable
+	 */
+	public static final String getCallCounterVariableName(final Object environment) {
+		return getWrappedVariableName(environment) + "_calls";
+	}
+
 	private final ModuleTracker fModuleTracker = new ModuleTracker();
 
 	private final ListenerList<IModuleListener> fModuleListeners = new ListenerList<>();
@@ -91,6 +127,12 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 	/** Callbacks for wrapped method invocations. */
 	private final ListenerList<IModuleCallbackProvider> fModuleCallbacks = new ListenerList<>();
 
+	/** Cached results of {@link #hasMethodCallback(String)}, reset when callback providers change. */
+	private final Map<String, Boolean> fMethodCallbackCache = new ConcurrentHashMap<>();
+
+	/** Tokens of methods whose callback flag is set to <code>true</code> in the script engine. */
+	private final Set<String> fEnabledCallbackFlags = ConcurrentHashMap.newKeySet();
+
 	private final Collection<String> fPrintedErrors = new HashSet<>();
 
 	public EnvironmentModule() {
@@ -346,12 +388,15 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 	private Object createWrappers(final Object instance, final String identifier, boolean useCustomNamespace) throws ExecutionException {
 		String wrapperCode;
 		if (instance instanceof IEnvironment)
-			wrapperCode = getCodeFactory().createWrapper((IEnvironment) instance, instance, identifier, useCustomNamespace, getScriptEngine());
+			wrapperCode = getCodeFactory().getWrapperCode((IEnvironment) instance, instance, identifier, useCustomNamespace, getScriptEngine());
 		else
-			wrapperCode = getCodeFactory().createWrapper(this, instance, identifier, useCustomNamespace, getScriptEngine());
+			wrapperCode = getCodeFactory().getWrapperCode(this, instance, identifier, useCustomNamespace, getScriptEngine());
 
 		final Object injectionResult = getScriptEngine().inject(new Script("Wrapper(" + instance.getClass().getSimpleName() + ")", wrapperCode), false);
 
+		// wrapper code initializes all callback flags to false
+		enableCallbackFlags(instance.getClass());
+
 		return (useCustomNamespace) ? injectionResult : instance;
 	}
 
@@ -564,10 +609,86 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 	@Override
 	public void addModuleCallback(IModuleCallbackProvider callbackProvider) {
 		fModuleCallbacks.add(callbackProvider);
+		refreshModuleCallbacks();
+	}
+
+	@Override
+	public void removeModuleCallback(IModuleCallbackProvider callbackProvider) {
+		fModuleCallbacks.remove(callbackProvider);
+		refreshModuleCallbacks();
+	}
+
+	/**
+	 * Re-evaluate registered callback providers for all wrapped methods. Needs to be called when a provider changes the set of methods it provides
+	 * callbacks for.
+	 */
+	public void refreshModuleCallbacks() {
+		fMethodCallbackCache.clear();
+
+		final Map<String, Boolean> changedFlags = new HashMap<>();
+		for (final String methodToken : fRegisteredMethods.keySet()) {
+			final boolean enabled = lookupMethodCallback(methodToken);
+			if (enabled != fEnabledCallbackFlags.contains(methodToken))
+				changedFlags.put(methodToken, enabled);
+		}
+
+		updateCallbackFlags(changedFlags);
+	}
+
+	/**
+	 * Set callback flags of wrapped methods that have callbacks registered. Needs to be called after wrapper code got injected, as the wrapper code disables
+	 * all flags. Typically no callbacks are registered, so no script engine access is needed at all.
+	 *
+	 * @param clazz
+	 *            class of the wrapped instance
+	 */
+	private void enableCallbackFlags(Class<?> clazz) {
+		if (fModuleCallbacks.isEmpty())
+			return;
+
+		final Map<String, Boolean> enabledFlags = new HashMap<>();
+		for (final Method method : ModuleHelper.getMethods(clazz)) {
+			final String methodToken = getMethodToken(method);
+			if ((fRegisteredMethods.containsKey(methodToken)) && (lookupMethodCallback(methodToken)))
+				enabledFlags.put(methodToken, true);
+		}
+
+		updateCallbackFlags(enabledFlags);
+	}
+
+	/**
+	 * Set callback flags in the script engine. All flags are set within a single call.
+	 *
+	 * @param flags
+	 *            method token -> flag value
+	 */
+	private void updateCallbackFlags(Map<String, Boolean> flags) {
+		final IScriptEngine engine = getScriptEngine();
+		if ((engine != null) && (!flags.isEmpty())) {
+			final Map<String, Object> variables = new HashMap<>();
+			for (final Entry<String, Boolean> flag : flags.entrySet()) {
+				variables.put(getCallbackFlagVariableName(this, flag.getKey()), flag.getValue());
+
+				if (flag.getValue())
+					fEnabledCallbackFlags.add(flag.getKey());
+				else
+					fEnabledCallbackFlags.remove(flag.getKey());
+			}
+
+			engine.setVariables(variables);
+		}
+	}
+
+	private boolean lookupMethodCallback(String methodToken) {
+		return fMethodCallbackCache.computeIfAbsent(methodToken, token -> {
+			final Method method = fRegisteredMethods.get(token);
+			return fModuleCallbacks.stream().anyMatch(p -> (p.hasPreExecutionCallback(method)) || (p.hasPostExecutionCallback(method)));
+		});
 	}
 
 	/**
-	 * Check if java callbacks are registered for a module method. This method get called on each module function invocation.
+	 * Check if java callbacks are registered for a module method. This method get called on module function invocations when callbacks are registered for
+	 * the method and periodically to check for script cancellation. Results are cached per method.
 	 * <p>
 	 * ATTENTION: needed by dynamic script code, do not alter synopsis!
 	 * </p>
@@ -581,8 +702,7 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 		if ((monitor != null) && (monitor.isCanceled()))
 			throw new ScriptEngineCancellationException();
 
-		final Method method = fRegisteredMethods.get(methodToken);
-		return fModuleCallbacks.stream().anyMatch(p -> (p.hasPreExecutionCallback(method)) || (p.hasPostExecutionCallback(method)));
+		return lookupMethodCallback(methodToken);
 	}
 
 	// needed by dynamic script code, do not change synopsis
@@ -611,9 +731,13 @@ public class EnvironmentModule extends AbstractScriptModule implements IEnvironm
 
 	@Override
 	public String registerMethod(Method method) {
-		final String key = Integer.toString(method.toString().hashCode());
+		final String key = getMethodToken(method);
 		fRegisteredMethods.put(key, method);
 
 		return key;
 	}
+
+	private static String getMethodToken(Method method) {
+		return Integer.toString(method.toString().hashCode());
+	}
 }
@@ -122,6 +122,14 @@ public interface IEnvironment extends IScriptModule {
 	 */
 	void addModuleCallback(IModuleCallbackProvider callbackProvider);
 
+	/**
+	 * Unregister a callback provider for module functions.
+	 *
+	 * @param callbackProvider
+	 *            callback provider instance
+	 */
+	void removeModuleCallback(IModuleCallbackProvider callbackProvider);
+
 	/**
 	 * Register a method in the environment to allow for callbacks.
 	 *
@@ -50,6 +50,32 @@ public class EngineDescription {
 		fConfigurationElement = configurationElement;
 	}
 
+	/**
+	 * Get the names of script types bound to this engine.
+	 *
+	 * @return script type names as declared in the extension
+	 */
+	List<String> getSupportedScriptTypeNames() {
+		final List<String> names = new ArrayList<>();
+		for (final IConfigurationElement child : fConfigurationElement.getChildren(BINDING)) {
+			final String scriptTypeID = child.getAttribute(TYPE);
+			if (scriptTypeID != null)
+				names.add(scriptTypeID);
+		}
+
+		return names;
+	}
+
+	/**
+	 * Set resolved script types. Used by the {@link ScriptService} index to avoid lookups through the service while the index is built.
+	 *
+	 * @param scriptTypes
+	 *            supported script types
+	 */
+	void setSupportedScriptTypes(List<ScriptType> scriptTypes) {
+		fTypes = scriptTypes;
+	}
+
 	public List<ScriptType> getSupportedScriptTypes() {
 		if (fTypes == null) {
 			fTypes = new ArrayList<>();
@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ease.Activator;
+import org.eclipse.ease.IReplEngine;
+import org.eclipse.ease.IScriptEngine;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.modules.IEnvironment;
+
+/**
+ * Pool of started script engines. Engines get created in advance, so their interpreter is set up and the environment is bootstrapped when they are leased.
+ * Returned engines get their top level scope reset and are kept for the next lease. As objects referenced from the top level scope are not restored, pooled
+ * engines should only be used for scripts that do not modify shared objects. Only {@link IReplEngine}s supporting {@link IReplEngine#resetScope()}
+ * are recycled, other engines get terminated on release. Engines are pooled per engine ID, each ID has its own pool size and idle timeout.
+ */
+public class EnginePool {
+
+	/** Default amount of idle engines kept per engine ID. */
+	public static final int DEFAULT_POOL_SIZE = 2;
+
+	/** Default time in milliseconds after which idle engines get terminated. */
+	public static final long DEFAULT_IDLE_TIMEOUT = 60 * 1000;
+
+	/** Interval to check for idle engines in milliseconds. */
+	private static final long EVICTION_INTERVAL = 10 * 1000;
+
+	/**
+	 * Pool data for a dedicated engine ID.
+	 */
+	private static class Pool {
+
+		private final Deque<PooledEngine> fIdleEngines = new ArrayDeque<>();
+
+		private int fPoolSize = DEFAULT_POOL_SIZE;
+
+		private long fIdleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+		private int fStartingEngines = 0;
+
+		/** Cleared when engines turn out not to support scope resets. */
+		private boolean fRecyclable = true;
+
+		private final AtomicLong fHits = new AtomicLong();
+
+		private final AtomicLong fMisses = new AtomicLong();
+	}
+
+	/**
+	 * Engine created by the pool along with the state recorded after its initialization.
+	 */
+	private static class PooledEngine {
+
+		private final IReplEngine fEngine;
+
+		private final EngineDescription fDescription;
+
+		/** Amount of loaded modules after bootstrapping. */
+		private final int fModuleCount;
+
+		private long fIdleSince = System.currentTimeMillis();
+
+		public PooledEngine(IReplEngine engine, EngineDescription description, int moduleCount) {
+			fEngine = engine;
+			fDescription = description;
+			fModuleCount = moduleCount;
+		}
+	}
+
+	private final IScriptService fScriptService;
+
+	private final Map<String, Pool> fPools = new HashMap<>();
+
+	/** Leased engines created by this pool. */
+	private final Map<IScriptEngine, PooledEngine> fLeasedEngines = new IdentityHashMap<>();
+
+	/** Engine descriptions waiting for pre-started engines. */
+	private final Deque<EngineDescription> fRefillRequests = new ArrayDeque<>();
+
+	private boolean fDisposed = false;
+
+	private final Job fRefillJob = new Job("Start script engines") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			EngineDescription description;
+			while ((!monitor.isCanceled()) && ((description = pollRefillRequest()) != null)) {
+				final IReplEngine replEngine = startEngine(description);
+				final PooledEngine engine = (replEngine != null) ? markEngine(replEngine, description) : null;
+
+				final boolean added;
+				synchronized (EnginePool.this) {
+					final Pool pool = getPool(description.getID());
+					pool.fStartingEngines--;
+					if ((replEngine != null) && (engine == null))
+						pool.fRecyclable = false;
+
+					added = (engine != null) && (!fDisposed) && (pool.fIdleEngines.size() < pool.fPoolSize);
+					if (added)
+						pool.fIdleEngines.addFirst(engine);
+				}
+
+				if (added)
+					scheduleEviction();
+				else if (replEngine != null)
+					replEngine.terminate();
+			}
+
+			return Status.OK_STATUS;
+		}
+	};
+
+	private final Job fEvictionJob = new Job("Terminate idle script engines") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			evictIdleEngines();
+
+			if (getIdleEngineCount() > 0)
+				schedule(EVICTION_INTERVAL);
+
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Constructor. Typically the pool provided by {@link IScriptService#getEnginePool()} should be used.
+	 *
+	 * @param scriptService
+	 *            service used to create engines
+	 */
+	public EnginePool(IScriptService scriptService) {
+		fScriptService = scriptService;
+
+		fRefillJob.setSystem(true);
+		fEvictionJob.setSystem(true);
+	}
+
+	/**
+	 * Lease an engine. Reuses an idle engine when available, otherwise a new engine gets created and initialized. Leased engines are running and do not
+	 * terminate when idle. They need to be returned via {@link #release(IScriptEngine)}.
+	 *
+	 * @param description
+	 *            engine to lease
+	 * @return running engine or <code>null</code> when the engine cannot be created or is not an {@link IReplEngine}
+	 */
+	public IReplEngine lease(EngineDescription description) {
+		final Pool pool;
+		PooledEngine engine;
+		synchronized (this) {
+			pool = getPool(description.getID());
+			engine = pool.fIdleEngines.pollLast();
+		}
+
+		// drop engines that terminated while idle
+		while ((engine != null) && (engine.fEngine.isFinished())) {
+			synchronized (this) {
+				engine = pool.fIdleEngines.pollLast();
+			}
+		}
+
+		if (engine != null)
+			pool.fHits.incrementAndGet();
+
+		else {
+			pool.fMisses.incrementAndGet();
+
+			final IReplEngine replEngine = startEngine(description);
+			if (replEngine == null)
+				return null;
+
+			engine = markEngine(replEngine, description);
+			if (engine == null) {
+				// engine does not support scope resets, hand out without recycling
+				synchronized (this) {
+					pool.fRecyclable = false;
+				}
+
+				return replEngine;
+			}
+		}
+
+		synchronized (this) {
+			fLeasedEngines.put(engine.fEngine, engine);
+		}
+
+		refill(description);
+		return engine.fEngine;
+	}
+
+	/**
+	 * Return a leased engine. The engine gets reset and kept for reuse when possible, otherwise it is terminated. Engines that loaded additional modules are
+	 * not reused as module instances cannot be reset.
+	 *
+	 * @param engine
+	 *            engine to return
+	 */
+	public void release(IScriptEngine engine) {
+		final PooledEngine pooledEngine;
+		synchronized (this) {
+			pooledEngine = fLeasedEngines.remove(engine);
+		}
+
+		if ((pooledEngine != null) && (isReusable(pooledEngine))) {
+			engine.setOutputStream(null);
+			engine.setErrorStream(null);
+			engine.setInputStream(null);
+
+			pooledEngine.fIdleSince = System.currentTimeMillis();
+
+			synchronized (this) {
+				final Pool pool = getPool(pooledEngine.fDescription.getID());
+				if ((!fDisposed) && (pool.fIdleEngines.size() < pool.fPoolSize)) {
+					pool.fIdleEngines.addLast(pooledEngine);
+					engine = null;
+				}
+			}
+		}
+
+		if (engine != null)
+			engine.terminate();
+		else
+			scheduleEviction();
+	}
+
+	/**
+	 * Set the amount of idle engines to keep for a dedicated engine ID. A size of 0 disables pooling for this engine.
+	 *
+	 * @param engineID
+	 *            engine ID
+	 * @param poolSize
+	 *            maximum amount of idle engines
+	 */
+	public void setPoolSize(String engineID, int poolSize) {
+		final Collection<PooledEngine> evicted = new ArrayList<>();
+
+		synchronized (this) {
+			final Pool pool = getPool(engineID);
+			pool.fPoolSize = Math.max(0, poolSize);
+
+			while (pool.fIdleEngines.size() > pool.fPoolSize)
+				evicted.add(pool.fIdleEngines.pollFirst());
+		}
+
+		for (final PooledEngine engine : evicted)
+			engine.fEngine.terminate();
+	}
+
+	public synchronized int getPoolSize(String engineID) {
+		return getPool(engineID).fPoolSize;
+	}
+
+	/**
+	 * Set the time after which idle engines of a dedicated engine ID get terminated.
+	 *
+	 * @param engineID
+	 *            engine ID
+	 * @param idleTimeout
+	 *            timeout in milliseconds
+	 */
+	public synchronized void setIdleTimeout(String engineID, long idleTimeout) {
+		getPool(engineID).fIdleTimeout = idleTimeout;
+	}
+
+	public synchronized long getIdleTimeout(String engineID) {
+		return getPool(engineID).fIdleTimeout;
+	}
+
+	/**
+	 * Get the amount of leases served by an idle engine.
+	 *
+	 * @param engineID
+	 *            engine ID
+	 * @return pool hits
+	 */
+	public synchronized long getHits(String engineID) {
+		return getPool(engineID).fHits.get();
+	}
+
+	/**
+	 * Get the amount of leases that needed to create a new engine.
+	 *
+	 * @param engineID
+	 *            engine ID
+	 * @return pool misses
+	 */
+	public synchronized long getMisses(String engineID) {
+		return getPool(engineID).fMisses.get();
+	}
+
+	/**
+	 * Get the ratio of leases served by an idle engine.
+	 *
+	 * @param engineID
+	 *            engine ID
+	 * @return hit rate within [0, 1]
+	 */
+	public double getHitRate(String engineID) {
+		final long hits = getHits(engineID);
+		final long total = hits + getMisses(engineID);
+		return (total > 0) ? (double) hits / total : 0;
+	}
+
+	public synchronized int getIdleEngineCount() {
+		int count = 0;
+		for (final Pool pool : fPools.values())
+			count += pool.fIdleEngines.size();
+
+		return count;
+	}
+
+	/**
+	 * Terminate all idle engines. Leased engines are terminated when they get released.
+	 */
+	public void dispose() {
+		fRefillJob.cancel();
+		fEvictionJob.cancel();
+
+		final Collection<PooledEngine> engines = new ArrayList<>();
+		synchronized (this) {
+			fDisposed = true;
+			fRefillRequests.clear();
+
+			for (final Pool pool : fPools.values()) {
+				engines.addAll(pool.fIdleEngines);
+				pool.fIdleEngines.clear();
+			}
+		}
+
+		for (final PooledEngine engine : engines)
+			engine.fEngine.terminate();
+	}
+
+	private Pool getPool(String engineID) {
+		return fPools.computeIfAbsent(engineID, k -> new Pool());
+	}
+
+	/**
+	 * Create and start a REPL engine. Waits until the environment is bootstrapped.
+	 *
+	 * @param description
+	 *            engine to create
+	 * @return running engine or <code>null</code>
+	 */
+	private IReplEngine startEngine(EngineDescription description) {
+		final IScriptEngine engine = fScriptService.createEngine(description);
+		if (engine instanceof IReplEngine) {
+			((IReplEngine) engine).setTerminateOnIdle(false);
+			engine.schedule();
+
+			try {
+				// launch extensions queue bootstrap code, wait for it to finish
+				engine.execute("").get();
+				return (IReplEngine) engine;
+
+			} catch (final ExecutionException e) {
+				Logger.warning(Activator.PLUGIN_ID, "Could not initialize script engine " + description.getID() + " for engine pool", e);
+
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (engine != null)
+			engine.terminate();
+
+		return null;
+	}
+
+	/**
+	 * Record the initial state of an engine for later resets.
+	 *
+	 * @param engine
+	 *            started engine
+	 * @param description
+	 *            engine description
+	 * @return pooled engine or <code>null</code> when the engine does not support scope resets
+	 */
+	private static PooledEngine markEngine(IReplEngine engine, EngineDescription description) {
+		if (engine.markScope())
+			return new PooledEngine(engine, description, getModuleCount(engine));
+
+		return null;
+	}
+
+	private static boolean isReusable(PooledEngine engine) {
+		return (!engine.fEngine.isFinished()) && (!engine.fEngine.getTerminateOnIdle()) && (getModuleCount(engine.fEngine) == engine.fModuleCount)
+				&& (engine.fEngine.resetScope());
+	}
+
+	private static int getModuleCount(IScriptEngine engine) {
+		final IEnvironment environment = IEnvironment.getEnvironment(engine);
+		return (environment != null) ? environment.getModules().size() : 0;
+	}
+
+	private void refill(EngineDescription description) {
+		synchronized (this) {
+			final Pool pool = getPool(description.getID());
+			if ((fDisposed) || (!pool.fRecyclable) || ((pool.fIdleEngines.size() + pool.fStartingEngines) >= pool.fPoolSize))
+				return;
+
+			pool.fStartingEngines++;
+			fRefillRequests.addLast(description);
+		}
+
+		fRefillJob.schedule();
+	}
+
+	private synchronized EngineDescription pollRefillRequest() {
+		return fRefillRequests.pollFirst();
+	}
+
+	private void scheduleEviction() {
+		if (fEvictionJob.getState() == Job.NONE)
+			fEvictionJob.schedule(EVICTION_INTERVAL);
+	}
+
+	private void evictIdleEngines() {
+		final long now = System.currentTimeMillis();
+
+		final Collection<PooledEngine> evicted = new ArrayList<>();
+		synchronized (this) {
+			for (final Pool pool : fPools.values()) {
+				final Iterator<PooledEngine> iterator = pool.fIdleEngines.iterator();
+				while (iterator.hasNext()) {
+					final PooledEngine engine = iterator.next();
+					if (((engine.fIdleSince + pool.fIdleTimeout) < now) || (engine.fEngine.isFinished())) {
+						evicted.add(engine);
+						iterator.remove();
+					}
+				}
+			}
+		}
+
+		for (final PooledEngine engine : evicted)
+			engine.fEngine.terminate();
+	}
+}
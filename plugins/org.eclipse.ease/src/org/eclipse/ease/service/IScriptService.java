@@ -142,6 +142,16 @@ public interface IScriptService {
 	 */
 	IScriptEngine createEngine(EngineDescription description);
 
+	/**
+	 * Get the pool of pre-initialized engines. Use it instead of {@link #createEngine(EngineDescription)} when many short scripts need to be executed.
+	 * Leased engines have their environment bootstrapped and need to be released after use.
+	 *
+	 * @return engine pool or <code>null</code> when the service does not support engine pooling
+	 */
+	default EnginePool getEnginePool() {
+		return null;
+	}
+
 	/**
 	 * Get all running script engines.
 	 *
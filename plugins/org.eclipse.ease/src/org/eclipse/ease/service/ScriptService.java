@@ -14,7 +14,6 @@ package org.eclipse.ease.service;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,24 +47,12 @@ import org.osgi.framework.BundleListener;
 
 public final class ScriptService implements IScriptService, BundleListener, IExecutionListener {
 
-	private static final String ENGINE = "engine";
-
-	private static final String ENGINE_ID = "engineID";
-
 	private static final Object EXTENSION_MODULE = "module";
 
 	private static final Object EXTENSION_CATEGORY = "category";
 
-	private static final String EXTENSION_LANGUAGE_ID = "org.eclipse.ease.language";
-
 	private static final String EXTENSION_MODULES_ID = "org.eclipse.ease.modules";
 
-	private static final String EXTENSION_SCRIPTTYPE_ID = "org.eclipse.ease.scriptType";
-
-	private static final String SCRIPTTYPE_NAME = "name";
-
-	private static final String LAUNCH_EXTENSION = "launchExtension";
-
 	private static ScriptService fInstance = null;
 
 	public static IScriptService getService() {
@@ -84,11 +71,18 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 		return fInstance;
 	}
 
-	private Collection<ModuleDefinition> fAvailableModules = null;
+	/**
+	 * Terminate idle engines of the engine pool. Leased engines are not affected.
+	 */
+	public static synchronized void shutdown() {
+		if (fInstance != null)
+			fInstance.fEnginePool.dispose();
+	}
 
-	private Map<String, EngineDescription> fEngineDescriptions = null;
+	private Collection<ModuleDefinition> fAvailableModules = null;
 
-	private Map<String, ScriptType> fScriptTypes = null;
+	/** Lookup tables for engines and script types, replaced as a whole when bundles change. */
+	private volatile ScriptServiceIndex fIndex = null;
 
 	private Map<String, ModuleCategoryDefinition> fAvailableModuleCategories = null;
 
@@ -96,6 +90,8 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 
 	private final ListenerList<IScriptEngineLaunchExtension> fEngineListeners = new ListenerList<>();
 
+	private final EnginePool fEnginePool = new EnginePool(this);
+
 	private ScriptService() {
 		Activator.getDefault().getContext().addBundleListener(this);
 	}
@@ -113,7 +109,7 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 
 	@Override
 	public EngineDescription getEngineByID(final String engineID) {
-		return getEngineDescriptions().get(engineID);
+		return getIndex().getEngines().get(engineID);
 	}
 
 	@Override
@@ -140,70 +136,38 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 
 	@Override
 	public Collection<EngineDescription> getEngines() {
-		return getEngineDescriptions().values();
+		return getIndex().getEngines().values();
 	}
 
 	@Override
 	public List<EngineDescription> getEngines(final String scriptType) {
-		final List<EngineDescription> result = new ArrayList<>();
-
-		for (final EngineDescription description : getEngines()) {
-			if (description.supports(scriptType))
-				result.add(description);
-		}
-
-		// sort by priority
-		Collections.sort(result, (o1, o2) -> o2.getPriority() - o1.getPriority());
-
-		return result;
+		return getIndex().getEngines(scriptType);
 	}
 
-	private synchronized Map<String, EngineDescription> getEngineDescriptions() {
-		if (fEngineDescriptions == null) {
-			fEngineDescriptions = new HashMap<>();
-			final IConfigurationElement[] config = Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_LANGUAGE_ID);
-
-			for (final IConfigurationElement e : config) {
-				if (ENGINE.equals(e.getName())) {
-					final EngineDescription engine = new EngineDescription(e);
-					fEngineDescriptions.put(engine.getID(), engine);
+	private ScriptServiceIndex getIndex() {
+		ScriptServiceIndex index = fIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = fIndex;
+				if (index == null) {
+					index = ScriptServiceIndex.create();
+					fIndex = index;
 				}
 			}
 		}
-		return fEngineDescriptions;
+
+		return index;
 	}
 
 	@Override
 	public Collection<IScriptEngineLaunchExtension> getLaunchExtensions(final EngineDescription engineDescription) {
-		final String targetEngineID = engineDescription.getID();
-
 		final Collection<IScriptEngineLaunchExtension> extensions = new HashSet<>();
-		final IConfigurationElement[] config = Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_LANGUAGE_ID);
-		for (final IConfigurationElement e : config) {
+		for (final IConfigurationElement e : getIndex().getLaunchExtensions(engineDescription)) {
 			try {
-				if (LAUNCH_EXTENSION.equals(e.getName())) {
-					// Parse engine ID to backwards compatible regular expression
-					String engineID = e.getAttribute(ENGINE_ID);
-					if ((engineID == null) || engineID.matches("^\\*?$")) {
-						engineID = ".*";
-					}
-					if (!targetEngineID.matches(engineID)) {
-						continue;
-					}
-
-					// Check if script type given
-					final String scriptType = e.getAttribute("scriptType");
-					if ((scriptType != null) && !scriptType.isEmpty()) {
-						if (!engineDescription.supports(scriptType)) {
-							continue;
-						}
-					}
-
-					// Create IScriptEngineLaunchExtension based on given string
-					final Object extension = e.createExecutableExtension("class");
-					if (extension instanceof IScriptEngineLaunchExtension) {
-						extensions.add((IScriptEngineLaunchExtension) extension);
-					}
+				// Create IScriptEngineLaunchExtension based on given string
+				final Object extension = e.createExecutableExtension("class");
+				if (extension instanceof IScriptEngineLaunchExtension) {
+					extensions.add((IScriptEngineLaunchExtension) extension);
 				}
 			} catch (final InvalidRegistryObjectException e1) {
 			} catch (final CoreException e1) {
@@ -214,18 +178,8 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 	}
 
 	@Override
-	public synchronized Map<String, ScriptType> getAvailableScriptTypes() {
-		if (fScriptTypes == null) {
-			fScriptTypes = new HashMap<>();
-			final IConfigurationElement[] config = Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_SCRIPTTYPE_ID);
-
-			for (final IConfigurationElement e : config) {
-				if ("scriptType".equals(e.getName()))
-					fScriptTypes.put(e.getAttribute(SCRIPTTYPE_NAME), new ScriptType(e));
-			}
-		}
-
-		return fScriptTypes;
+	public Map<String, ScriptType> getAvailableScriptTypes() {
+		return getIndex().getScriptTypes();
 	}
 
 	@Override
@@ -240,12 +194,9 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 				// try to resolve by content type
 				final IContentDescription description = ((IFile) resource).getContentDescription();
 				if (description != null) {
-					final IContentType contentType = description.getContentType();
-
-					for (final ScriptType scriptType : getAvailableScriptTypes().values()) {
-						if (scriptType.getContentTypes().contains(contentType.getId()))
-							return scriptType;
-					}
+					final ScriptType scriptType = getIndex().getScriptTypeByContentType(description.getContentType().getId());
+					if (scriptType != null)
+						return scriptType;
 				}
 			}
 		} catch (final CoreException e) {
@@ -261,24 +212,18 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 				if (extension.contains("?"))
 					extension = extension.substring(0, extension.indexOf('?'));
 
-				for (final ScriptType scriptType : getAvailableScriptTypes().values()) {
-					if (scriptType.getDefaultExtension().equalsIgnoreCase(extension))
-						return scriptType;
-				}
+				final ScriptType scriptType = getIndex().getScriptTypeByExtension(extension);
+				if (scriptType != null)
+					return scriptType;
 
 				// not found, verify content types
 				final IContentTypeManager contentTypeManager = Platform.getContentTypeManager();
 				final IContentType[] contentTypes = contentTypeManager.findContentTypesFor("foo." + extension);
 				if (contentTypes != null) {
-					for (final ScriptType scriptType : getAvailableScriptTypes().values()) {
-
-						// now lets see if one of the content types matches
-						for (final String contentTypeIdentifier : scriptType.getContentTypes()) {
-							for (final IContentType candidate : contentTypes) {
-								if (candidate.getId().equals(contentTypeIdentifier))
-									return scriptType;
-							}
-						}
+					for (final IContentType candidate : contentTypes) {
+						final ScriptType candidateType = getIndex().getScriptTypeByContentType(candidate.getId());
+						if (candidateType != null)
+							return candidateType;
 					}
 				}
 			}
@@ -366,8 +311,7 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 			synchronized (this) {
 				// clear cached entries
 				fAvailableModules = null;
-				fEngineDescriptions = null;
-				fScriptTypes = null;
+				fIndex = null;
 				fAvailableModuleCategories = null;
 			}
 		}
@@ -375,39 +319,67 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 
 	@Override
 	public Object executeScript(String scriptLocation, String engineID, String... arguments) throws Throwable {
-		// find script engine
+		// create engine
+		final IScriptEngine engine = createEngine(getEngineForScript(scriptLocation, engineID));
+
+		final ScriptResult scriptResult = executeScript(engine, scriptLocation, arguments);
+		engine.schedule();
+
+		return scriptResult.get();
+	}
+
+	/**
+	 * Locate the engine to execute a script with.
+	 *
+	 * @param scriptLocation
+	 *            location of script to execute
+	 * @param engineID
+	 *            ID of engine to use, <code>null</code> to detect the engine from the script type
+	 * @return engine description
+	 * @throws IllegalArgumentException
+	 *             when no matching engine can be found
+	 */
+	public EngineDescription getEngineForScript(String scriptLocation, String engineID) {
 		EngineDescription engineDescription = null;
-		final IScriptService scriptService = ScriptService.getInstance();
 
 		if (engineID != null)
 			// locate engine by ID
-			engineDescription = scriptService.getEngineByID(engineID);
+			engineDescription = getEngineByID(engineID);
 
 		else {
 			// locate engine by file extension
-			final ScriptType scriptType = scriptService.getScriptType(scriptLocation);
+			final ScriptType scriptType = getScriptType(scriptLocation);
 			if (scriptType != null)
-				engineDescription = scriptService.getEngine(scriptType.getName());
+				engineDescription = getEngine(scriptType.getName());
 		}
 
-		if (engineDescription != null) {
-			// create engine
-			final IScriptEngine engine = createEngine(engineDescription);
-			engine.setVariable("argv", arguments);
+		if (engineDescription == null)
+			throw new IllegalArgumentException("Cannot locate a matching script engine");
 
-			// TODO implement better URI handling - eg create URI and pass to script engine
-			Object scriptObject = ResourceTools.resolve(scriptLocation);
-			if (scriptObject == null)
-				// no file available, try to include to resolve URIs
-				scriptObject = "include(\"" + scriptLocation + "\")";
+		return engineDescription;
+	}
 
-			final ScriptResult scriptResult = engine.execute(scriptObject);
-			engine.schedule();
+	/**
+	 * Queue a script for execution. Script arguments are provided in the <i>argv</i> variable. The engine is not started by this method.
+	 *
+	 * @param engine
+	 *            engine to execute script on
+	 * @param scriptLocation
+	 *            location of script to execute
+	 * @param arguments
+	 *            script arguments
+	 * @return script result
+	 */
+	public static ScriptResult executeScript(IScriptEngine engine, String scriptLocation, String... arguments) {
+		engine.setVariable("argv", arguments);
 
-			return scriptResult.get();
-		}
+		// TODO implement better URI handling - eg create URI and pass to script engine
+		Object scriptObject = ResourceTools.resolve(scriptLocation);
+		if (scriptObject == null)
+			// no file available, try to include to resolve URIs
+			scriptObject = "include(\"" + scriptLocation + "\")";
 
-		throw new IllegalArgumentException("Cannot locate a matching script engine");
+		return engine.execute(scriptObject);
 	}
 
 	@Override
@@ -441,6 +413,11 @@ public final class ScriptService implements IScriptService, BundleListener, IExe
 		return null;
 	}
 
+	@Override
+	public EnginePool getEnginePool() {
+		return fEnginePool;
+	}
+
 	@Override
 	public Collection<IScriptEngine> getRunningEngines() {
 		return fRunningEngines;
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.Activator;
+import org.eclipse.ease.Logger;
+
+/**
+ * Immutable lookup tables for script types and engines, built once from the extension registry. A new index gets created whenever bundles change.
+ */
+final class ScriptServiceIndex {
+
+	private static final String EXTENSION_LANGUAGE_ID = "org.eclipse.ease.language";
+
+	private static final String EXTENSION_SCRIPTTYPE_ID = "org.eclipse.ease.scriptType";
+
+	private static final String SCRIPTTYPE = "scriptType";
+
+	private static final String SCRIPTTYPE_NAME = "name";
+
+	private static final String ENGINE = "engine";
+
+	private static final String ENGINE_ID = "engineID";
+
+	private static final String LAUNCH_EXTENSION = "launchExtension";
+
+	/**
+	 * Build a new index from the extension registry.
+	 *
+	 * @return index
+	 */
+	static ScriptServiceIndex create() {
+		return new ScriptServiceIndex(Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_SCRIPTTYPE_ID),
+				Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_LANGUAGE_ID));
+	}
+
+	private final Map<String, ScriptType> fScriptTypes;
+
+	private final Map<String, ScriptType> fScriptTypesByExtension = new HashMap<>();
+
+	private final Map<String, ScriptType> fScriptTypesByContentType = new HashMap<>();
+
+	private final Map<String, EngineDescription> fEngines;
+
+	private final Map<String, List<EngineDescription>> fEnginesByScriptType = new HashMap<>();
+
+	private final Map<String, List<IConfigurationElement>> fLaunchExtensions = new HashMap<>();
+
+	private ScriptServiceIndex(IConfigurationElement[] scriptTypeElements, IConfigurationElement[] languageElements) {
+		// script types
+		final Map<String, ScriptType> scriptTypes = new HashMap<>();
+		for (final IConfigurationElement element : scriptTypeElements) {
+			if (SCRIPTTYPE.equals(element.getName())) {
+				final ScriptType scriptType = new ScriptType(element);
+				scriptTypes.put(element.getAttribute(SCRIPTTYPE_NAME), scriptType);
+
+				final String extension = scriptType.getDefaultExtension();
+				if (extension != null)
+					fScriptTypesByExtension.putIfAbsent(extension.toLowerCase(Locale.ROOT), scriptType);
+
+				for (final String contentType : scriptType.getContentTypes())
+					fScriptTypesByContentType.putIfAbsent(contentType, scriptType);
+			}
+		}
+		fScriptTypes = Collections.unmodifiableMap(scriptTypes);
+
+		// engines
+		final Map<String, EngineDescription> engines = new HashMap<>();
+		final List<IConfigurationElement> launchExtensionElements = new ArrayList<>();
+		for (final IConfigurationElement element : languageElements) {
+			if (ENGINE.equals(element.getName())) {
+				final EngineDescription engine = new EngineDescription(element);
+				engine.setSupportedScriptTypes(resolveScriptTypes(engine));
+				engines.put(engine.getID(), engine);
+
+			} else if (LAUNCH_EXTENSION.equals(element.getName()))
+				launchExtensionElements.add(element);
+		}
+		fEngines = Collections.unmodifiableMap(engines);
+
+		// engines per script type, sorted by priority
+		final Map<String, List<EngineDescription>> enginesByScriptType = new LinkedHashMap<>();
+		for (final EngineDescription engine : fEngines.values()) {
+			for (final ScriptType scriptType : engine.getSupportedScriptTypes())
+				enginesByScriptType.computeIfAbsent(scriptType.getName(), k -> new ArrayList<>()).add(engine);
+		}
+
+		for (final Map.Entry<String, List<EngineDescription>> entry : enginesByScriptType.entrySet()) {
+			Collections.sort(entry.getValue(), (o1, o2) -> o2.getPriority() - o1.getPriority());
+			fEnginesByScriptType.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+		}
+
+		// launch extensions per engine
+		for (final EngineDescription engine : fEngines.values())
+			fLaunchExtensions.put(engine.getID(), Collections.unmodifiableList(resolveLaunchExtensions(engine, launchExtensionElements)));
+	}
+
+	private List<ScriptType> resolveScriptTypes(EngineDescription engine) {
+		final List<ScriptType> result = new ArrayList<>();
+
+		for (final String scriptTypeID : engine.getSupportedScriptTypeNames()) {
+			final ScriptType scriptType = fScriptTypes.get(scriptTypeID);
+			if (scriptType == null)
+				Logger.error(Activator.PLUGIN_ID, "Unknow scriptType " + scriptTypeID);
+			else
+				result.add(scriptType);
+		}
+
+		return result;
+	}
+
+	private static List<IConfigurationElement> resolveLaunchExtensions(EngineDescription engine, List<IConfigurationElement> launchExtensionElements) {
+		final String targetEngineID = engine.getID();
+
+		final List<IConfigurationElement> result = new ArrayList<>();
+		for (final IConfigurationElement element : launchExtensionElements) {
+			try {
+				// Parse engine ID to backwards compatible regular expression
+				String engineID = element.getAttribute(ENGINE_ID);
+				if ((engineID == null) || engineID.matches("^\\*?$"))
+					engineID = ".*";
+
+				if (!targetEngineID.matches(engineID))
+					continue;
+
+				// Check if script type given
+				final String scriptType = element.getAttribute(SCRIPTTYPE);
+				if ((scriptType != null) && !scriptType.isEmpty()) {
+					if (!engine.supports(scriptType))
+						continue;
+				}
+
+				result.add(element);
+
+			} catch (final InvalidRegistryObjectException e) {
+				// extension got removed in the meantime
+			}
+		}
+
+		return result;
+	}
+
+	Map<String, ScriptType> getScriptTypes() {
+		return fScriptTypes;
+	}
+
+	ScriptType getScriptTypeByExtension(String extension) {
+		return fScriptTypesByExtension.get(extension.toLowerCase(Locale.ROOT));
+	}
+
+	ScriptType getScriptTypeByContentType(String contentTypeID) {
+		return fScriptTypesByContentType.get(contentTypeID);
+	}
+
+	Map<String, EngineDescription> getEngines() {
+		return fEngines;
+	}
+
+	List<EngineDescription> getEngines(String scriptType) {
+		final List<EngineDescription> engines = fEnginesByScriptType.get(scriptType);
+		return (engines != null) ? engines : Collections.emptyList();
+	}
+
+	List<IConfigurationElement> getLaunchExtensions(EngineDescription engine) {
+		final List<IConfigurationElement> extensions = fLaunchExtensions.get(engine.getID());
+		return (extensions != null) ? extensions : Collections.emptyList();
+	}
+}
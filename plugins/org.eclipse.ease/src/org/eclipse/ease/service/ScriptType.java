@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.ease.service;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -36,53 +35,80 @@ public class ScriptType {
 
 	private final IConfigurationElement fConfigurationElement;
 
+	private final String fName;
+
+	private final String fDefaultExtension;
+
+	private final Collection<String> fContentTypes;
+
+	/** Code parsers and factories are stateless, so a single instance is shared. */
+	private volatile ICodeParser fCodeParser = null;
+
+	private volatile ICodeFactory fCodeFactory = null;
+
 	public ScriptType(final IConfigurationElement configurationElement) {
 		fConfigurationElement = configurationElement;
+
+		fName = configurationElement.getAttribute(NAME);
+		fDefaultExtension = configurationElement.getAttribute(DEFAULT_EXTENSION);
+
+		final Collection<String> contentTypes = new HashSet<>();
+		for (final IConfigurationElement binding : configurationElement.getChildren(BINDING))
+			contentTypes.add(binding.getAttribute(CONTENT_TYPE));
+
+		fContentTypes = Collections.unmodifiableCollection(contentTypes);
 	}
 
 	public String getName() {
-		return fConfigurationElement.getAttribute(NAME);
+		return fName;
 	}
 
 	public String getDefaultExtension() {
-		return fConfigurationElement.getAttribute(DEFAULT_EXTENSION);
+		return fDefaultExtension;
 	}
 
 	public Collection<String> getContentTypes() {
-		final Collection<String> result = new HashSet<>();
-
-		for (final IConfigurationElement binding : fConfigurationElement.getChildren(BINDING))
-			result.add(binding.getAttribute(CONTENT_TYPE));
-
-		return result;
+		return fContentTypes;
 	}
 
 	public ICodeParser getCodeParser() {
-		try {
-			final Object parser = fConfigurationElement.createExecutableExtension(CODE_PARSER);
-			if (parser instanceof ICodeParser)
-				return (ICodeParser) parser;
-
-		} catch (final CoreException e) {
-			// could not instantiate class
-			Logger.error(Activator.PLUGIN_ID, "Could not instantiate code parser", e);
+		if (fCodeParser == null) {
+			synchronized (this) {
+				if (fCodeParser == null) {
+					try {
+						final Object parser = fConfigurationElement.createExecutableExtension(CODE_PARSER);
+						if (parser instanceof ICodeParser)
+							fCodeParser = (ICodeParser) parser;
+
+					} catch (final CoreException e) {
+						// could not instantiate class
+						Logger.error(Activator.PLUGIN_ID, "Could not instantiate code parser", e);
+					}
+				}
+			}
 		}
 
-		return null;
+		return fCodeParser;
 	}
 
 	public ICodeFactory getCodeFactory() {
-		try {
-			final Object factory = fConfigurationElement.createExecutableExtension(CODE_FACTORY);
-			if (factory instanceof ICodeFactory)
-				return (ICodeFactory) factory;
-
-		} catch (final CoreException e) {
-			// could not instantiate class
-			Logger.error(Activator.PLUGIN_ID, "Could not instantiate code factory", e);
+		if (fCodeFactory == null) {
+			synchronized (this) {
+				if (fCodeFactory == null) {
+					try {
+						final Object factory = fConfigurationElement.createExecutableExtension(CODE_FACTORY);
+						if (factory instanceof ICodeFactory)
+							fCodeFactory = (ICodeFactory) factory;
+
+					} catch (final CoreException e) {
+						// could not instantiate class
+						Logger.error(Activator.PLUGIN_ID, "Could not instantiate code factory", e);
+					}
+				}
+			}
 		}
 
-		return null;
+		return fCodeFactory;
 	}
 
 	/**
@@ -91,18 +117,7 @@ public class ScriptType {
 	 * @return available engines
 	 */
 	public List<EngineDescription> getEngines() {
-		final List<EngineDescription> engines = new ArrayList<>();
-
-		final IScriptService scriptService = ScriptService.getService();
-		for (final EngineDescription description : scriptService.getEngines()) {
-			if (description.getSupportedScriptTypes().contains(this))
-				engines.add(description);
-		}
-
-		// sort engines to report highest priority first
-		Collections.sort(engines, (o1, o2) -> o2.getPriority() - o1.getPriority());
-
-		return engines;
+		return ScriptService.getService().getEngines(getName());
 	}
 
 	public EngineDescription getEngine() {
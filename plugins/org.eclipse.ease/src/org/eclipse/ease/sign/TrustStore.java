@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.sign;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ease.Activator;
+import org.eclipse.ease.Logger;
+import org.eclipse.ease.tools.LRUCache;
+
+/**
+ * Long-lived view on the trusted certificates of a keystore file. The keystore is loaded on first access and reloaded only when the file changes. Successfully
+ * validated certificate chains are remembered for the currently loaded trust anchors only. As validation includes revocation checks, results expire after a
+ * short time so a revoked signer gets rejected soon.
+ */
+final class TrustStore {
+
+	/** Time after which a validated certificate chain needs to be validated again, including its revocation state. */
+	static final long VALIDATION_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+	private static final int VALIDATED_CHAINS_CACHE_SIZE = 64;
+
+	private static TrustStore fDefaultTrustStore = null;
+
+	/**
+	 * Get the truststore of the running JRE. Uses <i>JRE_PATH/lib/security/cacerts</i> and "changeit" as password.
+	 *
+	 * @return default truststore
+	 */
+	static synchronized TrustStore getDefault() {
+		if (fDefaultTrustStore == null)
+			fDefaultTrustStore = new TrustStore(new File(System.getProperty("java.home"), "lib" + File.separator + "security" + File.separator + "cacerts"),
+					"changeit".toCharArray());
+
+		return fDefaultTrustStore;
+	}
+
+	/**
+	 * Load trust anchors from a keystore.
+	 *
+	 * @param inputStream
+	 *            keystore content
+	 * @param password
+	 *            keystore password
+	 * @return trusted certificates
+	 * @throws ScriptSignatureException
+	 *             when truststore can't be loaded due to one or more certificates can't be loaded from it or appropriate provider can't be found or truststore
+	 *             file can't be read or password does not correspond to truststore or truststore does not contain any trusted certificate entry
+	 */
+	static Set<TrustAnchor> loadTrustAnchors(InputStream inputStream, char[] password) throws ScriptSignatureException {
+		try {
+			final KeyStore keystore = KeyStore.getInstance("JKS");
+			keystore.load(inputStream, password);
+
+			return new PKIXParameters(keystore).getTrustAnchors();
+
+		} catch (final CertificateException e) {
+			throw new ScriptSignatureException("One or more certificates can't be loaded.", e);
+
+		} catch (final NoSuchAlgorithmException e) {
+			throw new ScriptSignatureException("Algorithm used for securing truststore can't be found. Chose another Truststore.", e);
+
+		} catch (final KeyStoreException e) {
+			throw new ScriptSignatureException("Truststore can't be loaded.");
+
+		} catch (final IOException e) {
+			if (e.getCause() instanceof UnrecoverableKeyException)
+				throw new ScriptSignatureException("Invalid Truststore Password.", e);
+			else if ((e.getCause() instanceof FileNotFoundException) || (e.getCause() instanceof SecurityException))
+				throw new ScriptSignatureException("File can't be read. Chose another Truststore or try again.", e);
+
+			Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
+			throw new ScriptSignatureException("Error loading Truststore. Try again.", e);
+
+		} catch (final InvalidAlgorithmParameterException e) {
+			Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
+			throw new ScriptSignatureException("Can't perform validation.", e);
+		}
+	}
+
+	private final File fFile;
+
+	private final char[] fPassword;
+
+	private long fLastModified = -1;
+
+	private long fLength = -1;
+
+	private Set<TrustAnchor> fTrustAnchors = null;
+
+	/** Fingerprints of validated certificate chains mapped to their validation time. */
+	private final LRUCache<String, Long> fValidatedChains = new LRUCache<>(VALIDATED_CHAINS_CACHE_SIZE);
+
+	TrustStore(File file, char[] password) {
+		fFile = file;
+		fPassword = password;
+	}
+
+	/**
+	 * Get the trusted certificates of this store. Reloads the keystore file when it changed since the last access.
+	 *
+	 * @return trusted certificates
+	 * @throws ScriptSignatureException
+	 *             when the truststore cannot be loaded
+	 */
+	synchronized Set<TrustAnchor> getTrustAnchors() throws ScriptSignatureException {
+		final long lastModified = fFile.lastModified();
+		final long length = fFile.length();
+
+		if ((fTrustAnchors == null) || (lastModified != fLastModified) || (length != fLength)) {
+			try (InputStream inputStream = new FileInputStream(fFile)) {
+				fTrustAnchors = loadTrustAnchors(inputStream, fPassword);
+				fLastModified = lastModified;
+				fLength = length;
+				fValidatedChains.clear();
+
+			} catch (final FileNotFoundException e) {
+				throw new ScriptSignatureException("File can't be read. Chose another Truststore or try again.", e);
+
+			} catch (final IOException e) {
+				Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
+				throw new ScriptSignatureException("Error loading Truststore. Try again.", e);
+			}
+		}
+
+		return fTrustAnchors;
+	}
+
+	/**
+	 * Check whether a certificate chain was successfully validated against the current trust anchors recently.
+	 *
+	 * @param fingerprint
+	 *            certificate chain fingerprint
+	 * @return <code>true</code> when the chain was validated within {@link #VALIDATION_TIMEOUT}
+	 */
+	synchronized boolean isValidated(String fingerprint) {
+		final Long validationTime = fValidatedChains.get(fingerprint);
+		if (validationTime == null)
+			return false;
+
+		if ((System.currentTimeMillis() - validationTime) < VALIDATION_TIMEOUT)
+			return true;
+
+		fValidatedChains.remove(fingerprint);
+		return false;
+	}
+
+	/**
+	 * Remember a successfully validated certificate chain. Ignored when the keystore got reloaded during validation.
+	 *
+	 * @param fingerprint
+	 *            certificate chain fingerprint
+	 * @param trustAnchors
+	 *            trust anchors the chain was validated against, as returned by {@link #getTrustAnchors()}
+	 */
+	synchronized void setValidated(String fingerprint, Set<TrustAnchor> trustAnchors) {
+		if (trustAnchors == fTrustAnchors)
+			fValidatedChains.put(fingerprint, System.currentTimeMillis());
+	}
+}
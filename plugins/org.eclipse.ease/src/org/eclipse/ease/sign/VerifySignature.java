@@ -13,23 +13,21 @@
 
 package org.eclipse.ease.sign;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.PublicKey;
 import java.security.Security;
 import java.security.Signature;
 import java.security.SignatureException;
-import java.security.UnrecoverableKeyException;
 import java.security.cert.CertPath;
 import java.security.cert.CertPathValidator;
 import java.security.cert.CertPathValidatorException;
@@ -37,20 +35,60 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.ease.Activator;
 import org.eclipse.ease.ICodeParser;
 import org.eclipse.ease.Logger;
 import org.eclipse.ease.service.ScriptType;
+import org.eclipse.ease.tools.LRUCache;
 import org.eclipse.ease.tools.ResourceTools;
 
+/**
+ * Verifies signatures attached to scripts. Verification results are cached by a fingerprint of the script content, its signature and the signing certificate,
+ * so unchanged scripts are verified only once. Certificate chains are validated against a cached view of the truststore.
+ */
 public class VerifySignature {
 
+	/** Maximum amount of verification results kept in the shared cache. */
+	private static final int VERIFICATION_CACHE_SIZE = 256;
+
+	/** Maximum amount of parsed certificates kept in the shared cache. */
+	private static final int CERTIFICATE_CACHE_SIZE = 64;
+
+	/** Verification results keyed by the fingerprint of script content, signature and signing certificate. */
+	private static final LRUCache<String, Boolean> VERIFIED_SIGNATURES = new LRUCache<>(VERIFICATION_CACHE_SIZE);
+
+	/** Parsed certificates keyed by their Base64 representation. */
+	private static final LRUCache<String, Certificate> CERTIFICATES = new LRUCache<>(CERTIFICATE_CACHE_SIZE);
+
+	/** Certificate factories are not thread safe, so each thread keeps its own instance. */
+	private static final ThreadLocal<CertificateFactory> CERTIFICATE_FACTORY = new ThreadLocal<>();
+
+	/** Signature instances per thread, keyed by algorithm and provider. Instances get reset by each call to initVerify(). */
+	private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+	private static final ThreadLocal<MessageDigest> FINGERPRINT_DIGEST = new ThreadLocal<>();
+
+	/**
+	 * Get the cache of signature verification results shared by all verifications. Allows to query statistics and to adjust the cache size.
+	 *
+	 * @return verification result cache
+	 */
+	public static LRUCache<String, Boolean> getVerificationCache() {
+		return VERIFIED_SIGNATURES;
+	}
+
 	private final SignatureInfo fSignatureInfo;
 
+	private List<Certificate> fCertificateChain = null;
+
 	/**
 	 * Use this method to get constructor when signature is attached to script file.
 	 *
@@ -111,30 +149,22 @@ public class VerifySignature {
 						|| (signatureInfo.getCertificateChain() == null))
 					throw new ScriptSignatureException("Error while parsing script. Try again.");
 
-				final BufferedInputStream bInput = new BufferedInputStream(inputStream);
-				final StringBuffer sBuf = new StringBuffer();
+				// read in chunks, each byte maps to a single char
+				try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.ISO_8859_1)) {
+					final StringBuilder content = new StringBuilder();
+					final char[] buffer = new char[8192];
 
-				int cur;
-				try {
-					while ((cur = bInput.read()) >= 0)
-						sBuf.append((char) cur);
+					int length;
+					while ((length = reader.read(buffer)) >= 0)
+						content.append(buffer, 0, length);
 
-					signatureInfo.setContentOnly(sBuf.toString());
+					signatureInfo.setContentOnly(content.toString());
 
 					return new VerifySignature(signatureInfo);
 
 				} catch (final IOException e) {
 					Logger.error(Activator.PLUGIN_ID, e.getMessage(), e);
 					throw new ScriptSignatureException("An IO error occurred while reading file.", e);
-
-				} finally {
-					try {
-						if (bInput != null)
-							bInput.close();
-					} catch (final IOException e) {
-						Logger.error(Activator.PLUGIN_ID, e.getMessage(), e);
-					}
-
 				}
 
 			} else
@@ -153,47 +183,133 @@ public class VerifySignature {
 	}
 
 	/**
-	 * Converts byte array to corresponding certificate.
+	 * Get the certificate factory of the current thread.
 	 *
-	 * @param bytesCert
-	 *            provide certificate in bytes to convert it to {@link Certificate}
-	 * @return an instance of {@link Certificate}
+	 * @return X.509 certificate factory
 	 * @throws ScriptSignatureException
-	 *             when there is an error while retrieving certificate
+	 *             when no provider supports X.509 certificates
 	 */
-	private Certificate getCertificate(byte[] bytesCert) throws ScriptSignatureException {
+	private static CertificateFactory getCertificateFactory() throws ScriptSignatureException {
+		CertificateFactory certificateFactory = CERTIFICATE_FACTORY.get();
+		if (certificateFactory == null) {
+			try {
+				certificateFactory = CertificateFactory.getInstance("X.509");
+				CERTIFICATE_FACTORY.set(certificateFactory);
 
-		CertificateFactory certificateFactory;
-		try {
-			certificateFactory = CertificateFactory.getInstance("X.509");
-			return certificateFactory.generateCertificate(new ByteArrayInputStream(bytesCert));
+			} catch (final CertificateException e) {
+				throw new ScriptSignatureException("Error while retrieving certificate.", e);
+			}
+		}
 
-		} catch (final CertificateException e) {
-			throw new ScriptSignatureException("Error while retrieving certificate.", e);
+		return certificateFactory;
+	}
+
+	/**
+	 * Get a {@link Signature} instance of the current thread. Instances are reused across verifications.
+	 *
+	 * @param algorithm
+	 *            signature algorithm
+	 * @param provider
+	 *            signature provider
+	 * @return signature instance
+	 * @throws NoSuchAlgorithmException
+	 *             when the algorithm is not supported by the provider
+	 * @throws NoSuchProviderException
+	 *             when the provider is not registered
+	 */
+	private static Signature getSignature(String algorithm, String provider) throws NoSuchAlgorithmException, NoSuchProviderException {
+		final Map<String, Signature> signatures = SIGNATURES.get();
+		final String key = algorithm + "@" + provider;
+
+		Signature signature = signatures.get(key);
+		if (signature == null) {
+			signature = Signature.getInstance(algorithm, provider);
+			signatures.put(key, signature);
+		}
+
+		return signature;
+	}
+
+	/**
+	 * Calculate a fingerprint over several chunks of data. Used as cache key for verification results.
+	 *
+	 * @param chunks
+	 *            data to fingerprint
+	 * @return Base64 encoded SHA-256 digest
+	 */
+	static String getFingerprint(byte[]... chunks) {
+		MessageDigest digest = FINGERPRINT_DIGEST.get();
+		if (digest == null) {
+			try {
+				digest = MessageDigest.getInstance("SHA-256");
+				FINGERPRINT_DIGEST.set(digest);
+			} catch (final NoSuchAlgorithmException e) {
+				// every JRE needs to support SHA-256
+				throw new IllegalStateException("SHA-256 not supported", e);
+			}
+		}
+
+		for (final byte[] chunk : chunks) {
+			// prefix each chunk with its length so that chunk boundaries are part of the fingerprint
+			final int length = chunk.length;
+			digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length });
+			digest.update(chunk);
 		}
+
+		return SignatureHelper.convertBytesToBase64(digest.digest());
+	}
+
+	private static String getFingerprint(String... chunks) {
+		final byte[][] data = new byte[chunks.length][];
+		for (int index = 0; index < chunks.length; index++)
+			data[index] = (chunks[index] != null) ? chunks[index].getBytes(StandardCharsets.UTF_8) : new byte[0];
+
+		return getFingerprint(data);
 	}
 
 	/**
-	 * Converts certificate chain in form of string array to list.
+	 * Converts Base64 encoded certificate to corresponding certificate. Certificates are immutable, so parsed instances are shared.
 	 *
-	 * @return {@link List} of {@link Certificate}
+	 * @param base64Certificate
+	 *            provide certificate in Base64 format to convert it to {@link Certificate}
+	 * @return an instance of {@link Certificate}
 	 * @throws ScriptSignatureException
 	 *             when there is an error while retrieving certificate
 	 */
-	private List<Certificate> getCertificateChain() throws ScriptSignatureException {
+	private static Certificate getCertificate(String base64Certificate) throws ScriptSignatureException {
+		Certificate certificate = CERTIFICATES.get(base64Certificate);
+		if (certificate == null) {
+			try {
+				final byte[] bytesCert = SignatureHelper.convertBase64ToBytes(base64Certificate);
+				certificate = getCertificateFactory().generateCertificate(new ByteArrayInputStream(bytesCert));
+				CERTIFICATES.put(base64Certificate, certificate);
+
+			} catch (final CertificateException e) {
+				throw new ScriptSignatureException("Error while retrieving certificate.", e);
+			}
+		}
 
-		final String certChainString[] = fSignatureInfo.getCertificateChain();
-		final int noOfCert = certChainString.length;
-		final byte[][] certChainByte = new byte[noOfCert][];
+		return certificate;
+	}
 
-		for (int i = 0; i < noOfCert; i++)
-			certChainByte[i] = SignatureHelper.convertBase64ToBytes(certChainString[i]);
+	/**
+	 * Converts certificate chain in form of string array to list. Certificates are parsed once per instance.
+	 *
+	 * @return {@link List} of {@link Certificate}, may be modified by the caller
+	 * @throws ScriptSignatureException
+	 *             when there is an error while retrieving certificate
+	 */
+	private ArrayList<Certificate> getCertificateChain() throws ScriptSignatureException {
+
+		if (fCertificateChain == null) {
+			final ArrayList<Certificate> certificateList = new ArrayList<>();
+			for (final String certificate : fSignatureInfo.getCertificateChain())
+				certificateList.add(getCertificate(certificate));
 
-		final ArrayList<Certificate> certificateList = new ArrayList<>();
-		for (final byte cert[] : certChainByte)
-			certificateList.add(getCertificate(cert));
+			fCertificateChain = certificateList;
+		}
 
-		return certificateList;
+		return new ArrayList<>(fCertificateChain);
 	}
 
 	/**
@@ -206,8 +322,7 @@ public class VerifySignature {
 	public boolean isSelfSignedCertificate() throws ScriptSignatureException {
 
 		if (fSignatureInfo != null) {
-			final ArrayList<Certificate> certificateList = (ArrayList<Certificate>) getCertificateChain();
-			final Certificate certificate = certificateList.get(0);
+			final Certificate certificate = getCertificateChain().get(0);
 
 			return SignatureHelper.isSelfSignedCertificate(certificate);
 		}
@@ -233,78 +348,94 @@ public class VerifySignature {
 			throw new ScriptSignatureException("Either both or none of the parameters should be null");
 
 		if (fSignatureInfo != null) {
+			if ((trustStoreLocation == null) && (trustStorePassword == null))
+				return isCertChainValid(TrustStore.getDefault());
+
 			InputStream iStream = null;
 			try {
-				if ((trustStoreLocation == null) && (trustStorePassword == null)) {
-					// TODO check following command for windows
-					iStream = new FileInputStream(System.getProperty("java.home") + "/lib/security/" + "cacerts");
-					trustStorePassword = "changeit".toCharArray();
-				} else
-					iStream = ResourceTools.getInputStream(trustStoreLocation);
-
-				final CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
-
-				final ArrayList<Certificate> certificateList = (ArrayList<Certificate>) getCertificateChain();
+				iStream = ResourceTools.getInputStream(trustStoreLocation);
+				return validateCertChain(TrustStore.loadTrustAnchors(iStream, trustStorePassword));
 
-				final int certLength = certificateList.size();
-				if (SignatureHelper.isSelfSignedCertificate(certificateList.get(certLength - 1)))
-					certificateList.remove(certLength - 1);
+			} finally {
+				try {
+					if (iStream != null)
+						iStream.close();
+				} catch (final IOException e) {
+					Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
+				}
+			}
+		}
+		throw new ScriptSignatureException("Script does not contain signature.");
+	}
 
-				final CertPath certPath = certificateFactory.generateCertPath(certificateList);
+	/**
+	 * Checks the validity of certificate against a cached truststore. Successful validations are remembered by the truststore.
+	 *
+	 * @param trustStore
+	 *            truststore to validate against
+	 * @return <code>true</code> if certificate is valid and trusted
+	 * @throws ScriptSignatureException
+	 *             when truststore can't be loaded or certificate chain is invalid
+	 */
+	private boolean isCertChainValid(TrustStore trustStore) throws ScriptSignatureException {
+		final Set<TrustAnchor> trustAnchors = trustStore.getTrustAnchors();
 
-				final CertPathValidator validator = CertPathValidator.getInstance("PKIX");
+		final String fingerprint = getFingerprint(fSignatureInfo.getCertificateChain());
+		if (trustStore.isValidated(fingerprint))
+			return true;
 
-				final KeyStore keystore = KeyStore.getInstance("JKS");
-				keystore.load(iStream, trustStorePassword);
+		validateCertChain(trustAnchors);
+		trustStore.setValidated(fingerprint, trustAnchors);
+		return true;
+	}
 
-				final PKIXParameters params = new PKIXParameters(keystore);
-				params.setRevocationEnabled(true);
+	/**
+	 * Validate the certificate chain against a set of trusted certificates.
+	 *
+	 * @param trustAnchors
+	 *            trusted certificates
+	 * @return <code>true</code> if certificate is valid and trusted
+	 * @throws ScriptSignatureException
+	 *             when certificate chain is invalid or cannot be validated
+	 */
+	private boolean validateCertChain(Set<TrustAnchor> trustAnchors) throws ScriptSignatureException {
+		try {
+			final ArrayList<Certificate> certificateList = getCertificateChain();
 
-				// If certificate does not contain OSCP or CRL responder than that certificate will be considered invalid
-				Security.setProperty("ocsp.enable", "true");
-				System.setProperty("com.sun.net.ssl.checkRevocation", "true");
-				System.setProperty("com.sun.security.enableCRLDP", "true");
+			final int certLength = certificateList.size();
+			if (SignatureHelper.isSelfSignedCertificate(certificateList.get(certLength - 1)))
+				certificateList.remove(certLength - 1);
 
-				// Validate will throw an exception on invalid chains.
-				validator.validate(certPath, params);
-				return true;
+			final CertPath certPath = getCertificateFactory().generateCertPath(certificateList);
 
-			} catch (final CertificateException e) {
-				throw new ScriptSignatureException("One or more certificates can't be loaded.", e);
+			final CertPathValidator validator = CertPathValidator.getInstance("PKIX");
 
-			} catch (final NoSuchAlgorithmException e) {
-				throw new ScriptSignatureException("Algorithm used for securing truststore can't be found. Chose another Truststore.", e);
+			final PKIXParameters params = new PKIXParameters(trustAnchors);
+			params.setRevocationEnabled(true);
 
-			} catch (final KeyStoreException e) {
-				throw new ScriptSignatureException("Truststore can't be loaded.");
+			// If certificate does not contain OSCP or CRL responder than that certificate will be considered invalid
+			Security.setProperty("ocsp.enable", "true");
+			System.setProperty("com.sun.net.ssl.checkRevocation", "true");
+			System.setProperty("com.sun.security.enableCRLDP", "true");
 
-			} catch (final IOException e) {
-				if (e.getCause() instanceof UnrecoverableKeyException)
-					throw new ScriptSignatureException("Invalid Truststore Password.", e);
-				else if ((e.getCause() instanceof FileNotFoundException) || (e.getCause() instanceof SecurityException))
-					throw new ScriptSignatureException("File can't be read. Chose another Truststore or try again.", e);
+			// Validate will throw an exception on invalid chains.
+			validator.validate(certPath, params);
+			return true;
 
-				Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
-				throw new ScriptSignatureException("Error loading Truststore. Try again.", e);
+		} catch (final CertificateException e) {
+			throw new ScriptSignatureException("One or more certificates can't be loaded.", e);
 
-			} catch (final InvalidAlgorithmParameterException e) {
-				Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
-				throw new ScriptSignatureException("Can't perform validation.", e);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new ScriptSignatureException("Algorithm used for validating certificates can't be found.", e);
 
-			} catch (final CertPathValidatorException e) {
-				// if any invalidation occurs, exception will be caught here
-				throw new ScriptSignatureException(e.getMessage());
+		} catch (final InvalidAlgorithmParameterException e) {
+			Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
+			throw new ScriptSignatureException("Can't perform validation.", e);
 
-			} finally {
-				try {
-					if (iStream != null)
-						iStream.close();
-				} catch (final IOException e) {
-					Logger.error(Activator.PLUGIN_ID, Arrays.toString(e.getStackTrace()), e);
-				}
-			}
+		} catch (final CertPathValidatorException e) {
+			// if any invalidation occurs, exception will be caught here
+			throw new ScriptSignatureException(e.getMessage());
 		}
-		throw new ScriptSignatureException("Script does not contain signature.");
 	}
 
 	/**
@@ -330,24 +461,34 @@ public class VerifySignature {
 	public boolean verify() throws ScriptSignatureException {
 
 		if (fSignatureInfo != null) {
+			final byte[] content = fSignatureInfo.getContentOnly().getBytes();
+			final String fingerprint = getFingerprint(content, fSignatureInfo.getSignature().getBytes(StandardCharsets.UTF_8),
+					fSignatureInfo.getCertificateChain()[0].getBytes(StandardCharsets.UTF_8),
+					(fSignatureInfo.getMessageDigestAlgo() + "@" + fSignatureInfo.getProvider()).getBytes(StandardCharsets.UTF_8));
+
+			final Boolean cachedResult = VERIFIED_SIGNATURES.get(fingerprint);
+			if (cachedResult != null)
+				return cachedResult;
+
 			final byte[] signByte = SignatureHelper.convertBase64ToBytes(fSignatureInfo.getSignature());
-			final byte[] certByte = SignatureHelper.convertBase64ToBytes(fSignatureInfo.getCertificateChain()[0]);
-			final Certificate userCert = getCertificate(certByte);
+			final Certificate userCert = getCertificateChain().get(0);
 
 			try {
 				final PublicKey publicKey = userCert.getPublicKey();
 				final String encryptionAlgo = publicKey.getAlgorithm();
 
-				final Signature signature = Signature.getInstance(fSignatureInfo.getMessageDigestAlgo() + "with" + encryptionAlgo,
-						fSignatureInfo.getProvider());
+				final Signature signature = getSignature(fSignatureInfo.getMessageDigestAlgo() + "with" + encryptionAlgo, fSignatureInfo.getProvider());
 
 				// initialize signature instance with public key
 				signature.initVerify(publicKey);
 
 				// perform verification
-				signature.update(fSignatureInfo.getContentOnly().getBytes());
+				signature.update(content);
+
+				final boolean valid = signature.verify(signByte);
+				VERIFIED_SIGNATURES.put(fingerprint, valid);
 
-				return signature.verify(signByte);
+				return valid;
 
 			} catch (final SignatureException e) {
 				Logger.error(Activator.PLUGIN_ID, "Signature object not initialized properly or signature is not readable.", e);
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.tools;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Thread safe cache with a bounded size. When the size is exceeded, the least recently used entries get evicted. Keeps hit/miss statistics.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class LRUCache<K, V> {
+
+	private final LinkedHashMap<K, V> fEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fMaximumSize;
+
+	/** Optional callback for evicted values, eg to release resources. */
+	private final Consumer<V> fEvictionHandler;
+
+	private final AtomicLong fHits = new AtomicLong();
+
+	private final AtomicLong fMisses = new AtomicLong();
+
+	private final AtomicLong fEvictions = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maximumSize
+	 *            maximum amount of entries to keep
+	 */
+	public LRUCache(int maximumSize) {
+		this(maximumSize, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maximumSize
+	 *            maximum amount of entries to keep
+	 * @param evictionHandler
+	 *            handler called for values removed from the cache, may be <code>null</code>
+	 */
+	public LRUCache(int maximumSize, Consumer<V> evictionHandler) {
+		if (maximumSize < 0)
+			throw new IllegalArgumentException("Cache size must not be negative");
+
+		fMaximumSize = maximumSize;
+		fEvictionHandler = evictionHandler;
+	}
+
+	/**
+	 * Get a cached value. Updates hit/miss statistics.
+	 *
+	 * @param key
+	 *            key to look up
+	 * @return cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		final V value;
+		synchronized (fEntries) {
+			value = fEntries.get(key);
+		}
+
+		if (value != null)
+			fHits.incrementAndGet();
+		else
+			fMisses.incrementAndGet();
+
+		return value;
+	}
+
+	/**
+	 * Store a value in the cache. Might evict the least recently used entries.
+	 *
+	 * @param key
+	 *            key to store value for
+	 * @param value
+	 *            value to store
+	 */
+	public void put(K key, V value) {
+		final List<V> evicted = new ArrayList<>();
+
+		synchronized (fEntries) {
+			final V previous = fEntries.put(key, value);
+			if ((previous != null) && (previous != value))
+				evicted.add(previous);
+
+			evicted.addAll(trim());
+		}
+
+		notifyEvicted(evicted);
+	}
+
+	/**
+	 * Remove a dedicated entry from the cache.
+	 *
+	 * @param key
+	 *            key to remove
+	 * @return removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		final V value;
+		synchronized (fEntries) {
+			value = fEntries.remove(key);
+		}
+
+		if (value != null)
+			notifyEvicted(List.of(value));
+
+		return value;
+	}
+
+	/**
+	 * Remove all entries from the cache. Statistics are not reset.
+	 */
+	public void clear() {
+		final List<V> evicted;
+		synchronized (fEntries) {
+			evicted = new ArrayList<>(fEntries.values());
+			fEntries.clear();
+		}
+
+		notifyEvicted(evicted);
+	}
+
+	/**
+	 * Set the maximum amount of entries to keep. A size of 0 disables caching.
+	 *
+	 * @param maximumSize
+	 *            maximum amount of entries
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize < 0)
+			throw new IllegalArgumentException("Cache size must not be negative");
+
+		final List<V> evicted;
+		synchronized (fEntries) {
+			fMaximumSize = maximumSize;
+			evicted = trim();
+		}
+
+		notifyEvicted(evicted);
+	}
+
+	public int getMaximumSize() {
+		synchronized (fEntries) {
+			return fMaximumSize;
+		}
+	}
+
+	public int size() {
+		synchronized (fEntries) {
+			return fEntries.size();
+		}
+	}
+
+	public long getHits() {
+		return fHits.get();
+	}
+
+	public long getMisses() {
+		return fMisses.get();
+	}
+
+	public long getEvictions() {
+		return fEvictions.get();
+	}
+
+	/**
+	 * Get the ratio of successful lookups.
+	 *
+	 * @return hit rate within [0, 1]
+	 */
+	public double getHitRate() {
+		final long hits = getHits();
+		final long total = hits + getMisses();
+		return (total > 0) ? (double) hits / total : 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("size: %d/%d, hits: %d, misses: %d, evictions: %d", size(), getMaximumSize(), getHits(), getMisses(), getEvictions());
+	}
+
+	private List<V> trim() {
+		final List<V> evicted = new ArrayList<>();
+
+		final Iterator<Entry<K, V>> iterator = fEntries.entrySet().iterator();
+		while ((fEntries.size() > fMaximumSize) && (iterator.hasNext())) {
+			evicted.add(iterator.next().getValue());
+			iterator.remove();
+		}
+
+		fEvictions.addAndGet(evicted.size());
+
+		return evicted;
+	}
+
+	private void notifyEvicted(List<V> values) {
+		if (fEvictionHandler != null) {
+			for (final V value : values)
+				fEvictionHandler.accept(value);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ease.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.ease.Script;
+
+/**
+ * Identity of a script source to be used as key when caching compiled scripts. Consists of the source location, its modification stamp and a hash of the
+ * actual content. Engines may add further details (eg optimization level) that influence compilation results.
+ */
+public final class ScriptCacheKey {
+
+	/**
+	 * Create a cache key for a given script.
+	 *
+	 * @param script
+	 *            script to create key for
+	 * @param location
+	 *            source location as passed to the compiler, may be <code>null</code>
+	 * @param variant
+	 *            additional engine specific data influencing compilation results
+	 * @return cache key
+	 * @throws IOException
+	 *             when the script code cannot be read
+	 */
+	public static ScriptCacheKey of(Script script, String location, Object... variant) throws IOException {
+		return of(script.getCode(), location, getModificationStamp(script.getFile()), variant);
+	}
+
+	/**
+	 * Create a cache key for given source code.
+	 *
+	 * @param code
+	 *            script source code
+	 * @param location
+	 *            source location as passed to the compiler, may be <code>null</code>
+	 * @param modificationStamp
+	 *            modification stamp of the source, use -1 for dynamic code
+	 * @param variant
+	 *            additional engine specific data influencing compilation results
+	 * @return cache key
+	 */
+	public static ScriptCacheKey of(String code, String location, long modificationStamp, Object... variant) {
+		return new ScriptCacheKey(location, modificationStamp, getContentHash(code), variant);
+	}
+
+	/**
+	 * Get the modification stamp of a file resource.
+	 *
+	 * @param file
+	 *            {@link IFile}, {@link File} or <code>null</code>
+	 * @return modification stamp or -1 when not available
+	 */
+	public static long getModificationStamp(Object file) {
+		if (file instanceof IFile)
+			return ((IFile) file).getModificationStamp();
+
+		if (file instanceof File)
+			return ((File) file).lastModified();
+
+		return -1;
+	}
+
+	/**
+	 * Get a SHA-256 hash of some content.
+	 *
+	 * @param code
+	 *            content to hash
+	 * @return hex encoded hash
+	 */
+	public static String getContentHash(String code) {
+		if (code == null)
+			return "";
+
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8));
+
+			final StringBuilder hash = new StringBuilder(digest.length * 2);
+			for (final byte b : digest)
+				hash.append(String.format("%02x", b));
+
+			return hash.toString();
+
+		} catch (final NoSuchAlgorithmException e) {
+			// every JRE needs to support SHA-256, fall back to content length and java hash
+			return code.length() + ":" + code.hashCode();
+		}
+	}
+
+	private final String fLocation;
+
+	private final long fModificationStamp;
+
+	private final String fContentHash;
+
+	private final Object[] fVariant;
+
+	private final int fHashCode;
+
+	private ScriptCacheKey(String location, long modificationStamp, String contentHash, Object[] variant) {
+		fLocation = location;
+		fModificationStamp = modificationStamp;
+		fContentHash = contentHash;
+		fVariant = variant;
+
+		fHashCode = Objects.hash(fLocation, fModificationStamp, fContentHash, Arrays.hashCode(fVariant));
+	}
+
+	public String getLocation() {
+		return fLocation;
+	}
+
+	public long getModificationStamp() {
+		return fModificationStamp;
+	}
+
+	public String getContentHash() {
+		return fContentHash;
+	}
+
+	@Override
+	public int hashCode() {
+		return fHashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof ScriptCacheKey))
+			return false;
+
+		final ScriptCacheKey other = (ScriptCacheKey) obj;
+		return (fModificationStamp == other.fModificationStamp) && Objects.equals(fLocation, other.fLocation)
+				&& Objects.equals(fContentHash, other.fContentHash) && Arrays.equals(fVariant, other.fVariant);
+	}
+
+	@Override
+	public String toString() {
+		return fLocation + "@" + fModificationStamp + " [" + fContentHash + "]";
+	}
+}
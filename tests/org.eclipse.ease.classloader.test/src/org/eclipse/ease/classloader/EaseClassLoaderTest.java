@@ -14,9 +14,13 @@
 package org.eclipse.ease.classloader;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -24,9 +28,31 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleEvent;
 
 public class EaseClassLoaderTest {
 
+	/**
+	 * Parent class loader providing the {@link Job} class on demand only.
+	 */
+	private static class DelayedClassLoader extends ClassLoader {
+
+		private final AtomicBoolean fAvailable = new AtomicBoolean(false);
+
+		public DelayedClassLoader() {
+			super(null);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ((fAvailable.get()) && (Job.class.getName().equals(name)))
+				return Job.class;
+
+			throw new ClassNotFoundException(name);
+		}
+	}
+
 	private Job fJob;
 
 	@BeforeEach
@@ -56,4 +82,50 @@ public class EaseClassLoaderTest {
 		assertDoesNotThrow(() -> classLoader.registerURL(fJob, new URL("http://eclipse.org/one")));
 		assertDoesNotThrow(() -> classLoader.registerURL(fJob, new URL("http://eclipse.org/two")));
 	}
+
+	@Test
+	@DisplayName("loadClass() finds parent classes")
+	public void loadClass_finds_parent_classes() throws ClassNotFoundException {
+		final EaseClassLoader classLoader = new EaseClassLoader();
+
+		assertEquals(Job.class, classLoader.loadClass(Job.class.getName()));
+	}
+
+	@Test
+	@DisplayName("loadClass() throws repeatedly for unknown class")
+	public void loadClass_throws_repeatedly_for_unknown_class() {
+		final EaseClassLoader classLoader = new EaseClassLoader();
+
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.eclipse.ease.NotThere"));
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.eclipse.ease.NotThere"));
+	}
+
+	@Test
+	@DisplayName("loadClass() finds class after clearMissingClasses()")
+	public void loadClass_finds_class_after_clearMissingClasses() throws ClassNotFoundException {
+		final DelayedClassLoader parent = new DelayedClassLoader();
+		final EaseClassLoader classLoader = new EaseClassLoader(parent);
+
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(Job.class.getName()));
+
+		parent.fAvailable.set(true);
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(Job.class.getName()));
+
+		classLoader.clearMissingClasses();
+		assertEquals(Job.class, classLoader.loadClass(Job.class.getName()));
+	}
+
+	@Test
+	@DisplayName("loadClass() finds class after bundle got resolved")
+	public void loadClass_finds_class_after_bundle_got_resolved() throws ClassNotFoundException {
+		final DelayedClassLoader parent = new DelayedClassLoader();
+		final EaseClassLoader classLoader = new EaseClassLoader(parent);
+
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(Job.class.getName()));
+
+		parent.fAvailable.set(true);
+		new Activator().bundleChanged(new BundleEvent(BundleEvent.RESOLVED, mock(Bundle.class)));
+
+		assertEquals(Job.class, classLoader.loadClass(Job.class.getName()));
+	}
 }
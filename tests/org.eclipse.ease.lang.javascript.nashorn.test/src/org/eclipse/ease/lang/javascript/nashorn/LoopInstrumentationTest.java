@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.javascript.nashorn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LoopInstrumentationTest {
+
+	private static String instrument(String code) {
+		return LoopInstrumentation.instrument(code, "test.js", "check();");
+	}
+
+	@Test
+	@DisplayName("instrument() adds check to loop block")
+	public void instrument_adds_check_to_loop_block() {
+		assertEquals("while (true) {check(); x++; }", instrument("while (true) { x++; }"));
+	}
+
+	@Test
+	@DisplayName("instrument() wraps loop statement into block")
+	public void instrument_wraps_loop_statement_into_block() {
+		assertEquals("for (;;) {check();x++;}", instrument("for (;;) x++;"));
+		assertEquals("do {check();x++;} while (x < 10)", instrument("do x++; while (x < 10)"));
+	}
+
+	@Test
+	@DisplayName("instrument() adds check to nested loops")
+	public void instrument_adds_check_to_nested_loops() {
+		assertEquals("for (var i in o) {check();while (a) {check(); b(); }}", instrument("for (var i in o) while (a) { b(); }"));
+	}
+
+	@Test
+	@DisplayName("instrument() keeps line numbers")
+	public void instrument_keeps_line_numbers() {
+		assertEquals("function f() {\n\twhile (a)\n\t\t{check();b();}\n}", instrument("function f() {\n\twhile (a)\n\t\tb();\n}"));
+	}
+
+	@Test
+	@DisplayName("instrument() ignores loops in strings and comments")
+	public void instrument_ignores_loops_in_strings_and_comments() {
+		final String code = "var s = 'while (true) {}'; // for (;;) {}";
+		assertEquals(code, instrument(code));
+	}
+
+	@Test
+	@DisplayName("instrument() keeps invalid code")
+	public void instrument_keeps_invalid_code() {
+		assertEquals("var x = ;", instrument("var x = ;"));
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.javascript.nashorn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.ease.ScriptResult;
+import org.eclipse.ease.service.IScriptService;
+import org.eclipse.ease.service.ScriptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class NashornScriptEngineTest {
+
+	private NashornScriptEngine fEngine;
+
+	@BeforeEach
+	public void beforeEach() {
+		// we need to retrieve the service singleton as the workspace is not available in headless tests
+		final IScriptService scriptService = ScriptService.getService();
+		fEngine = (NashornScriptEngine) scriptService.getEngineByID(NashornScriptEngine.ENGINE_ID).createEngine();
+		fEngine.setTerminateOnIdle(false);
+	}
+
+	@AfterEach
+	public void afterEach() {
+		fEngine.terminate();
+	}
+
+	@Test
+	@DisplayName("execute() reuses compiled scripts")
+	public void execute_reuses_compiled_scripts() throws ExecutionException {
+		final String code = "var cached = " + System.nanoTime() + "; 'cached';";
+
+		final ScriptResult result = fEngine.execute(code);
+		fEngine.schedule();
+		assertEquals("cached", result.get());
+		final long hits = fEngine.getCompiledScriptCache().getHits();
+
+		assertEquals("cached", fEngine.execute(code).get());
+		assertEquals(hits + 1, fEngine.getCompiledScriptCache().getHits());
+	}
+
+	@Test
+	@DisplayName("engines do not share variables")
+	public void engines_do_not_share_variables() throws ExecutionException {
+		final NashornScriptEngine otherEngine = (NashornScriptEngine) ScriptService.getService().getEngineByID(NashornScriptEngine.ENGINE_ID).createEngine();
+		otherEngine.setTerminateOnIdle(false);
+		try {
+			final ScriptResult result = fEngine.execute("var shared = 'first'; shared;");
+			fEngine.schedule();
+			assertEquals("first", result.get());
+
+			final ScriptResult otherResult = otherEngine.execute("typeof shared;");
+			otherEngine.schedule();
+			assertEquals("undefined", otherResult.get());
+
+		} finally {
+			otherEngine.terminate();
+		}
+	}
+
+	@Test
+	@Timeout(30)
+	@DisplayName("terminate() stops infinite loop")
+	public void terminate_stops_infinite_loop() throws InterruptedException {
+		final ScriptResult result = fEngine.execute("var counter = 0; while (true) { counter++; }");
+		fEngine.schedule();
+
+		// wait for the loop to start
+		while (!fEngine.hasVariable("counter"))
+			Thread.sleep(50);
+
+		final long start = System.currentTimeMillis();
+		fEngine.terminate();
+		fEngine.joinEngine(10000);
+
+		assertTrue(fEngine.isFinished());
+		assertTrue((System.currentTimeMillis() - start) < 10000);
+		assertThrows(ExecutionException.class, () -> result.get());
+	}
+
+	@Test
+	@Timeout(30)
+	@DisplayName("terminate() stops infinite loop without block")
+	public void terminate_stops_infinite_loop_without_block() throws InterruptedException {
+		final ScriptResult result = fEngine.execute("var counter = 0; for (;;) counter++;");
+		fEngine.schedule();
+
+		while (!fEngine.hasVariable("counter"))
+			Thread.sleep(50);
+
+		fEngine.terminate();
+		fEngine.joinEngine(10000);
+
+		assertTrue(fEngine.isFinished());
+		assertThrows(ExecutionException.class, () -> result.get());
+	}
+
+	@Test
+	@Timeout(30)
+	@DisplayName("terminate() stops blocking script")
+	public void terminate_stops_blocking_script() throws InterruptedException {
+		final ScriptResult result = fEngine.execute("var started = true; java.lang.Thread.sleep(60000);");
+		fEngine.schedule();
+
+		while (!fEngine.hasVariable("started"))
+			Thread.sleep(50);
+
+		fEngine.terminate();
+		fEngine.joinEngine(10000);
+
+		assertTrue(fEngine.isFinished());
+		assertThrows(ExecutionException.class, () -> result.get());
+	}
+}
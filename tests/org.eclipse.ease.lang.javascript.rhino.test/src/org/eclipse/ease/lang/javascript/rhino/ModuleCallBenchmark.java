@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.javascript.rhino;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ease.IReplEngine;
+import org.eclipse.ease.modules.EnvironmentModule;
+import org.eclipse.ease.modules.IEnvironment;
+import org.eclipse.ease.modules.IModuleCallbackProvider;
+import org.eclipse.ease.service.ScriptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Measures wrapped module function calls per second. Excluded from the default test run, execute with <code>-Dtests.excludedGroups= -Dgroups=benchmark</code>.
+ */
+@Tag("benchmark")
+public class ModuleCallBenchmark {
+
+	private static final int ITERATIONS = 1_000_000;
+
+	private static final String WRAPPED_CALL = "getScriptEngine();";
+
+	private IReplEngine fEngine;
+
+	@BeforeEach
+	public void beforeEach() throws ExecutionException {
+		fEngine = (IReplEngine) ScriptService.getService().getEngineByID(RhinoScriptEngine.ENGINE_ID).createEngine();
+		fEngine.setTerminateOnIdle(false);
+		fEngine.schedule();
+
+		// execute some code to synchronize startup sequence
+		fEngine.execute("// sync execution").get();
+	}
+
+	@AfterEach
+	public void afterEach() {
+		fEngine.terminate();
+	}
+
+	@Test
+	@DisplayName("wrapped function calls without callbacks")
+	public void wrapped_function_calls_without_callbacks(TestReporter reporter) throws ExecutionException {
+		reporter.publishEntry("calls per second", Long.toString(measure(WRAPPED_CALL)));
+	}
+
+	@Test
+	@DisplayName("wrapped function calls with a callback lookup on each call")
+	public void wrapped_function_calls_with_a_callback_lookup_on_each_call(TestReporter reporter) throws ExecutionException {
+		// the java round trip each wrapped function did before callback flags were introduced
+		final String lookup = EnvironmentModule.getWrappedVariableName(getEnvironment()) + ".hasMethodCallback('unknown'); ";
+
+		reporter.publishEntry("calls per second", Long.toString(measure(lookup + WRAPPED_CALL)));
+	}
+
+	@Test
+	@DisplayName("wrapped function calls with registered callbacks")
+	public void wrapped_function_calls_with_registered_callbacks(TestReporter reporter) throws ExecutionException {
+		getEnvironment().addModuleCallback(new IModuleCallbackProvider() {
+
+			@Override
+			public boolean hasPreExecutionCallback(Method method) {
+				return true;
+			}
+
+			@Override
+			public boolean hasPostExecutionCallback(Method method) {
+				return false;
+			}
+
+			@Override
+			public void preExecutionCallback(Method method, Object[] parameters) {
+				// nothing to do
+			}
+
+			@Override
+			public void postExecutionCallback(Method method, Object result) {
+				// nothing to do
+			}
+		});
+
+		reporter.publishEntry("calls per second", Long.toString(measure(WRAPPED_CALL)));
+	}
+
+	private IEnvironment getEnvironment() {
+		return IEnvironment.getEnvironment(fEngine);
+	}
+
+	private long measure(String call) throws ExecutionException {
+		final String loop = "for (var index = 0; index < " + ITERATIONS + "; index++) { " + call + " }";
+
+		// warm up
+		fEngine.execute(loop).get();
+
+		final long start = System.nanoTime();
+		fEngine.execute(loop).get();
+
+		return (ITERATIONS * TimeUnit.SECONDS.toNanos(1)) / Math.max(1, System.nanoTime() - start);
+	}
+}
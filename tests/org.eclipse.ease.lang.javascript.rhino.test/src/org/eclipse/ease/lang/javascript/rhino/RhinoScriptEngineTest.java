@@ -12,15 +12,28 @@
  *******************************************************************************/
 package org.eclipse.ease.lang.javascript.rhino;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.ease.IReplEngine;
+import org.eclipse.ease.service.EngineDescription;
+import org.eclipse.ease.service.EnginePool;
 import org.eclipse.ease.service.IScriptService;
 import org.eclipse.ease.service.ScriptService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 public class RhinoScriptEngineTest extends AbstractRhinoScriptEngineTest {
 
 	private RhinoScriptEngine fEngine;
 
+	private EnginePool fEnginePool = null;
+
 	@BeforeEach
 	public void beforeEach() {
 		// we need to retrieve the service singleton as the workspace is not available in headless tests
@@ -32,10 +45,60 @@ public class RhinoScriptEngineTest extends AbstractRhinoScriptEngineTest {
 	@AfterEach
 	public void afterEach() {
 		fEngine.terminate();
+
+		if (fEnginePool != null)
+			fEnginePool.dispose();
 	}
 
 	@Override
 	protected RhinoScriptEngine getScriptEngine() {
 		return fEngine;
 	}
+
+	@Test
+	@DisplayName("execute() reuses compiled scripts")
+	public void execute_reuses_compiled_scripts() throws ExecutionException {
+		final String code = "var cached = " + System.nanoTime() + "; 'cached';";
+
+		assertEquals("cached", executeCode(code).get());
+		final long hits = RhinoScriptEngine.getCompiledScriptCache().getHits();
+
+		assertEquals("cached", getScriptEngine().execute(code).get());
+		assertEquals(hits + 1, RhinoScriptEngine.getCompiledScriptCache().getHits());
+	}
+
+	@Test
+	@DisplayName("resetScope() restores marked scope")
+	public void resetScope_restores_marked_scope() throws ExecutionException {
+		executeCode("var kept = 1;").get();
+		assertTrue(getScriptEngine().markScope());
+
+		getScriptEngine().execute("var added = 2; kept = 3; function addedFunction() {}").get();
+		assertTrue(getScriptEngine().resetScope());
+
+		assertFalse(getScriptEngine().hasVariable("added"));
+		assertFalse(getScriptEngine().hasVariable("addedFunction"));
+		assertEquals(1, ((Number) getScriptEngine().getVariable("kept")).intValue());
+	}
+
+	@Test
+	@DisplayName("EnginePool recycles released engines")
+	public void enginePool_recycles_released_engines() throws ExecutionException {
+		fEnginePool = new EnginePool(ScriptService.getService());
+		final EnginePool pool = fEnginePool;
+		final EngineDescription description = ScriptService.getService().getEngineByID(RhinoScriptEngine.ENGINE_ID);
+
+		final IReplEngine engine = pool.lease(description);
+		engine.execute("var leased = true;").get();
+		pool.release(engine);
+
+		final long hits = pool.getHits(RhinoScriptEngine.ENGINE_ID);
+		final IReplEngine recycledEngine = pool.lease(description);
+		try {
+			assertEquals(hits + 1, pool.getHits(RhinoScriptEngine.ENGINE_ID));
+			assertFalse(recycledEngine.hasVariable("leased"));
+		} finally {
+			pool.release(recycledEngine);
+		}
+	}
 }
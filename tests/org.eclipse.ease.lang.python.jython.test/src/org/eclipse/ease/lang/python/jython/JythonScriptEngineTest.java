@@ -45,4 +45,21 @@ public class JythonScriptEngineTest {
 		assertEquals("foo", new JythonScriptEngine().toString("foo"));
 	}
 
+	@Test
+	@DisplayName("execute() reuses compiled code")
+	public void execute_reuses_compiled_code() throws ExecutionException {
+		final String code = "cached = " + System.nanoTime();
+		final long hits = JythonScriptEngine.getCompiledCodeCache().getHits();
+
+		final JythonScriptEngine engine = new JythonScriptEngine();
+		final ScriptResult firstResult = engine.execute(code);
+		final ScriptResult secondResult = engine.execute(code);
+		engine.schedule();
+
+		firstResult.get();
+		secondResult.get();
+
+		assertEquals(hits + 1, JythonScriptEngine.getCompiledCodeCache().getHits());
+	}
+
 }
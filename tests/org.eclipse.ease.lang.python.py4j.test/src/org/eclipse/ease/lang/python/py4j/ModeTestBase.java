@@ -176,6 +176,41 @@ public abstract class ModeTestBase extends Py4JEngineTestBase {
 		executeCode("floatArray([1.0, 2.0])", 3.0);
 	}
 
+	@Test
+	public void javaDoubleArrayFromLargeList() throws Exception {
+		executeCode("doubleArray([float(i) for i in range(100000)])", 4999950000.0);
+	}
+
+	@Test
+	public void javaDoubleArrayFromPythonArray() throws Exception {
+		executeCode("doubleArray(__import__('array').array('d', [1.0, 2.0]))", 3.0);
+	}
+
+	@Test
+	public void javaIntArrayFromTuple() throws Exception {
+		executeCode("intArray((1, 2))", 3);
+	}
+
+	@Test
+	public void javaDoubleArrayResult() throws Exception {
+		executeCode("sum(doubleRange(4))", 6.0);
+	}
+
+	@Test
+	public void javaDoubleArrayResultIsPythonArray() throws Exception {
+		executeCode("type(doubleRange(4)).__name__", "array");
+	}
+
+	@Test
+	public void javaIntArrayResultKeepsComponentType() throws Exception {
+		executeCode("intRange(4).itemsize", 4);
+	}
+
+	@Test
+	public void javaIntArrayResultAsParameter() throws Exception {
+		executeCode("intArray(intRange(4))", 6);
+	}
+
 	@Test
 	public void javaObjectArray() throws Exception {
 		executeCode("javaObjectArray([org.eclipse.core.runtime.Path('..'), org.eclipse.core.runtime.Path('..')])", new Path("./../.."));
@@ -15,6 +15,7 @@ package org.eclipse.ease.lang.python.py4j;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
@@ -29,10 +30,14 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ease.IScriptEngine;
 import org.eclipse.ease.ScriptResult;
+import org.eclipse.ease.lang.python.py4j.internal.Activator;
+import org.eclipse.ease.lang.python.py4j.internal.Py4JScriptEnginePrefConstants;
+import org.eclipse.ease.lang.python.py4j.internal.Py4jProcessPool;
 import org.eclipse.ease.lang.python.py4j.internal.Py4jScriptEngine;
 import org.eclipse.ease.service.EngineDescription;
 import org.eclipse.ease.service.ScriptService;
 import org.eclipse.ease.testhelper.WorkspaceTestHelper;
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -75,6 +80,40 @@ public class Py4jScriptEngineTest {
 		assertEquals("foo", new Py4jScriptEngine().toString("foo"));
 	}
 
+	@Test
+	@DisplayName("pooled process does not keep variables of previous engine")
+	public void pooled_process_does_not_keep_variables_of_previous_engine() throws ExecutionException, InterruptedException {
+		final IPreferenceStore preferenceStore = Activator.getDefault().getPreferenceStore();
+		preferenceStore.setValue(Py4JScriptEnginePrefConstants.POOL_SIZE, 1);
+
+		IScriptEngine secondEngine = null;
+		try {
+			final EngineDescription engineDescription = ScriptService.getInstance().getEngineByID(Py4jScriptEngine.ENGINE_ID);
+
+			final IScriptEngine firstEngine = engineDescription.createEngine();
+			firstEngine.execute("pooledVariable = 42");
+			firstEngine.schedule();
+			firstEngine.joinEngine();
+
+			assertTrue(Py4jProcessPool.getInstance().getIdleProcessCount() > 0);
+
+			secondEngine = engineDescription.createEngine();
+			final ScriptResult result = secondEngine.execute("'pooledVariable' in globals()");
+			secondEngine.schedule();
+
+			assertEquals(Boolean.FALSE, result.get());
+
+		} finally {
+			if (secondEngine != null) {
+				secondEngine.terminate();
+				secondEngine.joinEngine();
+			}
+
+			preferenceStore.setToDefault(Py4JScriptEnginePrefConstants.POOL_SIZE);
+			Py4jProcessPool.shutdown();
+		}
+	}
+
 	private void pathTest(Pattern pathPattern) throws ExecutionException {
 		pathTest(pathPattern, null);
 	}
@@ -72,6 +72,21 @@ public class ScriptModeEngineTest extends ModeTestBase {
 		assertTrue(fErrorStream.getAndClearOutput().contains("NameError"));
 	}
 
+	@Test
+	public void argvIsAvailableInSys() throws Exception {
+		fEngine.setVariable("argv", new String[] { "first", "second" });
+		executeCode("import sys\nsys.argv[1]", "second");
+	}
+
+	@Test
+	public void numericArrayVariableIsJavaArray() throws Exception {
+		final int[] values = new int[] { 1, 2 };
+		fEngine.setVariable("values", values);
+		executeCode("values[0] = 5");
+
+		assertEquals(5, values[0]);
+	}
+
 	@Test
 	public void multiLineStatement() throws Exception {
 		executeCode("def a():\n\treturn 42\na()", 42);
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class Py4jArrayTransferTest {
+
+	private final Py4jArrayTransfer fTransfer = new Py4jArrayTransfer();
+
+	@Test
+	@DisplayName("encode() == null for unsupported types")
+	public void encode_is_null_for_unsupported_types() {
+		assertNull(Py4jArrayTransfer.encode(new String[] { "1" }));
+		assertNull(Py4jArrayTransfer.encode(new boolean[] { true }));
+		assertNull(Py4jArrayTransfer.getEncoding(new Object()));
+	}
+
+	@Test
+	@DisplayName("double[] survives round trip")
+	public void double_array_survives_round_trip() {
+		final double[] values = new double[] { 0, -1.5, Double.MAX_VALUE, Double.NaN };
+		assertEquals(Py4jArrayTransfer.ENCODING_DOUBLE, Py4jArrayTransfer.getEncoding(values));
+		assertArrayEquals(values, (double[]) fTransfer.toArray(Py4jArrayTransfer.encode(values), Py4jArrayTransfer.ENCODING_DOUBLE, "double"));
+	}
+
+	@Test
+	@DisplayName("int[] survives round trip")
+	public void int_array_survives_round_trip() {
+		final int[] values = new int[] { 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE };
+		assertEquals(Py4jArrayTransfer.ENCODING_LONG, Py4jArrayTransfer.getEncoding(values));
+		assertArrayEquals(values, (int[]) fTransfer.toArray(Py4jArrayTransfer.encode(values), Py4jArrayTransfer.ENCODING_LONG, "int"));
+	}
+
+	@Test
+	@DisplayName("toArray() throws for values out of range")
+	public void toArray_throws_for_values_out_of_range() {
+		final byte[] data = Py4jArrayTransfer.encode(new long[] { Integer.MAX_VALUE + 1L });
+		assertThrows(IllegalArgumentException.class, () -> fTransfer.toArray(data, Py4jArrayTransfer.ENCODING_LONG, "int"));
+		assertThrows(IllegalArgumentException.class, () -> fTransfer.toArray(data, Py4jArrayTransfer.ENCODING_LONG, "short"));
+	}
+
+	@Test
+	@DisplayName("toArray() throws for incompatible component type")
+	public void toArray_throws_for_incompatible_component_type() {
+		final byte[] data = Py4jArrayTransfer.encode(new double[] { 1.5 });
+		assertThrows(IllegalArgumentException.class, () -> fTransfer.toArray(data, Py4jArrayTransfer.ENCODING_DOUBLE, "int"));
+	}
+
+	@Test
+	@DisplayName("toList() uses Integer where possible")
+	public void toList_uses_integer_where_possible() {
+		final byte[] data = Py4jArrayTransfer.encode(new long[] { 1, Long.MAX_VALUE });
+		assertEquals(Arrays.asList(1, Long.MAX_VALUE), fTransfer.toList(data, Py4jArrayTransfer.ENCODING_LONG));
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.python.py4j.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import py4j.Gateway;
+
+public class Py4jVariableTransferTest {
+
+	private final Gateway fGateway = new Gateway(null);
+
+	@Test
+	@DisplayName("encode() creates empty payload for no variables")
+	public void encode_creates_empty_payload_for_no_variables() {
+		assertEquals("", Py4jVariableTransfer.encode(fGateway, Collections.emptyMap()));
+	}
+
+	@Test
+	@DisplayName("encode() escapes line feeds")
+	public void encode_escapes_line_feeds() {
+		final String payload = Py4jVariableTransfer.encode(fGateway, Collections.singletonMap("text", "first\nsecond"));
+
+		assertEquals(2, payload.split("\n").length);
+	}
+
+	@Test
+	@DisplayName("variables survive round trip")
+	public void variables_survive_round_trip() {
+		final Object reference = new Object();
+
+		final Map<String, Object> variables = new LinkedHashMap<>();
+		variables.put("flag", true);
+		variables.put("counter", 42);
+		variables.put("text", "first\nsecond");
+		variables.put("empty", null);
+		variables.put("reference", reference);
+
+		// payload contains names and contents, contents only are expected for decoding
+		final String payload = Py4jVariableTransfer.encode(fGateway, variables);
+		final String[] commandParts = payload.split("\n");
+		final StringBuilder contents = new StringBuilder();
+		for (int index = 1; index < commandParts.length; index += 2)
+			contents.append(commandParts[index]).append('\n');
+
+		final Map<String, Object> result = Py4jVariableTransfer.decode(fGateway, new ArrayList<>(variables.keySet()), contents.toString());
+
+		assertEquals(true, result.get("flag"));
+		assertEquals(42, result.get("counter"));
+		assertEquals("first\nsecond", result.get("text"));
+		assertTrue(result.containsKey("empty"));
+		assertNull(result.get("empty"));
+		assertSame(reference, result.get("reference"));
+	}
+
+	@Test
+	@DisplayName("decode() throws when payload does not match names")
+	public void decode_throws_when_payload_does_not_match_names() {
+		final List<String> names = Arrays.asList("a", "b");
+
+		assertThrows(IllegalArgumentException.class, () -> Py4jVariableTransfer.decode(fGateway, names, "i1\n"));
+	}
+}
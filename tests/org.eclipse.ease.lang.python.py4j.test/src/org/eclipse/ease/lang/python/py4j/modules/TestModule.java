@@ -151,6 +151,38 @@ public class TestModule extends AbstractScriptModule {
 		return sum;
 	}
 
+	/**
+	 * Create a sequence of doubles.
+	 *
+	 * @param count
+	 *            amount of elements.
+	 * @return doubles from 0 to count - 1.
+	 */
+	@WrapToScript
+	public double[] doubleRange(@ScriptParameter int count) {
+		final double[] result = new double[count];
+		for (int index = 0; index < count; index++)
+			result[index] = index;
+
+		return result;
+	}
+
+	/**
+	 * Create a sequence of integers.
+	 *
+	 * @param count
+	 *            amount of elements.
+	 * @return integers from 0 to count - 1.
+	 */
+	@WrapToScript
+	public int[] intRange(@ScriptParameter int count) {
+		final int[] result = new int[count];
+		for (int index = 0; index < count; index++)
+			result[index] = index;
+
+		return result;
+	}
+
 	/**
 	 * Calculate a chain of relative Path objects.
 	 *
@@ -29,8 +29,11 @@ import org.junit.jupiter.api.Test;
 
 public class PythonCodeFactoryTest {
 	// @formatter:off
-	private static final String PY4J_VOID_METHOD = "def voidMethod():\n"
-			+ "    if not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule.hasMethodCallback(\"1234\"):\n"
+	private static final String PY4J_VOID_METHOD = "__EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_callbacks_1234 = False\n"
+			+ "def voidMethod():\n"
+			+ "    global __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls\n"
+			+ "    __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls += 1\n"
+			+ "    if (not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_callbacks_1234 and __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls % 256 != 0) or not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule.hasMethodCallback(\"1234\"):\n"
 			+ "        MODULE.voidMethod()\n"
 			+ "        return org.eclipse.ease.ScriptResult.VOID\n"
 			+ "    \n"
@@ -44,8 +47,11 @@ public class PythonCodeFactoryTest {
 			+ "voidMethod.__ease__ = True\n"
 			+ "\n";
 
-	private static final String PY4J_INT_METHOD = "def intMethodWithParameters(a, b):\n"
-			+ "    if not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule.hasMethodCallback(\"1234\"):\n"
+	private static final String PY4J_INT_METHOD = "__EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_callbacks_1234 = False\n"
+			+ "def intMethodWithParameters(a, b):\n"
+			+ "    global __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls\n"
+			+ "    __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls += 1\n"
+			+ "    if (not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_callbacks_1234 and __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule_calls % 256 != 0) or not __EASE_MOD_org_eclipse_ease_modules_EnvironmentModule.hasMethodCallback(\"1234\"):\n"
 			+ "        return MODULE.intMethodWithParameters(a, b)\n"
 			+ "    \n"
 			+ "    else:\n"
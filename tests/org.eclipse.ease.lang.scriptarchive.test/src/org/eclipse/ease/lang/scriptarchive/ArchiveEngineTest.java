@@ -3,7 +3,10 @@ package org.eclipse.ease.lang.scriptarchive;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.concurrent.ExecutionException;
@@ -80,6 +83,23 @@ public class ArchiveEngineTest {
 			assertFalse(project.getName().contains("__EASE"));
 	}
 
+	@Test
+	public void extractedArchiveIsCached() throws IOException {
+		final URL location = new URL("platform:/plugin/org.eclipse.ease.lang.scriptarchive.test/resources/with_includes.sar");
+
+		final File firstExtraction;
+		try (ScriptArchive archive = ScriptArchive.open(location)) {
+			firstExtraction = archive.extract();
+		}
+
+		try (ScriptArchive archive = ScriptArchive.open(location)) {
+			assertEquals(firstExtraction, archive.extract());
+		}
+
+		assertTrue(ScriptArchive.getExtractedFile(firstExtraction, "scripts/Slave.js").isFile());
+		assertFalse(ScriptArchive.getExtractedFile(firstExtraction, ".project").exists());
+	}
+
 	@Test
 	public void executeWithErrors() throws MalformedURLException, InterruptedException {
 		final IScriptService scriptService = ScriptService.getInstance();
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.lang.unittest.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.ease.lang.unittest.TestSuiteScriptEngine;
+import org.eclipse.ease.lang.unittest.definition.Flag;
+import org.eclipse.ease.lang.unittest.definition.IDefinitionFactory;
+import org.eclipse.ease.lang.unittest.definition.ITestSuiteDefinition;
+import org.eclipse.ease.lang.unittest.runtime.IRuntimeFactory;
+import org.eclipse.ease.lang.unittest.runtime.ITestSuite;
+import org.eclipse.ease.lang.unittest.runtime.impl.TestFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTestExecutionStrategyTest {
+
+	private static ITestSuite createTestSuite(String threadCount) {
+		return createTestSuite(threadCount, true);
+	}
+
+	private static ITestSuite createTestSuite(String threadCount, boolean parallelExecution) {
+		final ITestSuiteDefinition definition = IDefinitionFactory.eINSTANCE.createTestSuiteDefinition();
+		if (threadCount != null)
+			definition.getFlags().put(Flag.THREAD_COUNT, threadCount);
+
+		definition.getFlags().put(Flag.PARALLEL_EXECUTION, Boolean.toString(parallelExecution));
+
+		final ITestSuite testSuite = IRuntimeFactory.eINSTANCE.createTestSuite();
+		testSuite.setDefinition(definition);
+
+		return testSuite;
+	}
+
+	@Test
+	@DisplayName("getThreadCount() reads THREAD_COUNT flag")
+	public void getThreadCount_reads_thread_count_flag() {
+		assertEquals(1, ParallelTestExecutionStrategy.getThreadCount(createTestSuite(null)));
+		assertEquals(1, ParallelTestExecutionStrategy.getThreadCount(createTestSuite("invalid")));
+		assertEquals(4, ParallelTestExecutionStrategy.getThreadCount(createTestSuite("4")));
+	}
+
+	@Test
+	@DisplayName("getThreadCount() = 1 when PARALLEL_EXECUTION is not enabled")
+	public void getThreadCount_is_1_when_parallel_execution_is_not_enabled() {
+		assertEquals(1, ParallelTestExecutionStrategy.getThreadCount(createTestSuite("4", false)));
+	}
+
+	@Test
+	@DisplayName("execute() runs test files concurrently")
+	public void execute_runs_test_files_concurrently() {
+		final ITestSuite testSuite = createTestSuite("2");
+
+		final CountDownLatch latch = new CountDownLatch(2);
+		final ConcurrentFile file1 = new ConcurrentFile(latch);
+		testSuite.getChildren().add(file1);
+		final ConcurrentFile file2 = new ConcurrentFile(latch);
+		testSuite.getChildren().add(file2);
+
+		final ParallelTestExecutionStrategy strategy = new ParallelTestExecutionStrategy();
+		strategy.prepareExecution(mock(TestSuiteScriptEngine.class), testSuite);
+		strategy.execute(testSuite);
+
+		// each file waits for the other one to start, which only succeeds when both run at the same time
+		assertTrue(file1.fConcurrent.get());
+		assertTrue(file2.fConcurrent.get());
+	}
+
+	private static class ConcurrentFile extends TestFile {
+
+		private final CountDownLatch fLatch;
+		private final AtomicBoolean fConcurrent = new AtomicBoolean();
+
+		public ConcurrentFile(CountDownLatch latch) {
+			fLatch = latch;
+		}
+
+		@Override
+		public void run(ITestExecutionStrategy strategy) {
+			fLatch.countDown();
+
+			try {
+				fConcurrent.set(fLatch.await(10, TimeUnit.SECONDS));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
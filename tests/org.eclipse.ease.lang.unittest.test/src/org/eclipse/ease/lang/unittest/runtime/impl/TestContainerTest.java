@@ -14,6 +14,7 @@
 package org.eclipse.ease.lang.unittest.runtime.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -24,6 +25,7 @@ import org.eclipse.ease.lang.unittest.execution.ITestExecutionStrategy;
 import org.eclipse.ease.lang.unittest.runtime.IRuntimeFactory;
 import org.eclipse.ease.lang.unittest.runtime.ITest;
 import org.eclipse.ease.lang.unittest.runtime.ITestContainer;
+import org.eclipse.ease.lang.unittest.runtime.ITestEntity;
 import org.eclipse.ease.lang.unittest.runtime.ITestFile;
 import org.eclipse.ease.lang.unittest.runtime.ITestFolder;
 import org.eclipse.ease.lang.unittest.runtime.TestStatus;
@@ -69,6 +71,28 @@ public class TestContainerTest extends TestEntityTest {
 		assertEquals(test2, container.getTest("second"));
 	}
 
+	@Test
+	@DisplayName("getTest() creates a single child when called concurrently")
+	public void getTest_creates_single_child_when_called_concurrently() throws InterruptedException {
+		final ITestContainer container = getTestInstance();
+
+		final Thread[] threads = new Thread[8];
+		for (int index = 0; index < threads.length; index++) {
+			threads[index] = new Thread(() -> {
+				for (int run = 0; run < 100; run++)
+					container.getTest(ITestEntity.GLOBAL_SCOPE_TEST);
+			});
+		}
+
+		for (final Thread thread : threads)
+			thread.start();
+
+		for (final Thread thread : threads)
+			thread.join();
+
+		assertEquals(1, container.getChildren().size());
+	}
+
 	@Test
 	@DisplayName("run() executes each child")
 	public void run_executes_each_child() {
@@ -131,6 +155,32 @@ public class TestContainerTest extends TestEntityTest {
 		assertEquals(TestStatus.ERROR, container.getStatus());
 	}
 
+	@Test
+	@DisplayName("getStatus() follows status changes of nested children")
+	public void getStatus_follows_status_changes_of_nested_children() {
+		final ITestContainer container = getTestInstance();
+
+		final ITestFolder testFolder = IRuntimeFactory.eINSTANCE.createTestFolder();
+		container.getChildren().add(testFolder);
+		final ITestFile testFile = IRuntimeFactory.eINSTANCE.createTestFile();
+		testFolder.getChildren().add(testFile);
+		testFile.setEntityStatus(TestStatus.PASS);
+
+		assertEquals(TestStatus.PASS, container.getStatus());
+
+		final ITest test = testFile.getTest("test");
+		test.setEntityStatus(TestStatus.PASS);
+		assertEquals(TestStatus.PASS, container.getStatus());
+
+		test.addError("error", null);
+		assertEquals(TestStatus.ERROR, container.getStatus());
+		assertTrue(container.hasError());
+
+		testFile.getChildren().remove(test);
+		assertEquals(TestStatus.PASS, container.getStatus());
+		assertFalse(container.hasError());
+	}
+
 	@Test
 	@DisplayName("hasError() queries children for error status")
 	public void hasError_queries_children_for_error_status() {
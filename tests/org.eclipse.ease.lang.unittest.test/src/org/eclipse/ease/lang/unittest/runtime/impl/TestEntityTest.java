@@ -21,6 +21,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.core.runtime.Path;
 import org.eclipse.ease.IDebugEngine;
 import org.eclipse.ease.debugging.ScriptStackTrace;
@@ -140,6 +144,34 @@ public class TestEntityTest {
 		assertFalse(entity.hasError());
 	}
 
+	@Test
+	@DisplayName("hasError() = true when error got added by parallel threads")
+	public void hasError_is_true_when_error_got_added_by_parallel_threads() throws InterruptedException {
+		final ITestEntity entity = getTestInstance();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int index = 0; index < 200; index++) {
+			final TestStatus status = (index == 100) ? TestStatus.ERROR : TestStatus.PASS;
+			executor.execute(() -> {
+				final ITestResult result = IRuntimeFactory.eINSTANCE.createTestResult();
+				result.setStatus(status);
+
+				synchronized (entity) {
+					entity.getResults().add(result);
+				}
+
+				entity.hasError();
+			});
+		}
+
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(200, entity.getResults().size());
+		assertTrue(entity.hasError());
+		assertEquals(TestStatus.ERROR, entity.getStatus());
+	}
+
 	@Test
 	@DisplayName("getStatus() = status of worst result")
 	public void getStatus_is_status_of_worst_result() {
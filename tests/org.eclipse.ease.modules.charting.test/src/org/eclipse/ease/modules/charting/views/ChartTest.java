@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.modules.charting.views;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.nebula.visualization.xygraph.figures.Trace;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ChartTest {
+
+	private Shell fShell;
+	private Chart fChart;
+
+	@BeforeEach
+	public void beforeEach() {
+		fShell = new Shell(Display.getDefault());
+		fChart = new Chart(fShell, SWT.NONE);
+	}
+
+	@AfterEach
+	public void afterEach() {
+		fShell.dispose();
+	}
+
+	@Test
+	@DisplayName("plot(x, y) appends samples")
+	public void plot_point_appends_samples() {
+		fChart.plot(1, 2);
+		fChart.flush();
+		final Trace trace = fChart.plot(3, 4);
+		fChart.flush();
+
+		assertEquals(2, trace.getDataProvider().getSize());
+		assertEquals(3, trace.getDataProvider().getSample(1).getXValue());
+		assertEquals(4, trace.getDataProvider().getSample(1).getYValue());
+	}
+
+	@Test
+	@DisplayName("plot(double[], double[]) replaces displayed samples")
+	public void plot_arrays_replaces_samples() {
+		fChart.plot(new double[] { 1, 2, 3 }, new double[] { 1, 4, 9 });
+		fChart.flush();
+		final Trace trace = fChart.plot(new double[] { 5, 6 }, new double[] { 25, 36 });
+		fChart.flush();
+
+		assertEquals(2, trace.getDataProvider().getSize());
+		assertEquals(5, trace.getDataProvider().getSample(0).getXValue());
+		assertEquals(36, trace.getDataProvider().getSample(1).getYValue());
+	}
+
+	@Test
+	@DisplayName("plot(double[], double[]) replaces pending samples")
+	public void plot_arrays_replaces_pending_samples() {
+		fChart.plot(7, 49);
+		final Trace trace = fChart.plot(new double[] { 5, 6 }, new double[] { 25, 36 });
+		fChart.flush();
+
+		assertEquals(2, trace.getDataProvider().getSize());
+		assertEquals(5, trace.getDataProvider().getSample(0).getXValue());
+	}
+
+	@Test
+	@DisplayName("plot(x, y) appends to samples set by plot(double[], double[])")
+	public void plot_point_appends_to_array_samples() {
+		fChart.plot(new double[] { 1, 2 }, new double[] { 1, 4 });
+		final Trace trace = fChart.plot(3, 9);
+		fChart.flush();
+
+		assertEquals(3, trace.getDataProvider().getSize());
+		assertEquals(3, trace.getDataProvider().getSample(2).getXValue());
+	}
+}
@@ -16,13 +16,21 @@ package org.eclipse.ease;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.util.Collection;
 
 import org.eclipse.ease.ICodeFactory.Parameter;
+import org.eclipse.ease.modules.IEnvironment;
+import org.eclipse.ease.modules.ModuleHelper;
 import org.eclipse.ease.modules.WrapToScript;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -459,6 +467,46 @@ public class AbstractCodeFactoryTest {
 		assertEquals("\"abc\"", fFactory.getDefaultValue(parameter));
 	}
 
+	@Test
+	@DisplayName("getWrapperCode() reuses generated code")
+	public void getWrapperCode_reuses_generated_code() {
+		final String code = fFactory.getWrapperCode(mock(IEnvironment.class), this, "identifier", false, null);
+		final long hits = AbstractCodeFactory.getWrapperCache().getHits();
+
+		final IEnvironment environment = mock(IEnvironment.class);
+		assertEquals(code, fFactory.getWrapperCode(environment, this, "identifier", false, null));
+
+		assertEquals(hits + 1, AbstractCodeFactory.getWrapperCache().getHits());
+		verify(fFactory, atMost(1)).createWrapper(any(), any(), any(), anyBoolean(), any());
+		verify(environment, times(ModuleHelper.getMethods(getClass()).size())).registerMethod(any());
+	}
+
+	@Test
+	@DisplayName("getWrapperCode() does not register unsupported methods from cache")
+	public void getWrapperCode_does_not_register_unsupported_methods_from_cache() throws NoSuchMethodException {
+		final LanguageSpecificModule module = new LanguageSpecificModule();
+		fFactory.getWrapperCode(mock(IEnvironment.class), module, "identifier", false, null);
+
+		final IEnvironment environment = mock(IEnvironment.class);
+		fFactory.getWrapperCode(environment, module, "identifier", false, null);
+
+		verify(environment).registerMethod(LanguageSpecificModule.class.getMethod("supported"));
+		verify(environment, never()).registerMethod(LanguageSpecificModule.class.getMethod("unsupported"));
+	}
+
+	public static class LanguageSpecificModule {
+
+		@WrapToScript
+		public void supported() {
+			// dummy method for language filter tests
+		}
+
+		@WrapToScript(supportedLanguages = "unknownLanguage")
+		public void unsupported() {
+			// dummy method for language filter tests
+		}
+	}
+
 	@WrapToScript
 	public void methodWithoutAliases() {
 		// dummy method for alias tests; do not change the method name!
@@ -34,8 +34,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -503,6 +507,49 @@ public class AbstractScriptEngineTest {
 		assertEquals(84, fTestEngine.getVariables().get("bar"));
 	}
 
+	@Test
+	@DisplayName("getVariables(names) returns requested buffered variables")
+	public void getVariables_names_returns_requested_buffered_variables() {
+		final Map<String, Object> variables = new HashMap<>();
+		variables.put("foo", 42);
+		variables.put("bar", 84);
+		fTestEngine.setVariables(variables);
+
+		final Map<String, Object> result = fTestEngine.getVariables(Arrays.asList("foo", "unknown"));
+		assertEquals(2, result.size());
+		assertEquals(42, result.get("foo"));
+		assertNull(result.get("unknown"));
+	}
+
+	@Test
+	@DisplayName("buffered variables are injected into the engine in a single call")
+	public void buffered_variables_are_injected_into_the_engine_in_a_single_call() throws ExecutionException {
+		final List<Map<String, Object>> injectedVariables = new ArrayList<>();
+
+		final MockedScriptEngine engine = new MockedScriptEngine() {
+			@Override
+			protected void internalSetVariables(Map<String, Object> variables) {
+				injectedVariables.add(new HashMap<>(variables));
+				super.internalSetVariables(variables);
+			}
+
+			@Override
+			protected Object execute(Script script, String fileName, boolean uiThread) throws Throwable {
+				return getVariables(Arrays.asList("foo", "bar"));
+			}
+		};
+
+		engine.setVariable("foo", 42);
+		engine.setVariable("bar", 84);
+		final ScriptResult result = engine.execute("code");
+		engine.schedule();
+
+		assertEquals(42, ((Map<?, ?>) result.get()).get("foo"));
+		assertEquals(84, ((Map<?, ?>) result.get()).get("bar"));
+		assertEquals(1, injectedVariables.size());
+		assertEquals(2, injectedVariables.get(0).size());
+	}
+
 	@Test
 	@DisplayName("buffered variables are injected into the eninge")
 	public void buffered_variables_are_injected_into_the_engine() throws ExecutionException {
@@ -695,6 +742,57 @@ public class AbstractScriptEngineTest {
 		assertEquals("foo", result.get(10, TimeUnit.SECONDS));
 	}
 
+	@Test
+	@DisplayName("execute() does not block while a script is running")
+	public void execute_does_not_block_while_a_script_is_running() throws ExecutionException, InterruptedException, TimeoutException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final MockedScriptEngine engine = new MockedScriptEngine() {
+			@Override
+			protected Object execute(Script script, String fileName, boolean uiThread) throws Throwable {
+				if ("blocking".equals(script.getCommand())) {
+					started.countDown();
+					release.await(10, TimeUnit.SECONDS);
+				}
+
+				return super.execute(script, fileName, uiThread);
+			}
+		};
+
+		final ScriptResult blockingResult = engine.execute("blocking");
+		engine.schedule();
+
+		// wait for engine to pick up the blocking script
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+
+		final long start = System.currentTimeMillis();
+		final ScriptResult result = engine.execute("second");
+		assertTrue((System.currentTimeMillis() - start) < 1000);
+		assertFalse(result.isDone());
+
+		release.countDown();
+
+		assertEquals("blocking", blockingResult.get(10, TimeUnit.SECONDS));
+		assertEquals("second", result.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("getStatistics() tracks submitted and executed scripts")
+	public void getStatistics_tracks_submitted_and_executed_scripts() throws InterruptedException {
+		fTestEngine.execute("1");
+		fTestEngine.execute("2");
+
+		assertEquals(2, fTestEngine.getStatistics().getQueueDepth());
+		assertEquals(2, fTestEngine.getStatistics().getSubmittedScripts());
+
+		fTestEngine.schedule();
+		fTestEngine.joinEngine();
+
+		assertEquals(0, fTestEngine.getStatistics().getQueueDepth());
+		assertEquals(2, fTestEngine.getStatistics().getMaxQueueDepth());
+		assertEquals(2, fTestEngine.getStatistics().getExecutedScripts());
+	}
+
 	public static class MockedScriptEngine extends AbstractScriptEngine {
 
 		private final Map<String, Object> fBufferedVariables = new HashMap<>();
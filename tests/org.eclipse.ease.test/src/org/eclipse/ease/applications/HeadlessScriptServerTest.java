@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.applications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ease.service.EngineDescription;
+import org.eclipse.ease.service.EnginePool;
+import org.eclipse.ease.service.ScriptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+
+public class HeadlessScriptServerTest {
+
+	private static File getFile(String location) throws URISyntaxException, IOException {
+		final Bundle bundle = Platform.getBundle("org.eclipse.ease.test");
+		final URL fileURL = bundle.getEntry(location);
+		return new File(FileLocator.resolve(fileURL).toURI());
+	}
+
+	private File fConnectionFile;
+	private HeadlessScriptServer fServer;
+
+	@BeforeEach
+	public void beforeEach() throws IOException {
+		fConnectionFile = File.createTempFile("daemon", ".connection");
+		fServer = new HeadlessScriptServer(fConnectionFile);
+
+		final Thread thread = new Thread(fServer::run);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@AfterEach
+	public void afterEach() throws IOException {
+		fServer.close();
+
+		// the server uses the global engine pool, terminate idle engines so they do not leak into other tests
+		final EnginePool enginePool = ScriptService.getInstance().getEnginePool();
+		for (final EngineDescription description : ScriptService.getInstance().getEngines()) {
+			final int poolSize = enginePool.getPoolSize(description.getID());
+			enginePool.setPoolSize(description.getID(), 0);
+			enginePool.setPoolSize(description.getID(), poolSize);
+		}
+	}
+
+	@Test
+	@DisplayName("execute() streams script output")
+	public void execute_streams_script_output() throws Exception {
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final String location = getFile("resources/helloWorld.js").getAbsolutePath();
+
+		assertEquals(0, HeadlessScriptClient.execute(fConnectionFile, location, null, new String[] { location }, output, new ByteArrayOutputStream()));
+		assertTrue(new String(output.toByteArray(), StandardCharsets.UTF_8).contains("Hello World"));
+	}
+
+	@Test
+	@DisplayName("execute() returns script result as exit code")
+	public void execute_returns_script_result() throws Exception {
+		final String location = getFile("resources/scriptArguments.js").getAbsolutePath();
+
+		for (int run = 0; run < 3; run++)
+			assertEquals(4, HeadlessScriptClient.execute(fConnectionFile, location, null, new String[] { location, "1", "2", "3" },
+					new ByteArrayOutputStream(), new ByteArrayOutputStream()));
+	}
+
+	@Test
+	@DisplayName("execute() == -1 when script throws")
+	public void execute_error_when_script_throws() throws Exception {
+		final String location = getFile("resources/throwsException.js").getAbsolutePath();
+
+		assertEquals(-1, HeadlessScriptClient.execute(fConnectionFile, location, null, new String[] { location }, new ByteArrayOutputStream(),
+				new ByteArrayOutputStream()));
+	}
+
+	@Test
+	@DisplayName("execute() fails for invalid token")
+	public void execute_fails_for_invalid_token() throws Exception {
+		final File invalidConnection = File.createTempFile("daemon", ".connection");
+		try {
+			Files.write(invalidConnection.toPath(), (fServer.getPort() + "\ninvalid\n").getBytes(StandardCharsets.UTF_8));
+
+			final String location = getFile("resources/helloWorld.js").getAbsolutePath();
+			assertThrows(IOException.class, () -> HeadlessScriptClient.execute(invalidConnection, location, null, new String[] { location },
+					new ByteArrayOutputStream(), new ByteArrayOutputStream()));
+
+		} finally {
+			invalidConnection.delete();
+		}
+	}
+
+	@Test
+	@DisplayName("server drops request with too many arguments")
+	public void server_drops_request_with_too_many_arguments() throws Exception {
+		final List<String> connection = Files.readAllLines(fConnectionFile.toPath(), StandardCharsets.UTF_8);
+
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), fServer.getPort())) {
+			final DataOutputStream request = new DataOutputStream(socket.getOutputStream());
+			request.writeInt(HeadlessScriptClient.PROTOCOL_VERSION);
+			request.writeUTF(connection.get(1).trim());
+			request.writeUTF(getFile("resources/helloWorld.js").getAbsolutePath());
+			request.writeUTF("");
+			request.writeInt(Integer.MAX_VALUE);
+			request.flush();
+
+			assertEquals(-1, socket.getInputStream().read());
+		}
+	}
+
+	@Test
+	@DisplayName("close() removes connection file")
+	public void close_removes_connection_file() throws IOException {
+		fServer.close();
+		assertFalse(fConnectionFile.exists());
+	}
+}
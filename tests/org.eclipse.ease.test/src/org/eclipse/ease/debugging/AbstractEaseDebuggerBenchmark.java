@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.debugging;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ease.IDebugEngine;
+import org.eclipse.ease.Script;
+import org.eclipse.ease.debugging.events.debugger.IDebuggerEvent;
+import org.eclipse.ease.debugging.events.model.BreakpointRequest;
+import org.eclipse.ease.debugging.events.model.BreakpointRequest.Mode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Measures processed lines per second of the debugger. Excluded from the default test run, execute with
+ * <code>-Dtests.excludedGroups= -Dgroups=benchmark</code>.
+ */
+@Tag("benchmark")
+public class AbstractEaseDebuggerBenchmark {
+
+	private static final int LINES = 10_000_000;
+
+	private AbstractEaseDebugger fDebugger;
+
+	private Script fScript;
+
+	@BeforeEach
+	public void beforeEach() {
+		final IDebugEngine engine = mock(IDebugEngine.class);
+		when(engine.getThread()).thenReturn(Thread.currentThread());
+
+		fDebugger = new AbstractEaseDebugger(engine, true) {
+			@Override
+			protected void suspend(IDebuggerEvent event) {
+				// nothing to do
+			}
+		};
+
+		fScript = new Script("test", "");
+
+		final ScriptStackTrace stacktrace = new ScriptStackTrace();
+		stacktrace.add(mock(IScriptDebugFrame.class));
+		fDebugger.setStacktrace(stacktrace);
+	}
+
+	@Test
+	@DisplayName("processLine() without breakpoint hits")
+	public void processLine_without_breakpoint_hits(TestReporter reporter) throws CoreException {
+		fDebugger.handleEvent(new BreakpointRequest(fScript, AbstractEaseDebuggerTest.createBreakpoint(LINES + 1), Mode.ADD));
+
+		// warm up
+		measure();
+
+		reporter.publishEntry("lines per second", Long.toString(measure()));
+	}
+
+	private long measure() {
+		final long start = System.nanoTime();
+		for (int line = 1; line <= LINES; line++)
+			fDebugger.processLine(fScript, line, true);
+
+		return (LINES * TimeUnit.SECONDS.toNanos(1)) / Math.max(1, System.nanoTime() - start);
+	}
+}
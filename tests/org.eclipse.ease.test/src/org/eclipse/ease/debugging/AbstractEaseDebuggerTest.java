@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.debugging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.ease.IDebugEngine;
+import org.eclipse.ease.Script;
+import org.eclipse.ease.debugging.events.debugger.IDebuggerEvent;
+import org.eclipse.ease.debugging.events.model.BreakpointRequest;
+import org.eclipse.ease.debugging.events.model.BreakpointRequest.Mode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AbstractEaseDebuggerTest {
+
+	private final List<IDebuggerEvent> fSuspendEvents = new ArrayList<>();
+
+	private AbstractEaseDebugger fDebugger;
+
+	private Script fScript;
+
+	@BeforeEach
+	public void beforeEach() {
+		final IDebugEngine engine = mock(IDebugEngine.class);
+		when(engine.getThread()).thenReturn(Thread.currentThread());
+
+		fDebugger = new AbstractEaseDebugger(engine, true) {
+			@Override
+			protected void suspend(IDebuggerEvent event) {
+				fSuspendEvents.add(event);
+			}
+		};
+
+		fScript = new Script("test", "");
+
+		final ScriptStackTrace stacktrace = new ScriptStackTrace();
+		stacktrace.add(mock(IScriptDebugFrame.class));
+		fDebugger.setStacktrace(stacktrace);
+	}
+
+	@Test
+	@DisplayName("processLine() suspends on breakpoint")
+	public void processLine_suspends_on_breakpoint() throws CoreException {
+		fDebugger.handleEvent(new BreakpointRequest(fScript, createBreakpoint(5), Mode.ADD));
+
+		fDebugger.processLine(fScript, 4, true);
+		assertTrue(fSuspendEvents.isEmpty());
+
+		fDebugger.processLine(fScript, 5, true);
+		assertEquals(1, fSuspendEvents.size());
+	}
+
+	@Test
+	@DisplayName("processLine() ignores removed breakpoint")
+	public void processLine_ignores_removed_breakpoint() throws CoreException {
+		final IBreakpoint breakpoint = createBreakpoint(5);
+		fDebugger.handleEvent(new BreakpointRequest(fScript, breakpoint, Mode.ADD));
+		fDebugger.handleEvent(new BreakpointRequest(fScript, breakpoint, Mode.REMOVE));
+
+		fDebugger.processLine(fScript, 5, true);
+		assertTrue(fSuspendEvents.isEmpty());
+	}
+
+	@Test
+	@DisplayName("processLine() ignores disabled breakpoint")
+	public void processLine_ignores_disabled_breakpoint() throws CoreException {
+		final IBreakpoint breakpoint = createBreakpoint(5);
+		when(breakpoint.isEnabled()).thenReturn(false);
+		fDebugger.handleEvent(new BreakpointRequest(fScript, breakpoint, Mode.ADD));
+
+		fDebugger.processLine(fScript, 5, true);
+		assertTrue(fSuspendEvents.isEmpty());
+	}
+
+	@Test
+	@DisplayName("processLine() suspends on moved breakpoint")
+	public void processLine_suspends_on_moved_breakpoint() throws CoreException {
+		final IBreakpoint breakpoint = createBreakpoint(5);
+		fDebugger.handleEvent(new BreakpointRequest(fScript, breakpoint, Mode.ADD));
+
+		when(breakpoint.getMarker().getAttribute(IMarker.LINE_NUMBER, -1)).thenReturn(7);
+		fDebugger.invalidateBreakpointLines();
+
+		fDebugger.processLine(fScript, 5, true);
+		assertTrue(fSuspendEvents.isEmpty());
+
+		fDebugger.processLine(fScript, 7, true);
+		assertEquals(1, fSuspendEvents.size());
+	}
+
+	static IBreakpoint createBreakpoint(int lineNumber) throws CoreException {
+		final IMarker marker = mock(IMarker.class);
+		when(marker.getAttribute(IMarker.LINE_NUMBER, -1)).thenReturn(lineNumber);
+
+		final IBreakpoint breakpoint = mock(IBreakpoint.class);
+		when(breakpoint.getMarker()).thenReturn(marker);
+		when(breakpoint.isEnabled()).thenReturn(true);
+
+		return breakpoint;
+	}
+}
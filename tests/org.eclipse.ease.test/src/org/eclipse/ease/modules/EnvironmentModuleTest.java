@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,15 +37,18 @@ import java.io.PrintStream;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.ease.ExitException;
 import org.eclipse.ease.ICodeFactory;
 import org.eclipse.ease.IScriptEngine;
 import org.eclipse.ease.Script;
+import org.eclipse.ease.ScriptEngineCancellationException;
 import org.eclipse.ease.service.EngineDescription;
 import org.eclipse.ease.service.ScriptType;
 import org.junit.jupiter.api.BeforeEach;
@@ -402,6 +406,112 @@ public class EnvironmentModuleTest {
 		assertFalse(fModule.hasMethodCallback("unknown"));
 	}
 
+	@Test
+	@DisplayName("hasMethodCallback() caches provider results")
+	public void hasMethodCallback_caches_provider_results() throws NoSuchMethodException, SecurityException {
+		final IModuleCallbackProvider callbackProvider = mock(IModuleCallbackProvider.class);
+		when(callbackProvider.hasPreExecutionCallback(any())).thenReturn(true);
+
+		final Method method = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		final String methodToken = fModule.registerMethod(method);
+		fModule.addModuleCallback(callbackProvider);
+
+		assertTrue(fModule.hasMethodCallback(methodToken));
+		assertTrue(fModule.hasMethodCallback(methodToken));
+
+		verify(callbackProvider, times(1)).hasPreExecutionCallback(method);
+	}
+
+	@Test
+	@DisplayName("registerMethod() does not access script variables")
+	public void registerMethod_does_not_access_script_variables() throws NoSuchMethodException, SecurityException {
+		final Method method = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		fModule.registerMethod(method);
+
+		verify(fEngine, never()).setVariable(any(), any());
+		verify(fEngine, never()).setVariables(any());
+	}
+
+	@Test
+	@DisplayName("addModuleCallback() enables script callback flag of affected methods only")
+	public void addModuleCallback_enables_script_callback_flag_of_affected_methods_only() throws NoSuchMethodException, SecurityException {
+		final Method printMethod = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		final Method printErrorMethod = EnvironmentModule.class.getMethod("printError", Object.class, boolean.class);
+		final String printToken = fModule.registerMethod(printMethod);
+		fModule.registerMethod(printErrorMethod);
+
+		final IModuleCallbackProvider callbackProvider = mock(IModuleCallbackProvider.class);
+		when(callbackProvider.hasPreExecutionCallback(printMethod)).thenReturn(true);
+		fModule.addModuleCallback(callbackProvider);
+
+		verify(fEngine).setVariables(Collections.singletonMap(EnvironmentModule.getCallbackFlagVariableName(fModule, printToken), true));
+	}
+
+	@Test
+	@DisplayName("removeModuleCallback() disables script callback flag")
+	public void removeModuleCallback_disables_script_callback_flag() throws NoSuchMethodException, SecurityException {
+		final Method method = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		final String methodToken = fModule.registerMethod(method);
+
+		final IModuleCallbackProvider callbackProvider = mock(IModuleCallbackProvider.class);
+		when(callbackProvider.hasPostExecutionCallback(method)).thenReturn(true);
+		fModule.addModuleCallback(callbackProvider);
+		fModule.removeModuleCallback(callbackProvider);
+
+		assertFalse(fModule.hasMethodCallback(methodToken));
+		verify(fEngine).setVariables(Collections.singletonMap(EnvironmentModule.getCallbackFlagVariableName(fModule, methodToken), false));
+	}
+
+	@Test
+	@DisplayName("wrap() enables script callback flags after injecting wrapper code")
+	public void wrap_enables_script_callback_flags_after_injecting_wrapper_code() throws NoSuchMethodException, SecurityException, ExecutionException {
+		mockDummyFactory();
+
+		final Method lengthMethod = String.class.getMethod("length");
+		final Method isEmptyMethod = String.class.getMethod("isEmpty");
+		final String lengthToken = fModule.registerMethod(lengthMethod);
+		fModule.registerMethod(isEmptyMethod);
+
+		final IModuleCallbackProvider callbackProvider = mock(IModuleCallbackProvider.class);
+		when(callbackProvider.hasPreExecutionCallback(lengthMethod)).thenReturn(true);
+		fModule.addModuleCallback(callbackProvider);
+
+		fModule.wrap("", false);
+
+		// once when adding the callback provider, once after injecting the wrapper code
+		verify(fEngine, times(2)).setVariables(Collections.singletonMap(EnvironmentModule.getCallbackFlagVariableName(fModule, lengthToken), true));
+	}
+
+	@Test
+	@DisplayName("refreshModuleCallbacks() re-evaluates callback providers")
+	public void refreshModuleCallbacks_re_evaluates_callback_providers() throws NoSuchMethodException, SecurityException {
+		final Method method = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		final String methodToken = fModule.registerMethod(method);
+
+		final IModuleCallbackProvider callbackProvider = mock(IModuleCallbackProvider.class);
+		fModule.addModuleCallback(callbackProvider);
+		assertFalse(fModule.hasMethodCallback(methodToken));
+
+		when(callbackProvider.hasPreExecutionCallback(method)).thenReturn(true);
+		fModule.refreshModuleCallbacks();
+
+		assertTrue(fModule.hasMethodCallback(methodToken));
+		verify(fEngine).setVariables(Collections.singletonMap(EnvironmentModule.getCallbackFlagVariableName(fModule, methodToken), true));
+	}
+
+	@Test
+	@DisplayName("hasMethodCallback() throws when script got cancelled")
+	public void hasMethodCallback_throws_when_script_got_cancelled() throws NoSuchMethodException, SecurityException {
+		final IProgressMonitor monitor = mock(IProgressMonitor.class);
+		when(monitor.isCanceled()).thenReturn(true);
+		when(fEngine.getMonitor()).thenReturn(monitor);
+
+		final Method method = EnvironmentModule.class.getMethod("print", Object.class, boolean.class);
+		final String methodToken = fModule.registerMethod(method);
+
+		assertThrows(ScriptEngineCancellationException.class, () -> fModule.hasMethodCallback(methodToken));
+	}
+
 	@Test
 	@DisplayName("preMethodCallback() calls callbackProvider")
 	public void preMethodCallback_calls_callbackProvider() throws NoSuchMethodException, SecurityException {
@@ -443,6 +553,7 @@ public class EnvironmentModuleTest {
 		final ICodeFactory codeFactory = mock(ICodeFactory.class);
 		when(codeFactory.getSaveVariableName(any())).thenReturn("saveName");
 		when(codeFactory.createWrapper(any(), any(), any(), anyBoolean(), any())).thenReturn("wrappedCode");
+		when(codeFactory.getWrapperCode(any(), any(), any(), anyBoolean(), any())).thenCallRealMethod();
 
 		final ScriptType scriptType = mock(ScriptType.class);
 		when(scriptType.getCodeFactory()).thenReturn(codeFactory);
@@ -13,16 +13,41 @@
 
 package org.eclipse.ease.sign;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 
+import org.eclipse.ease.ICodeParser;
 import org.eclipse.ease.service.ScriptType;
 import org.junit.jupiter.api.Test;
 
 public class VerifySignatureTest {
 
+	private static final String CONTENT = "print('Hello World');";
+
+	private static final String PROVIDER = "SunRsaSign";
+
+	private static final String SIGNATURE = "Uw6MvAUlRexHyncOxSk7IpUix0f2gTy1NVSvEkqVeK+R80CoWz9DhgMltNVuyTFwbk+nlM66fsbyYhA3SO4tr/omcwfRdcVmICP8xnMsLnE32/nilzvuYCKHxfaDVre1cGMRJvoyzGcwCXXFrzGEDphFaKtL0K+N80zvtcAYwnU=";
+
+	private static final String CERTIFICATE = "MIIByTCCATKgAwIBAgIJAPqV1/X/kOpnMA0GCSqGSIb3DQEBCwUAMBQxEjAQBgNVBAMTCUVBU0UgVGVzdDAgFw0yNjEwMTgwODI3MDlaGA8yMTI2MDkyNDA4MjcwOVowFDESMBAGA1UEAxMJRUFTRSBUZXN0MIGfMA0GCSqGSIb3DQEBAQUAA4GNADCBiQKBgQCm9vADhwHW4UuFea+Z1/6NY12sWODr4G7CBFiGJ1Q6tiwHJza1KlLDI8+q4UEYYlXwM51ufeEsqnAyfjmBsnHMg4NDcuo90frghngLZmRpz1Dv8G7OOGMTFwPKmPdnFz9rZ3EgPzB0JDv/qAWnqvuCHhxJZk+iyI+q/bkV1MayawIDAQABoyEwHzAdBgNVHQ4EFgQUcVm3/btCKl55aJiP9OabCGNokcswDQYJKoZIhvcNAQELBQADgYEAUmQQH0VkIu4UU07T1jVM+P3iEndmWDjRjNeW+7ex1DxBMK5PwfBrXK/qZKQ2Oucsnouip+Sv7YllZkj1OWVrxflg2NERJxlkCELRiUxaB3OOewwTzlJTnOYOGcuOInru/oUa7kGoSLfkgBTpi8XteY6j6RHErixbN3szXrH3YCc=";
+
+	private static VerifySignature createVerifier(String content) throws ScriptSignatureException {
+		final ICodeParser codeParser = mock(ICodeParser.class);
+		when(codeParser.getSignatureInfo(any())).thenReturn(new SignatureInfo(SIGNATURE, PROVIDER, "SHA256", new String[] { CERTIFICATE }, content));
+
+		final ScriptType scriptType = mock(ScriptType.class);
+		when(scriptType.getCodeParser()).thenReturn(codeParser);
+
+		return VerifySignature.getInstance(scriptType, new ByteArrayInputStream(new byte[0]));
+	}
+
 	@Test
 	public void testWithNonCodeParserScriptType() throws ScriptSignatureException {
 		final ScriptType scriptType = mock(ScriptType.class);
@@ -30,4 +55,48 @@ public class VerifySignatureTest {
 		assertNull(verifySignature);
 	}
 
+	@Test
+	public void verifyValidSignature() throws ScriptSignatureException {
+		assertTrue(createVerifier(CONTENT).verify());
+	}
+
+	@Test
+	public void verifyModifiedContent() throws ScriptSignatureException {
+		assertFalse(createVerifier(CONTENT + " ").verify());
+	}
+
+	@Test
+	public void verifySelfSignedCertificate() throws ScriptSignatureException {
+		assertTrue(createVerifier(CONTENT).isSelfSignedCertificate());
+	}
+
+	@Test
+	public void verifyResultIsCached() throws ScriptSignatureException {
+		createVerifier(CONTENT).verify();
+
+		final long hits = VerifySignature.getVerificationCache().getHits();
+		assertTrue(createVerifier(CONTENT).verify());
+		assertEquals(hits + 1, VerifySignature.getVerificationCache().getHits());
+	}
+
+	@Test
+	public void verifySeparateSignatureStream() throws ScriptSignatureException {
+		final ICodeParser codeParser = mock(ICodeParser.class);
+		when(codeParser.getSignatureInfo(any())).thenReturn(new SignatureInfo(SIGNATURE, PROVIDER, "SHA256", new String[] { CERTIFICATE }));
+
+		final ScriptType scriptType = mock(ScriptType.class);
+		when(scriptType.getCodeParser()).thenReturn(codeParser);
+
+		final VerifySignature verifySignature = VerifySignature.getInstance(scriptType, new ByteArrayInputStream(CONTENT.getBytes()),
+				new ByteArrayInputStream(new byte[0]));
+		assertTrue(verifySignature.verify());
+	}
+
+	@Test
+	public void fingerprintIncludesChunkBoundaries() {
+		final String fingerprint = VerifySignature.getFingerprint(new byte[] { 1, 2 }, new byte[] { 3 });
+
+		assertEquals(fingerprint, VerifySignature.getFingerprint(new byte[] { 1, 2 }, new byte[] { 3 }));
+		assertNotEquals(fingerprint, VerifySignature.getFingerprint(new byte[] { 1 }, new byte[] { 2, 3 }));
+	}
 }
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LRUCacheTest {
+
+	@Test
+	@DisplayName("get() returns stored value")
+	public void get_returns_stored_value() {
+		final LRUCache<String, String> cache = new LRUCache<>(2);
+		cache.put("key", "value");
+
+		assertEquals("value", cache.get("key"));
+		assertEquals(1, cache.getHits());
+		assertEquals(0, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("get() counts misses")
+	public void get_counts_misses() {
+		final LRUCache<String, String> cache = new LRUCache<>(2);
+
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	@DisplayName("put() evicts least recently used entry")
+	public void put_evicts_least_recently_used_entry() {
+		final List<String> evicted = new ArrayList<>();
+		final LRUCache<String, String> cache = new LRUCache<>(2, evicted::add);
+
+		cache.put("first", "1");
+		cache.put("second", "2");
+		cache.get("first");
+		cache.put("third", "3");
+
+		assertEquals(2, cache.size());
+		assertEquals("1", cache.get("first"));
+		assertNull(cache.get("second"));
+		assertEquals(List.of("2"), evicted);
+		assertEquals(1, cache.getEvictions());
+	}
+
+	@Test
+	@DisplayName("setMaximumSize() trims cache")
+	public void setMaximumSize_trims_cache() {
+		final LRUCache<String, String> cache = new LRUCache<>(3);
+		cache.put("first", "1");
+		cache.put("second", "2");
+		cache.put("third", "3");
+
+		cache.setMaximumSize(1);
+
+		assertEquals(1, cache.size());
+		assertEquals("3", cache.get("third"));
+	}
+
+	@Test
+	@DisplayName("ScriptCacheKey differs for changed content")
+	public void scriptCacheKey_differs_for_changed_content() {
+		assertEquals(ScriptCacheKey.of("code", "location", 1), ScriptCacheKey.of("code", "location", 1));
+		assertNotEquals(ScriptCacheKey.of("code", "location", 1), ScriptCacheKey.of("other code", "location", 1));
+		assertNotEquals(ScriptCacheKey.of("code", "location", 1), ScriptCacheKey.of("code", "location", 2));
+		assertNotEquals(ScriptCacheKey.of("code", "location", 1, 9), ScriptCacheKey.of("code", "location", 1, -1));
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christian Pontesegger and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License_Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christian Pontesegger - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ease.ui.completions.java.provider;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JavaClassIndexTest {
+
+	private static final long STATE_KEY = 42;
+
+	private JavaClassIndex fIndex;
+
+	@BeforeEach
+	public void beforeEach() {
+		final Map<String, Collection<String>> packagesAndClasses = new TreeMap<>();
+		packagesAndClasses.put("java", Arrays.asList());
+		packagesAndClasses.put("java.io", Arrays.asList("File", "FileReader", "InputStream"));
+		packagesAndClasses.put("java.util", Arrays.asList("List", "Map", "Map.Entry"));
+		packagesAndClasses.put("java.util.function", Arrays.asList("Function"));
+
+		fIndex = JavaClassIndex.create(packagesAndClasses, STATE_KEY);
+	}
+
+	@Test
+	@DisplayName("getPackages() finds packages by prefix")
+	public void getPackages_finds_packages_by_prefix() {
+		assertEquals(Arrays.asList("java.util", "java.util.function"), fIndex.getPackages("java.u"));
+		assertEquals(4, fIndex.getPackages("").size());
+		assertTrue(fIndex.getPackages("javax").isEmpty());
+	}
+
+	@Test
+	@DisplayName("getClasses() finds classes by prefix")
+	public void getClasses_finds_classes_by_prefix() {
+		assertEquals(Arrays.asList("File", "FileReader"), fIndex.getClasses("java.io", "Fi"));
+		assertEquals(Arrays.asList("Map.Entry"), fIndex.getClasses("java.util", "Map."));
+		assertEquals(3, fIndex.getClasses("java.io", "").size());
+		assertTrue(fIndex.getClasses("java", "").isEmpty());
+	}
+
+	@Test
+	@DisplayName("findClasses() finds classes in all packages")
+	public void findClasses_finds_classes_in_all_packages() {
+		final List<String[]> classes = fIndex.findClasses("F");
+
+		assertEquals(3, classes.size());
+		assertArrayEquals(new String[] { "java.io", "File" }, classes.get(0));
+		assertArrayEquals(new String[] { "java.io", "FileReader" }, classes.get(1));
+		assertArrayEquals(new String[] { "java.util.function", "Function" }, classes.get(2));
+	}
+
+	@Test
+	@DisplayName("persisted index can be loaded")
+	public void persisted_index_can_be_loaded() throws IOException {
+		final File file = File.createTempFile("index", ".idx");
+		try {
+			fIndex.write(file);
+
+			final JavaClassIndex index = JavaClassIndex.load(file, STATE_KEY);
+			assertNotNull(index);
+			assertEquals(fIndex.getPackages(""), index.getPackages(""));
+			assertEquals(Arrays.asList("File", "FileReader"), index.getClasses("java.io", "Fi"));
+
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	@DisplayName("persisted index is ignored for different state")
+	public void persisted_index_is_ignored_for_different_state() throws IOException {
+		final File file = File.createTempFile("index", ".idx");
+		try {
+			fIndex.write(file);
+
+			assertNull(JavaClassIndex.load(file, STATE_KEY + 1));
+
+		} finally {
+			file.delete();
+		}
+	}
+}
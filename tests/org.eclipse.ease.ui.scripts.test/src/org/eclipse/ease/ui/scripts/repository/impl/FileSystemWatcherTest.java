@@ -0,0 +1,140 @@
+package org.eclipse.ease.ui.scripts.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ease.ui.scripts.repository.IRepositoryFactory;
+import org.eclipse.ease.ui.scripts.repository.IScriptLocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FileSystemWatcherTest {
+
+	private static final long TIMEOUT = 10;
+
+	private final BlockingQueue<Object> fChangedFiles = new LinkedBlockingQueue<>();
+
+	private final BlockingQueue<IScriptLocation> fUpdatedLocations = new LinkedBlockingQueue<>();
+
+	private File fRoot;
+
+	private IScriptLocation fLocation;
+
+	private FileSystemWatcher fWatcher;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		fRoot = Files.createTempDirectory("repository").toFile().getCanonicalFile();
+
+		fLocation = IRepositoryFactory.eINSTANCE.createScriptLocation();
+		fLocation.setLocation(fRoot.toURI().toString());
+		fLocation.setRecursive(true);
+
+		fWatcher = new FileSystemWatcher(new UpdateRepositoryJob(null) {
+			@Override
+			synchronized void update(IScriptLocation entry, Object file) {
+				fChangedFiles.add(file);
+			}
+
+			@Override
+			synchronized void update(IScriptLocation entry) {
+				fUpdatedLocations.add(entry);
+			}
+		});
+
+		assertTrue(fWatcher.watch(fLocation, fRoot));
+	}
+
+	@AfterEach
+	public void teardown() {
+		fWatcher.dispose();
+	}
+
+	private void awaitChange(File file) throws InterruptedException {
+		Object changedFile;
+		do {
+			changedFile = fChangedFiles.poll(TIMEOUT, TimeUnit.SECONDS);
+		} while ((changedFile != null) && (!file.equals(changedFile)));
+
+		assertEquals(file, changedFile);
+	}
+
+	@Test
+	@DisplayName("Report created file")
+	public void reportCreatedFile() throws Exception {
+		final File file = new File(fRoot, "script.js");
+		Files.write(file.toPath(), "print('Hello');".getBytes());
+
+		awaitChange(file);
+	}
+
+	@Test
+	@DisplayName("Report file in created folder")
+	public void reportFileInCreatedFolder() throws Exception {
+		final File folder = new File(fRoot, "folder");
+		assertTrue(folder.mkdir());
+		awaitChange(folder);
+
+		final File file = new File(folder, "script.js");
+		Files.write(file.toPath(), "print('Hello');".getBytes());
+		awaitChange(file);
+	}
+
+	@Test
+	@DisplayName("Report deleted file")
+	public void reportDeletedFile() throws Exception {
+		final File file = new File(fRoot, "script.js");
+		Files.write(file.toPath(), "print('Hello');".getBytes());
+		awaitChange(file);
+
+		assertTrue(file.delete());
+		awaitChange(file);
+		assertFalse(file.exists());
+	}
+
+	@Test
+	@DisplayName("Do not report changes after unwatch()")
+	public void noChangesAfterUnwatch() throws Exception {
+		fWatcher.unwatch(fLocation);
+
+		Files.write(new File(fRoot, "script.js").toPath(), "print('Hello');".getBytes());
+		assertNull(fChangedFiles.poll(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Rescan and register recreated root folder")
+	public void registerRecreatedRoot() throws Exception {
+		assertTrue(fRoot.delete());
+		assertEquals(fLocation, fUpdatedLocations.poll(TIMEOUT, TimeUnit.SECONDS));
+
+		assertTrue(fRoot.mkdir());
+		fLocation.setUpdatePending(false);
+		assertTrue(fWatcher.watch(fLocation, fRoot));
+		assertTrue(fLocation.isUpdatePending());
+
+		final File file = new File(fRoot, "script.js");
+		Files.write(file.toPath(), "print('Hello');".getBytes());
+		awaitChange(file);
+	}
+
+	@Test
+	@DisplayName("Do not watch after dispose()")
+	public void noWatchAfterDispose() throws Exception {
+		fWatcher.dispose();
+
+		assertFalse(fWatcher.watch(fLocation, fRoot));
+		Files.write(new File(fRoot, "script.js").toPath(), "print('Hello');".getBytes());
+		assertNull(fChangedFiles.poll(1, TimeUnit.SECONDS));
+	}
+}